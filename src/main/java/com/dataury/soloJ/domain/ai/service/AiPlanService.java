@@ -4,6 +4,7 @@ import com.dataury.soloJ.domain.plan.dto.CreatePlanAIDto;
 import com.dataury.soloJ.domain.plan.dto.CreateSpotDto;
 import com.dataury.soloJ.domain.plan.dto.DayPlanDto;
 import com.dataury.soloJ.domain.plan.entity.status.TransportType;
+import com.dataury.soloJ.domain.touristSpot.service.SpotNameResolver;
 import com.dataury.soloJ.domain.touristSpot.service.TourSpotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +27,10 @@ public class AiPlanService {
 
     private final ChatGPTService chatGPTService;
     private final TourSpotService tourSpotService;
+    private final SpotNameResolver spotNameResolver;
+
+    private static final Pattern SPOT_LINE =
+            Pattern.compile("(\\d{2}:\\d{2})\\s*~\\s*(\\d{2}:\\d{2}):\\s*(.+?)\\s*\\((.*?)\\)");
 
     public List<DayPlanDto> generate(CreatePlanAIDto requestDto) {
         String prompt = createPrompt(requestDto);
@@ -71,6 +77,7 @@ public class AiPlanService {
 
     public List<DayPlanDto> parseAiResponse(String response, LocalDate startDate) {
         List<DayPlanDto> days = new ArrayList<>();
+        List<ParsedSpot> parsedSpots = new ArrayList<>();
         String[] lines = response.split("\n");
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -89,7 +96,7 @@ public class AiPlanService {
             }
 
 
-            Matcher m = Pattern.compile("(\\d{2}:\\d{2})\\s*~\\s*(\\d{2}:\\d{2}):\\s*(.+?)\\s*\\((.*?)\\)").matcher(line);
+            Matcher m = SPOT_LINE.matcher(line);
             if (m.find()) {
                 String startTime = m.group(1);
                 String endTime = m.group(2);
@@ -105,20 +112,27 @@ public class AiPlanService {
 
                 LocalDateTime arrivalDate = LocalDateTime.of(currentDate, LocalTime.parse(startTime, timeFormatter));
                 LocalDateTime duringDate = LocalDateTime.of(currentDate, LocalTime.parse(endTime, timeFormatter));
-                Long contentId = tourSpotService.resolveOrRegisterSpotByTitle(title);
-                if (contentId != null && contentId == -1L) {
-                    contentId = null;
-                }
                 if (currentDayIndex >= 0 && currentDayIndex < days.size()) {
-                    CreateSpotDto spot = new CreateSpotDto(arrivalDate, duringDate, contentId, title, memo);
-                    days.get(currentDayIndex).getSpots().add(spot);
-                } else {
-
+                    parsedSpots.add(new ParsedSpot(currentDayIndex, arrivalDate, duringDate, title, memo));
                 }
             }
         }
 
+        // 일정 전체의 장소명을 한 번에 매칭 (중복 제거, 로컬 인덱스 우선, 남은 것만 TourAPI 병렬 조회)
+        Map<String, Long> contentIds = spotNameResolver.resolveAll(
+                parsedSpots.stream().map(ParsedSpot::title).toList());
+
+        for (ParsedSpot parsed : parsedSpots) {
+            Long contentId = contentIds.get(parsed.title());
+            if (contentId != null && contentId == -1L) {
+                contentId = null;
+            }
+            CreateSpotDto spot = new CreateSpotDto(parsed.arrivalDate(), parsed.duringDate(), contentId, parsed.title(), parsed.memo());
+            days.get(parsed.dayIndex()).getSpots().add(spot);
+        }
 
         return days;
     }
+
+    private record ParsedSpot(int dayIndex, LocalDateTime arrivalDate, LocalDateTime duringDate, String title, String memo) {}
 }
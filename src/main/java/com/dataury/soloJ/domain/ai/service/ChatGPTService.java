@@ -17,7 +17,7 @@ public class ChatGPTService {
     @Value("${openai.secret-key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate openAiRestTemplate;
 
     @Value("${openai.model}")
     private String model;
@@ -33,7 +33,7 @@ public class ChatGPTService {
             String requestBody = buildChatRequestBody(prompt);
 
             HttpEntity<String> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(endpoint, request, String.class);
+            ResponseEntity<String> response = openAiRestTemplate.postForEntity(endpoint, request, String.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 ObjectMapper mapper = new ObjectMapper();
@@ -0,0 +1,37 @@
+package com.dataury.soloJ.domain.chat.broker;
+
+import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
+
+/**
+ * 서버 간 전달용 메시지 (Redis 채널 payload)
+ *
+ * @param origin      발행한 서버 ID (자기 메시지는 이미 로컬 전달했으므로 무시)
+ * @param roomId      채팅방 ID
+ * @param publishedAt 발행 시각 (epoch millis, 전달 지연 측정용)
+ * @param payload     구독자에게 보낼 메시지
+ */
+public record ChatBroadcastEnvelope(String origin, Long roomId, long publishedAt, ChatMessageDto.Response payload) {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String CHANNEL_PREFIX = "chat:room:";
+
+    public static String destination(Long roomId) {
+        return TOPIC_PREFIX + roomId;
+    }
+
+    public static String channel(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+
+    // /topic/{roomId} 형태가 아니면 null
+    public static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
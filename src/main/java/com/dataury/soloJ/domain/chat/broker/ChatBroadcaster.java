@@ -0,0 +1,13 @@
+package com.dataury.soloJ.domain.chat.broker;
+
+import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
+
+/**
+ * 채팅방 구독자에게 메시지 전달
+ * - chat.broker.mode=simple : 현재 서버의 구독자에게만 전달 (단일 서버)
+ * - chat.broker.mode=redis  : Redis pub/sub 으로 다른 서버의 구독자에게도 전달 (다중 서버)
+ */
+public interface ChatBroadcaster {
+
+    void broadcast(Long roomId, ChatMessageDto.Response response);
+}
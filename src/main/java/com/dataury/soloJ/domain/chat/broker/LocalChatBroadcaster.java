@@ -0,0 +1,23 @@
+package com.dataury.soloJ.domain.chat.broker;
+
+import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버용 - simple broker 로 바로 전달
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "simple", matchIfMissing = true)
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(Long roomId, ChatMessageDto.Response response) {
+        messagingTemplate.convertAndSend(ChatBroadcastEnvelope.destination(roomId), response);
+    }
+}
@@ -0,0 +1,162 @@
+package com.dataury.soloJ.domain.chat.broker;
+
+import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다중 서버용 - 방별 Redis 채널(chat:room:{id})로 fan-out
+ * - 발행 서버는 로컬 구독자에게 바로 전달하고 채널에도 발행
+ * - 각 서버는 로컬 구독자가 있는 방의 채널만 구독 (첫 구독 시 SUBSCRIBE, 마지막 구독 해제 시 UNSUBSCRIBE)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class RedisChatBroadcaster implements ChatBroadcaster, MessageListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer chatBrokerListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    // 방별 로컬 구독 수, 세션별 (subscriptionId → roomId)
+    private final Object lock = new Object();
+    private final Map<Long, Integer> roomSubscriptions = new HashMap<>();
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+
+    private Timer fanoutLatencyTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        fanoutLatencyTimer = Timer.builder("chat.broker.fanout.latency")
+                .description("다른 서버에서 발행된 메시지가 이 서버 구독자에게 전달되기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("chat.broker.subscribed.rooms", roomSubscriptions, rooms -> {
+                    synchronized (lock) {
+                        return rooms.size();
+                    }
+                })
+                .description("이 서버가 Redis 채널을 구독 중인 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void broadcast(Long roomId, ChatMessageDto.Response response) {
+        messagingTemplate.convertAndSend(ChatBroadcastEnvelope.destination(roomId), response);
+
+        try {
+            redisTemplate.convertAndSend(
+                    ChatBroadcastEnvelope.channel(roomId),
+                    new ChatBroadcastEnvelope(nodeId, roomId, System.currentTimeMillis(), response)
+            );
+        } catch (Exception e) {
+            // 다른 서버 전달 실패가 로컬 전달/저장을 막지 않도록 로그만 남김
+            log.error("채팅 메시지 Redis 발행 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatBroadcastEnvelope envelope = objectMapper.readValue(message.getBody(), ChatBroadcastEnvelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            messagingTemplate.convertAndSend(ChatBroadcastEnvelope.destination(envelope.roomId()), envelope.payload());
+            fanoutLatencyTimer.record(
+                    Math.max(System.currentTimeMillis() - envelope.publishedAt(), 0), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.error("채팅 메시지 Redis 수신 처리 실패 - channel: {}, error: {}",
+                    new String(message.getChannel()), e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Long roomId = ChatBroadcastEnvelope.roomIdOf(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        synchronized (lock) {
+            Long previous = sessionSubscriptions
+                    .computeIfAbsent(accessor.getSessionId(), id -> new HashMap<>())
+                    .put(accessor.getSubscriptionId(), roomId);
+            if (previous != null) {
+                release(previous);
+            }
+            if (roomSubscriptions.merge(roomId, 1, Integer::sum) == 1) {
+                chatBrokerListenerContainer.addMessageListener(this, new ChannelTopic(ChatBroadcastEnvelope.channel(roomId)));
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        synchronized (lock) {
+            Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+            if (subscriptions.isEmpty()) {
+                sessionSubscriptions.remove(accessor.getSessionId());
+            }
+            if (roomId != null) {
+                release(roomId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        synchronized (lock) {
+            Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+            if (subscriptions != null) {
+                subscriptions.values().forEach(this::release);
+            }
+        }
+    }
+
+    // lock 안에서 호출
+    private void release(Long roomId) {
+        Integer remaining = roomSubscriptions.computeIfPresent(roomId, (id, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            chatBrokerListenerContainer.removeMessageListener(this, new ChannelTopic(ChatBroadcastEnvelope.channel(roomId)));
+        }
+    }
+}
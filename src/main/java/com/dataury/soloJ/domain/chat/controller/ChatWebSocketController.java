@@ -4,20 +4,17 @@ import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
 import com.dataury.soloJ.domain.chat.entity.Message;
 import com.dataury.soloJ.domain.chat.entity.status.MessageType;
 import com.dataury.soloJ.domain.chat.service.ChatService;
-import com.dataury.soloJ.domain.user.entity.User;
-import com.dataury.soloJ.domain.user.entity.UserProfile;
-import com.dataury.soloJ.domain.user.repository.UserProfileRepository;
-import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
-import com.dataury.soloJ.global.security.TokenProvider;
+import com.dataury.soloJ.global.security.ChatSender;
+import com.dataury.soloJ.global.security.ChatSenderResolver;
 import com.dataury.soloJ.global.security.UserPenaltyChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
@@ -29,26 +26,21 @@ import java.util.UUID;
 @Slf4j
 public class ChatWebSocketController {
 
-    private final TokenProvider tokenProvider;
-    private final UserRepository userRepository;
-    private final UserProfileRepository userProfileRepository;
+    private final ChatSenderResolver chatSenderResolver;
     private final ChatService chatService;
     private final UserPenaltyChecker userPenaltyChecker;
 
     @MessageMapping("/chat/{roomId}")
     public void sendMessage(@DestinationVariable Long roomId, 
                           @Payload ChatMessageDto.Request messageRequest, 
-                          @Header("Authorization") String token) {
+                          SimpMessageHeaderAccessor headerAccessor) {
         
         try {
-            // 토큰에서 사용자 ID 추출
-            Long senderId = tokenProvider.extractUserIdFromToken(token);
-            User user = userRepository.findById(senderId)
-                    .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
-            
-            UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
+            // 세션에 캐시된 발신자 정보 사용 (없거나 무효화된 경우에만 토큰으로 조회)
+            ChatSender sender = chatSenderResolver.resolve(headerAccessor);
+            Long senderId = sender.userId();
 
-            userPenaltyChecker.checkMessagePermission(senderId);
+            userPenaltyChecker.checkMessagePermission(sender.penaltyStatus());
             
             // 메시지 ID 및 전송 시간 생성
             String messageId = UUID.randomUUID().toString();
@@ -66,16 +58,16 @@ public class ChatWebSocketController {
                             .type(MessageType.TALK)
                             .roomId(roomId)
                             .senderId(senderId)
-                            .senderName(user.getUserProfile().getNickName())
+                            .senderName(sender.nickName())
                             .content(messageRequest.getContent())
                             .image(null)  // 메시지 첨부 이미지 (현재는 null)
-                            .senderProfileImage(userProfile != null ? userProfile.getImageUrl() : null)
+                            .senderProfileImage(sender.profileImage())
                             .sendAt(sendAt)
                             .build();
                     chatService.handleTalkMessage(talkMessage);
                     break;
                 case EXIT:
-                    chatService.handleExitMessage(roomId, senderId, user.getName());
+                    chatService.handleExitMessage(roomId, senderId, sender.name());
                     break;
                 default:
                     // 기본값으로 일반 메시지 처리
@@ -84,10 +76,10 @@ public class ChatWebSocketController {
                             .type(MessageType.TALK)
                             .roomId(roomId)
                             .senderId(senderId)
-                            .senderName(user.getUserProfile().getNickName())
+                            .senderName(sender.nickName())
                             .content(messageRequest.getContent())
                             .image(null)  // 메시지 첨부 이미지 (현재는 null)
-                            .senderProfileImage(userProfile != null ? userProfile.getImageUrl() : null)
+                            .senderProfileImage(sender.profileImage())
                             .sendAt(sendAt)
                             .build();
                     chatService.handleTalkMessage(defaultMessage);
@@ -21,6 +21,7 @@ public class ChatRoomListItem {
     private final Long maxMembers;   // 정원
     private final Boolean isCompleted;
     private Boolean hasUnreadMessages; // 읽지 않은 메시지 여부 (setter 필요하므로 final 제거)
+    private Long unreadCount; // 읽지 않은 메시지 수
     private final Gender genderRestriction; // 채팅방 성별 제한
     private final String touristSpotImage; // 관광지 사진
     private final String spotName; // 관광지 이름
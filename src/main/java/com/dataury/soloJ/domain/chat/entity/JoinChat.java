@@ -8,7 +8,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "join_chats")
+@Table(name = "join_chats", indexes = {
+        @Index(name = "idx_join_chats_user_status_created", columnList = "user_id, join_status, created_date")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
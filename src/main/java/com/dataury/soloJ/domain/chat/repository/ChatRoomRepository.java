@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 관광지별 채팅방 조회 (완료되지 않은 것만)
@@ -29,6 +30,13 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("UPDATE ChatRoom c SET c.isCompleted = true WHERE c.id IN :roomIds")
     int bulkCompleteByIds(@Param("roomIds") List<Long> roomIds);
 
+    // 열린 동행방 인덱스 적재용 (관광지 fetch join)
+    @Query("SELECT c FROM ChatRoom c JOIN FETCH c.touristSpot WHERE c.isCompleted = false")
+    List<ChatRoom> findOpenRoomsWithSpot();
+
+    @Query("SELECT c FROM ChatRoom c JOIN FETCH c.touristSpot WHERE c.id = :roomId")
+    Optional<ChatRoom> findByIdWithSpot(@Param("roomId") Long roomId);
+
     @Query("SELECT cr.touristSpot.contentId, COUNT(cr) " +
             "FROM ChatRoom cr " +
             "WHERE cr.touristSpot.contentId IN :spotIds AND cr.isCompleted= false " +
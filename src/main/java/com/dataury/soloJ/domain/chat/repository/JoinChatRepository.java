@@ -5,7 +5,9 @@ import com.dataury.soloJ.domain.chat.dto.ChatRoomListItemWithCursor;
 import com.dataury.soloJ.domain.chat.entity.ChatRoom;
 import com.dataury.soloJ.domain.chat.entity.JoinChat;
 import com.dataury.soloJ.domain.chat.entity.status.JoinChatStatus;
+import com.dataury.soloJ.domain.chat.repository.view.ChatMemberTokenView;
 import com.dataury.soloJ.domain.user.entity.User;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -40,6 +42,18 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
     // 채팅방 ID와 상태로 JoinChat 조회
     List<JoinChat> findByChatRoomIdAndStatus(Long chatRoomId, JoinChatStatus status);
 
+    // 채팅 알림 대상 (발신자 제외 활성 멤버의 userId + FCM 토큰) - User 엔티티 로딩 없이 한 번에 조회
+    @Query("""
+    select u.id as userId, u.fcmToken as fcmToken
+    from JoinChat jc
+        join jc.user u
+    where jc.chatRoom.id = :chatRoomId
+      and jc.status = 'ACTIVE'
+      and u.id <> :senderId
+    """)
+    List<ChatMemberTokenView> findNotificationTargets(@Param("chatRoomId") Long chatRoomId,
+                                                     @Param("senderId") Long senderId);
+
 
     @Query("""
     select new com.dataury.soloJ.domain.chat.dto.ChatRoomListItem(
@@ -51,6 +65,7 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
         r.maxMembers,  
         r.isCompleted,
         false,
+        0L,
         r.genderRestriction,
         r.touristSpot.firstImage,
         r.touristSpot.name
@@ -80,6 +95,7 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
         r.maxMembers,  
         r.isCompleted,
         false,
+        0L,
         r.genderRestriction,
         r.touristSpot.firstImage,
         r.touristSpot.name
@@ -119,6 +135,7 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
         r.maxMembers,  
         r.isCompleted,
         false,
+        0L,
         r.genderRestriction,
         r.touristSpot.firstImage,
         r.touristSpot.name
@@ -135,7 +152,7 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
     List<ChatRoomListItem> findRoomsByTouristSpotAsDto(@Param("contentId") Long contentId,
                                                          @Param("active") com.dataury.soloJ.domain.chat.entity.status.JoinChatStatus active);
 
-    // 커서 기반 페이지네이션을 위한 메서드 - 커서 정보 포함
+    // 커서 기반 페이지네이션을 위한 메서드 - 커서 정보 포함 (참여 시각, 채팅방 id 최신순)
     @Query("""
     select new com.dataury.soloJ.domain.chat.dto.ChatRoomListItemWithCursor(
         r.id,
@@ -158,17 +175,56 @@ public interface JoinChatRepository extends JpaRepository<JoinChat, Long> {
               and jcActive.status = :active
     where jcUser.user.id = :userId
       and jcUser.status = :active
-      and (:cursor is null or jcUser.createdAt < :cursor)
     group by r.id, r.chatRoomName, r.chatRoomDescription, r.joinDate, r.maxMembers, r.isCompleted, r.genderRestriction, r.touristSpot.firstImage, r.touristSpot.name
-    order by MAX(jcUser.createdAt) desc
+    order by MAX(jcUser.createdAt) desc, r.id desc
+    """)
+    List<ChatRoomListItemWithCursor> findMyChatRoomsFirstPage(
+            @Param("userId") Long userId,
+            @Param("active") JoinChatStatus active,
+            Pageable pageable
+    );
+
+    @Query("""
+    select new com.dataury.soloJ.domain.chat.dto.ChatRoomListItemWithCursor(
+        r.id,
+        r.chatRoomName,
+        r.chatRoomDescription,
+        r.joinDate,
+        count(jcActive),
+        r.maxMembers,  
+        r.isCompleted,
+        false,
+        r.genderRestriction,
+        r.touristSpot.firstImage,
+        r.touristSpot.name,
+        MAX(jcUser.createdAt)
+    )
+    from JoinChat jcUser
+        join jcUser.chatRoom r
+        left join JoinChat jcActive
+               on jcActive.chatRoom = r
+              and jcActive.status = :active
+    where jcUser.user.id = :userId
+      and jcUser.status = :active
+      and jcUser.createdAt <= :createdAt and (jcUser.createdAt < :createdAt or r.id < :roomId)
+    group by r.id, r.chatRoomName, r.chatRoomDescription, r.joinDate, r.maxMembers, r.isCompleted, r.genderRestriction, r.touristSpot.firstImage, r.touristSpot.name
+    order by MAX(jcUser.createdAt) desc, r.id desc
     """)
-    List<ChatRoomListItemWithCursor> findMyChatRoomsByCursor(
+    List<ChatRoomListItemWithCursor> findMyChatRoomsAfter(
             @Param("userId") Long userId,
             @Param("active") JoinChatStatus active,
-            @Param("cursor") LocalDateTime cursor,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("roomId") Long roomId,
             Pageable pageable
     );
 
+    default List<ChatRoomListItemWithCursor> findMyChatRoomsByCursor(Long userId, JoinChatStatus active,
+                                                                     KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findMyChatRoomsFirstPage(userId, active, pageable)
+                : findMyChatRoomsAfter(userId, active, cursor.createdAt(), cursor.id(), pageable);
+    }
+
     Optional<JoinChat> findByUserAndChatRoomAndStatus(User user, ChatRoom room, JoinChatStatus status);
 
     long countByChatRoomAndStatus(ChatRoom room, JoinChatStatus status);
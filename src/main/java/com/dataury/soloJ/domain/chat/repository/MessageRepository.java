@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -37,6 +38,39 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     boolean existsByRoomIdAndSendAtGreaterThanEqualAndSenderIdNot(Long roomId, LocalDateTime lastReadAt, Long userId);
     // 채팅방의 메시지 개수
     long countByRoomId(Long roomId);
+
+    // 참여 중인 방과 마지막 읽은 시각 - [roomId, lastReadAt(null 가능)]
+    @Query("""
+    select jc.chatRoom.id, mr.lastReadAt
+    from JoinChat jc
+        left join MessageRead mr
+               on mr.chatRoom = jc.chatRoom
+              and mr.user = jc.user
+    where jc.user.id = :userId
+      and jc.status = 'ACTIVE'
+    """)
+    List<Object[]> findActiveRoomReadMarkers(@Param("userId") Long userId);
+
+    // 참여 중인 방별 안읽은 메시지 수 (마지막 읽은 시각 이후 ~ cutoff, 본인 메시지와 excludedIds 제외) - [roomId, count]
+    @Query("""
+    select jc.chatRoom.id, count(m.id)
+    from JoinChat jc
+        left join MessageRead mr
+               on mr.chatRoom = jc.chatRoom
+              and mr.user = jc.user
+        left join Message m
+               on m.roomId = jc.chatRoom.id
+              and m.senderId <> :userId
+              and (mr.lastReadAt is null or m.sendAt >= mr.lastReadAt)
+              and m.sendAt <= :cutoff
+              and m.messageId not in :excludedIds
+    where jc.user.id = :userId
+      and jc.status = 'ACTIVE'
+    group by jc.chatRoom.id
+    """)
+    List<Object[]> countUnreadByRoomForUser(@Param("userId") Long userId,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            @Param("excludedIds") Collection<String> excludedIds);
     
     // 특정 시간 범위의 메시지 조회
     @Query("SELECT m FROM Message m WHERE m.roomId = :roomId AND m.sendAt BETWEEN :startTime AND :endTime ORDER BY m.sendAt ASC")
@@ -0,0 +1,6 @@
+package com.dataury.soloJ.domain.chat.repository.view;
+
+public interface ChatMemberTokenView {
+    Long getUserId();
+    String getFcmToken();   // 미등록 시 null
+}
@@ -0,0 +1,316 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메시지 수신 파이프라인
+ * - 1단계 (호출 스레드): 채팅방 검증 → 즉시 브로드캐스트 → 방별 큐에 적재
+ * - 2단계 (워커): Redis 저장 (배치 단위)
+ * - 3단계 (워커): 멤버 알림 전송
+ * 방별 큐는 한 번에 하나의 워커만 처리하므로 방 안의 메시지 순서가 보장된다.
+ * - 일정 시간 메시지가 없는 방의 큐는 정리 (정리된 큐에는 더 이상 적재하지 않음)
+ * - 브로드캐스트 후 Redis 저장이 재시도까지 실패하면 dead-letter 리스트에 보관했다가 주기적으로 다시 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatIngestPipeline {
+
+    private final MessageCommandService messageCommandService;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ChatMessageRedisSerializer chatMessageRedisSerializer;
+
+    private static final byte[] DEAD_LETTER_KEY = "chat:ingest:deadletter".getBytes(StandardCharsets.UTF_8);
+
+    @Value("${chat.ingest.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${chat.ingest.batch-size:50}")
+    private int batchSize;
+
+    @Value("${chat.ingest.workers:4}")
+    private int workers;
+
+    @Value("${chat.ingest.lane-idle-ms:60000}")
+    private long laneIdleMs;
+
+    @Value("${chat.ingest.persist-retries:2}")
+    private int persistRetries;
+
+    @Value("${chat.ingest.persist-retry-backoff-ms:50}")
+    private long persistRetryBackoffMs;
+
+    @Value("${chat.ingest.dead-letter-replay-batch:100}")
+    private int deadLetterReplayBatch;
+
+    private final Map<Long, RoomLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private ThreadPoolTaskExecutor executor;
+    private Counter acceptedCounter;
+    private Counter rejectedCounter;
+    private Timer queueWaitTimer;
+    private Timer persistTimer;
+    private Timer notifyTimer;
+    private Counter persistRetryCounter;
+    private Counter deadLetteredCounter;
+    private Counter deadLetterLostCounter;
+    private Counter deadLetterReplayedCounter;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("chat-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        Gauge.builder("chat.ingest.pending", pending, AtomicInteger::get)
+                .description("큐에 적재되어 처리 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ingest.rooms", lanes, Map::size)
+                .description("수신 큐를 가진 채팅방 수")
+                .register(meterRegistry);
+        acceptedCounter = Counter.builder("chat.ingest.accepted").register(meterRegistry);
+        rejectedCounter = Counter.builder("chat.ingest.rejected")
+                .description("방별 큐가 가득 차 거절된 메시지 수")
+                .register(meterRegistry);
+        queueWaitTimer = Timer.builder("chat.ingest.queue.wait").register(meterRegistry);
+        persistTimer = Timer.builder("chat.ingest.stage").tag("stage", "persist").register(meterRegistry);
+        notifyTimer = Timer.builder("chat.ingest.stage").tag("stage", "notify").register(meterRegistry);
+        persistRetryCounter = Counter.builder("chat.ingest.persist.retry").register(meterRegistry);
+        deadLetteredCounter = Counter.builder("chat.ingest.deadletter")
+                .tag("result", "stored")
+                .description("Redis 저장 재시도 실패로 dead-letter 에 보관한 메시지 수")
+                .register(meterRegistry);
+        deadLetterLostCounter = Counter.builder("chat.ingest.deadletter")
+                .tag("result", "lost")
+                .description("dead-letter 보관까지 실패해 로그로만 남긴 메시지 수")
+                .register(meterRegistry);
+        deadLetterReplayedCounter = Counter.builder("chat.ingest.deadletter")
+                .tag("result", "replayed")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 메시지 수신 - 검증과 브로드캐스트까지만 호출 스레드에서 처리하고 나머지는 워커에 넘긴다.
+     */
+    public void ingest(Message message) {
+        messageCommandService.validateChatRoom(message.getRoomId());
+
+        while (true) {
+            RoomLane lane = lanes.computeIfAbsent(message.getRoomId(), id -> new RoomLane(queueCapacity));
+
+            // 브로드캐스트 순서와 큐 적재 순서를 일치시키기 위해 방 단위로 직렬화
+            synchronized (lane) {
+                // 정리된 큐를 잡았으면 새 큐로 다시 시도 (정리된 큐는 비어 있어 순서가 섞이지 않음)
+                if (lane.retired) {
+                    continue;
+                }
+                if (lane.queue.remainingCapacity() == 0) {
+                    rejectedCounter.increment();
+                    log.warn("채팅 수신 큐 포화 - roomId: {}, capacity: {}", message.getRoomId(), queueCapacity);
+                    throw new GeneralException(ErrorStatus.CHATROOM_BUSY);
+                }
+                messageCommandService.broadcastMessage(message);
+                lane.queue.add(new IngestTask(message, System.nanoTime()));
+                lane.lastActiveAt = System.nanoTime();
+            }
+            pending.incrementAndGet();
+            acceptedCounter.increment();
+
+            schedule(lane);
+            return;
+        }
+    }
+
+    /**
+     * 유휴 방 큐 정리 - 비어 있고 처리 중이 아니며 lane-idle-ms 동안 적재가 없던 큐만 제거
+     */
+    @Scheduled(fixedDelayString = "${chat.ingest.lane-idle-ms:60000}")
+    public void evictIdleLanes() {
+        long idleBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(laneIdleMs);
+        lanes.forEach((roomId, lane) -> {
+            synchronized (lane) {
+                if (lane.queue.isEmpty() && !lane.scheduled.get() && lane.lastActiveAt - idleBefore < 0) {
+                    lane.retired = true;
+                    lanes.remove(roomId, lane);
+                }
+            }
+        });
+    }
+
+    /**
+     * dead-letter 재처리 - 저장 스크립트가 messageId 로 중복을 걸러내므로 여러 인스턴스가 나눠 꺼내도 안전
+     * - 다시 실패하면 리스트에 되돌리고 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${chat.ingest.dead-letter-replay-ms:30000}")
+    public void replayDeadLetters() {
+        for (int i = 0; i < deadLetterReplayBatch; i++) {
+            byte[] payload;
+            try {
+                payload = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                        connection.listCommands().lPop(DEAD_LETTER_KEY));
+            } catch (Exception e) {
+                log.warn("채팅 dead-letter 조회 실패 - error: {}", e.getMessage());
+                return;
+            }
+            if (payload == null) {
+                return;
+            }
+
+            Message message;
+            try {
+                message = chatMessageRedisSerializer.deserialize(payload);
+            } catch (Exception e) {
+                log.error("채팅 dead-letter 역직렬화 실패 - 폐기, error: {}", e.getMessage());
+                continue;
+            }
+
+            try {
+                messageCommandService.saveMessageToRedis(message);
+                deadLetterReplayedCounter.increment();
+            } catch (Exception e) {
+                log.warn("채팅 dead-letter 재저장 실패 - messageId: {}, error: {}", message.getMessageId(), e.getMessage());
+                deadLetter(message);
+                return;
+            }
+        }
+    }
+
+    private void schedule(RoomLane lane) {
+        if (lane.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    // 한 번에 batchSize 개까지 처리 후 남은 작업이 있으면 재예약 (다른 방 작업과 공정하게 번갈아 처리)
+    private void drain(RoomLane lane) {
+        List<IngestTask> batch = new ArrayList<>(batchSize);
+        try {
+            lane.queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            pending.addAndGet(-batch.size());
+
+            long now = System.nanoTime();
+            for (IngestTask task : batch) {
+                queueWaitTimer.record(now - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+            }
+
+            persistTimer.record(() -> batch.forEach(task -> persist(task.message())));
+            notifyTimer.record(() -> batch.forEach(task -> notifyMembers(task.message())));
+        } finally {
+            lane.scheduled.set(false);
+            if (!lane.queue.isEmpty()) {
+                schedule(lane);
+            }
+        }
+    }
+
+    // 이미 브로드캐스트된 메시지라 버리지 않음 - 짧게 재시도 후 dead-letter 로 넘김
+    private void persist(Message message) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                messageCommandService.saveMessageToRedis(message);
+                return;
+            } catch (Exception e) {
+                if (attempt >= persistRetries) {
+                    log.error("채팅 메시지 Redis 저장 실패 - messageId: {}, error: {}", message.getMessageId(), e.getMessage(), e);
+                    deadLetter(message);
+                    return;
+                }
+                persistRetryCounter.increment();
+                if (!backoff(attempt)) {
+                    deadLetter(message);
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(persistRetryBackoffMs * (attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deadLetter(Message message) {
+        try {
+            pushDeadLetter(chatMessageRedisSerializer.serialize(message));
+            deadLetteredCounter.increment();
+        } catch (Exception e) {
+            // Redis 자체가 내려간 경우 - 복구할 수 있도록 메시지 내용을 로그에 남김
+            deadLetterLostCounter.increment();
+            log.error("채팅 메시지 dead-letter 보관 실패 - roomId: {}, messageId: {}, senderId: {}, sendAt: {}, content: {}",
+                    message.getRoomId(), message.getMessageId(), message.getSenderId(), message.getSendAt(),
+                    message.getContent(), e);
+        }
+    }
+
+    private void pushDeadLetter(byte[] payload) {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.listCommands().rPush(DEAD_LETTER_KEY, payload));
+    }
+
+    private void notifyMembers(Message message) {
+        try {
+            messageCommandService.sendNotificationToMembers(message);
+        } catch (Exception e) {
+            log.error("채팅 알림 전송 실패 - messageId: {}, error: {}", message.getMessageId(), e.getMessage());
+        }
+    }
+
+    private record IngestTask(Message message, long enqueuedAt) {}
+
+    private static class RoomLane {
+        private final BlockingQueue<IngestTask> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        // 아래 두 필드는 synchronized (lane) 안에서만 읽고 씀
+        private long lastActiveAt = System.nanoTime();
+        private boolean retired = false;
+
+        private RoomLane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
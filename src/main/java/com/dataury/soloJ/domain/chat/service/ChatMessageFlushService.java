@@ -0,0 +1,284 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis → MySQL 메시지 write-behind
+ * - 메시지 저장 스크립트가 chatroom:dirty 에 방을 등록하고 messageId 를 방별 unflushed 에 기록
+ * - window 에서 밀려난 미반영 메시지는 overflow 로 옮겨져 저장 전까지 사라지지 않음
+ * - flush 는 dirty 방만 돌면서 unflushed 메시지만 가져와 INSERT IGNORE 배치 저장, 저장 성공 후에만 unflushed 에서 지움
+ * - window(Sorted Set) 전환 전의 List 캐시(chatroom:{id}:messages)는 MySQL 로 옮긴 뒤 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageFlushService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> chatMessageClaimScript;
+    private final ChatMessageRedisSerializer chatMessageRedisSerializer;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private static final String LEGACY_WRITE_BEHIND_KEY = "chatroom:%s:writeBehind";
+    private static final String CHAT_ROOM_DIRTY_KEY = "chatroom:dirty";
+    private static final String LEGACY_CHAT_ROOM_MESSAGES_KEY = "chatroom:%s:messages";
+    private static final String LEGACY_DRAINING_SUFFIX = ":draining";
+    private static final int FLUSH_BATCH_SIZE = 500;       // 방별 한 번에 반영하는 최대 개수 (남은 것은 다음 주기)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisSerializer<List> RAW_RESULTS = (RedisSerializer) RedisSerializer.byteArray();
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static final String INSERT_SQL = """
+            INSERT IGNORE INTO messages
+                (message_id, type, room_id, sender_id, sender_name, content, image, sender_profile_image,
+                 send_at, is_read, chat_room_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private final AtomicLong dirtyRooms = new AtomicLong();
+    private final AtomicLong lastFlushEpochMillis = new AtomicLong(System.currentTimeMillis());
+    private Timer flushLagTimer;
+    private Timer flushDurationTimer;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void initMetrics() {
+        flushLagTimer = Timer.builder("chat.flush.lag")
+                .description("메시지 전송 시각부터 MySQL 반영까지 걸린 시간")
+                .register(meterRegistry);
+        flushDurationTimer = Timer.builder("chat.flush.duration").register(meterRegistry);
+        droppedCounter = Counter.builder("chat.flush.dropped")
+                .description("MySQL 에 반영하지 못하고 버려진 메시지 수 (payload 만료/해석 실패)")
+                .register(meterRegistry);
+        Gauge.builder("chat.flush.dirty.rooms", dirtyRooms, AtomicLong::get)
+                .description("마지막 flush 시점의 반영 대기 채팅방 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.flush.since.last.seconds", lastFlushEpochMillis,
+                        last -> (System.currentTimeMillis() - last.get()) / 1000.0)
+                .description("마지막 flush 완료 후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 메시지가 있는 방만 MySQL 로 반영
+     */
+    @Scheduled(fixedDelayString = "${chat.flush.interval-ms:5000}")
+    @SchedulerLock(name = "chatMessageFlush", lockAtMostFor = "PT5M")
+    public void flushDirtyRooms() {
+        Set<Object> rooms = redisTemplate.opsForSet().members(CHAT_ROOM_DIRTY_KEY);
+        dirtyRooms.set(rooms == null ? 0 : rooms.size());
+        if (rooms == null || rooms.isEmpty()) {
+            lastFlushEpochMillis.set(System.currentTimeMillis());
+            return;
+        }
+
+        flushDurationTimer.record(() -> {
+            for (Object raw : rooms) {
+                Long roomId = ((Number) raw).longValue();
+                try {
+                    flushRoom(roomId);
+                } catch (Exception e) {
+                    // 실패한 방은 다음 주기에 다시 시도 (한 방의 실패가 전체 작업을 중단시키지 않도록)
+                    redisTemplate.opsForSet().add(CHAT_ROOM_DIRTY_KEY, roomId);
+                    log.error("채팅 메시지 MySQL 반영 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+                }
+            }
+        });
+        lastFlushEpochMillis.set(System.currentTimeMillis());
+    }
+
+    /**
+     * 기동 시 남아있는 이전 형식 List 캐시를 모두 MySQL 로 옮김 (배포 시점에 아직 flush 되지 않은 메시지)
+     * - 배포 중 이전 버전 서버가 계속 쓰는 List 는 해당 방의 flush 때마다 함께 옮김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainLegacyLists() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(String.format(LEGACY_CHAT_ROOM_MESSAGES_KEY, "*") + "*")
+                .count(500)
+                .build();
+        Set<String> listKeys = redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
+            Set<String> keys = new LinkedHashSet<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(
+                        new String(key, StandardCharsets.UTF_8).replace(LEGACY_DRAINING_SUFFIX, "")));
+            }
+            return keys;
+        });
+        if (listKeys == null || listKeys.isEmpty()) {
+            return;
+        }
+
+        for (String listKey : listKeys) {
+            try {
+                drainLegacyList(listKey);
+            } catch (Exception e) {
+                log.error("이전 채팅 메시지 캐시 이전 실패 - key: {}, error: {}", listKey, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이전 형식 List → MySQL (INSERT IGNORE) → 삭제
+     * - 읽는 동안 새로 쌓이는 메시지를 지우지 않도록 먼저 :draining 키로 옮긴 뒤 처리
+     * - 저장에 실패하면 :draining 키가 남아 다음 시도에서 이어서 처리
+     */
+    private void drainLegacyList(String listKey) {
+        String drainingKey = listKey + LEGACY_DRAINING_SUFFIX;
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(drainingKey))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(listKey))) {
+                return;
+            }
+            redisTemplate.rename(listKey, drainingKey);
+        }
+
+        List<byte[]> raw = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.listCommands().lRange(drainingKey.getBytes(StandardCharsets.UTF_8), 0, -1));
+        List<Message> messages = new ArrayList<>();
+        if (raw != null) {
+            for (byte[] bytes : raw) {
+                try {
+                    Message message = chatMessageRedisSerializer.deserialize(bytes);
+                    if (message != null && message.getMessageId() != null) {
+                        messages.add(message);
+                    }
+                } catch (Exception e) {
+                    log.warn("이전 채팅 메시지 캐시 항목 해석 실패 - key: {}, error: {}", listKey, e.getMessage());
+                }
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            insertIgnore(messages);
+        }
+        redisTemplate.delete(drainingKey);
+        log.info("이전 채팅 메시지 캐시 이전 완료 - key: {}, 저장 대상: {}건", listKey, messages.size());
+    }
+
+    private void flushRoom(Long roomId) {
+        drainLegacyList(String.format(LEGACY_CHAT_ROOM_MESSAGES_KEY, roomId));
+
+        String unflushedKey = String.format(MessageCommandService.CHAT_ROOM_UNFLUSHED_KEY, roomId);
+        String overflowKey = String.format(MessageCommandService.CHAT_ROOM_OVERFLOW_KEY, roomId);
+
+        // messageId 는 스크립트에 넘긴 그대로(직렬화된 값) 돌려받아 반영 후 그대로 지움
+        List<?> claimed = redisTemplate.execute(
+                chatMessageClaimScript,
+                redisTemplate.getValueSerializer(),
+                RAW_RESULTS,
+                List.of(unflushedKey, CHAT_ROOM_DIRTY_KEY,
+                        String.format(MessageCommandService.CHAT_ROOM_PAYLOADS_KEY, roomId), overflowKey,
+                        String.format(MessageCommandService.CHAT_ROOM_WINDOW_KEY, roomId),
+                        String.format(LEGACY_WRITE_BEHIND_KEY, roomId)),
+                roomId,
+                FLUSH_BATCH_SIZE
+        );
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        long expired = ((Number) claimed.get(0)).longValue();
+        if (expired > 0) {
+            droppedCounter.increment(expired);
+            log.warn("채팅 메시지 MySQL 반영 누락 - roomId: {}, payload 만료: {}건", roomId, expired);
+        }
+
+        List<byte[]> claimedIds = new ArrayList<>();
+        List<Message> messages = new ArrayList<>();
+        for (int i = 1; i + 1 < claimed.size(); i += 2) {
+            claimedIds.add((byte[]) claimed.get(i));
+            Message message = decode(roomId, (byte[]) claimed.get(i + 1));
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        if (claimedIds.isEmpty()) {
+            return;
+        }
+
+        if (!messages.isEmpty()) {
+            insertIgnore(messages);
+        }
+
+        // 저장 성공 후에만 반영 대기 목록에서 제거 (실패하면 그대로 남아 다음 주기에 다시 시도)
+        byte[][] ids = claimedIds.toArray(byte[][]::new);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.zSetCommands().zRem(unflushedKey.getBytes(StandardCharsets.UTF_8), ids);
+            connection.hashCommands().hDel(overflowKey.getBytes(StandardCharsets.UTF_8), ids);
+            return null;
+        });
+
+        LocalDateTime now = LocalDateTime.now(SEOUL);
+        messages.stream()
+                .map(Message::getSendAt)
+                .filter(Objects::nonNull)
+                .forEach(sendAt -> flushLagTimer.record(Duration.between(sendAt, now)));
+    }
+
+    // 해석할 수 없는 항목은 다시 시도해도 같으므로 버린 것으로 집계
+    private Message decode(Long roomId, byte[] payload) {
+        try {
+            Message message = chatMessageRedisSerializer.deserialize(payload);
+            if (message != null && message.getMessageId() != null) {
+                return message;
+            }
+        } catch (Exception e) {
+            log.warn("채팅 메시지 캐시 항목 해석 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+        }
+        droppedCounter.increment();
+        return null;
+    }
+
+    private void insertIgnore(List<Message> messages) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, msg) -> {
+            Timestamp sendAt = msg.getSendAt() != null ? Timestamp.valueOf(msg.getSendAt()) : null;
+            ps.setString(1, msg.getMessageId());
+            ps.setString(2, msg.getType() != null ? msg.getType().name() : null);
+            ps.setObject(3, msg.getRoomId());
+            ps.setObject(4, msg.getSenderId());
+            ps.setString(5, msg.getSenderName());
+            ps.setString(6, msg.getContent());
+            ps.setString(7, msg.getImage());
+            ps.setString(8, msg.getSenderProfileImage());
+            ps.setTimestamp(9, sendAt);
+            ps.setString(10, msg.getRoomId() != null ? msg.getRoomId().toString() : null);
+            ps.setTimestamp(11, sendAt != null ? sendAt : now);
+            ps.setTimestamp(12, now);
+        });
+    }
+}
@@ -0,0 +1,205 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Redis 캐시용 채팅 메시지 바이너리 직렬화
+ * - [version(1)] [null 비트마스크(2)] [값이 있는 필드만 순서대로]
+ * - 문자열은 varint 길이 + UTF-8, 숫자는 long, sendAt 은 epoch second(UTC 기준 로컬시간) + nano
+ * - 이전 JSON 형식('{' 로 시작)도 읽을 수 있음 (TTL 24h 동안 남아있는 기존 데이터)
+ */
+@Slf4j
+@Component
+public class ChatMessageRedisSerializer implements RedisSerializer<Message> {
+
+    private static final byte VERSION = 1;
+
+    private static final int MESSAGE_ID = 1;
+    private static final int TYPE = 1 << 1;
+    private static final int ROOM_ID = 1 << 2;
+    private static final int SENDER_ID = 1 << 3;
+    private static final int SENDER_NAME = 1 << 4;
+    private static final int CONTENT = 1 << 5;
+    private static final int IMAGE = 1 << 6;
+    private static final int SENDER_PROFILE_IMAGE = 1 << 7;
+    private static final int SEND_AT = 1 << 8;
+
+    private final ObjectMapper legacyMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public byte[] serialize(Message message) throws SerializationException {
+        if (message == null) {
+            return new byte[0];
+        }
+
+        int mask = 0;
+        if (message.getMessageId() != null) mask |= MESSAGE_ID;
+        if (message.getType() != null) mask |= TYPE;
+        if (message.getRoomId() != null) mask |= ROOM_ID;
+        if (message.getSenderId() != null) mask |= SENDER_ID;
+        if (message.getSenderName() != null) mask |= SENDER_NAME;
+        if (message.getContent() != null) mask |= CONTENT;
+        if (message.getImage() != null) mask |= IMAGE;
+        if (message.getSenderProfileImage() != null) mask |= SENDER_PROFILE_IMAGE;
+        if (message.getSendAt() != null) mask |= SEND_AT;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeShort(mask);
+            if ((mask & MESSAGE_ID) != 0) writeString(out, message.getMessageId());
+            if ((mask & TYPE) != 0) writeString(out, message.getType().name());
+            if ((mask & ROOM_ID) != 0) out.writeLong(message.getRoomId());
+            if ((mask & SENDER_ID) != 0) out.writeLong(message.getSenderId());
+            if ((mask & SENDER_NAME) != 0) writeString(out, message.getSenderName());
+            if ((mask & CONTENT) != 0) writeString(out, message.getContent());
+            if ((mask & IMAGE) != 0) writeString(out, message.getImage());
+            if ((mask & SENDER_PROFILE_IMAGE) != 0) writeString(out, message.getSenderProfileImage());
+            if ((mask & SEND_AT) != 0) {
+                out.writeLong(message.getSendAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(message.getSendAt().getNano());
+            }
+        } catch (IOException e) {
+            throw new SerializationException("채팅 메시지 직렬화 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Message deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] == '{') {
+                return legacyMapper.readValue(bytes, Message.class);
+            }
+            if (bytes[0] != VERSION) {
+                throw new SerializationException("지원하지 않는 채팅 메시지 형식 - version: " + bytes[0]);
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            int mask = in.readUnsignedShort();
+            Message.MessageBuilder builder = Message.builder();
+            if ((mask & MESSAGE_ID) != 0) builder.messageId(readString(in));
+            if ((mask & TYPE) != 0) builder.type(MessageType.valueOf(readString(in)));
+            if ((mask & ROOM_ID) != 0) builder.roomId(in.readLong());
+            if ((mask & SENDER_ID) != 0) builder.senderId(in.readLong());
+            if ((mask & SENDER_NAME) != 0) builder.senderName(readString(in));
+            if ((mask & CONTENT) != 0) builder.content(readString(in));
+            if ((mask & IMAGE) != 0) builder.image(readString(in));
+            if ((mask & SENDER_PROFILE_IMAGE) != 0) builder.senderProfileImage(readString(in));
+            if ((mask & SEND_AT) != 0) {
+                long epochSecond = in.readLong();
+                int nano = in.readInt();
+                builder.sendAt(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+            }
+            return builder.build();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("채팅 메시지 역직렬화 실패", e);
+        }
+    }
+
+    /**
+     * Lua 스크립트 인자용 - Message 는 바이너리로, 나머지(id, 숫자 등)는 기존 값 직렬화 방식 그대로
+     */
+    public RedisSerializer<Object> scriptArgs(RedisSerializer<?> fallback) {
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> values = (RedisSerializer<Object>) fallback;
+        return new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) throws SerializationException {
+                return value instanceof Message message
+                        ? ChatMessageRedisSerializer.this.serialize(message)
+                        : values.serialize(value);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) throws SerializationException {
+                return values.deserialize(bytes);
+            }
+        };
+    }
+
+    /**
+     * Lua 스크립트 결과용 - 스크립트 실행기가 리스트의 bulk 값마다 이 serializer 로 역직렬화 (숫자 값은 그대로 Long)
+     * - 항목 하나가 깨져도 전체 조회가 실패하지 않도록 해석할 수 없는 항목은 로그를 남기고 null 로 돌려줌 (호출부에서 제외)
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public RedisSerializer<List> scriptResults() {
+        RedisSerializer<Message> lenient = new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Message message) throws SerializationException {
+                return ChatMessageRedisSerializer.this.serialize(message);
+            }
+
+            @Override
+            public Message deserialize(byte[] bytes) {
+                try {
+                    return ChatMessageRedisSerializer.this.deserialize(bytes);
+                } catch (RuntimeException e) {
+                    log.warn("채팅 메시지 캐시 항목 해석 실패 - 건너뜀, size: {}, error: {}",
+                            bytes != null ? bytes.length : 0, e.getMessage());
+                    return null;
+                }
+            }
+        };
+        return (RedisSerializer) lenient;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, utf8.length);
+        out.write(utf8);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.available()) {
+            throw new IOException("잘못된 문자열 길이 - " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 길이 값");
+    }
+}
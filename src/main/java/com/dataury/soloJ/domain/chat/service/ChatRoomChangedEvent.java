@@ -0,0 +1,7 @@
+package com.dataury.soloJ.domain.chat.service;
+
+/**
+ * 채팅방 생성/참가/나가기/완료/삭제 이벤트 (OpenChatRoomIndex 갱신용)
+ */
+public record ChatRoomChangedEvent(Long roomId) {
+}
@@ -26,6 +26,7 @@ import com.dataury.soloJ.global.exception.GeneralException;
 import com.dataury.soloJ.global.security.SecurityUtils;
 import com.dataury.soloJ.global.security.UserPenaltyChecker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +48,8 @@ public class ChatRoomCommandService {
     private final PostRepository postRepository;
     private final MessageRepository messageRepository;
     private final UserPenaltyChecker userPenaltyChecker;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 사용자 채팅방 추가
     @Transactional
@@ -110,6 +113,9 @@ public class ChatRoomCommandService {
         joinChat.leaveChat();
         joinChatRepository.save(joinChat);
 
+        chatUnreadCounterService.reset(userId, chatRoomId, LocalDateTime.now());
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(chatRoomId));
+
     }
 
     // 관광지 기반 채팅방 생성
@@ -162,6 +168,8 @@ public class ChatRoomCommandService {
         // 커뮤니티에 자동으로 동행제안 게시글 생성
         createCompanionProposalPost(chatRoom, touristSpot, user);
 
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(chatRoom.getId()));
+
         return ChatRoomResponseDto.CreateChatRoomResponse.builder()
                 .chatRoomId(chatRoom.getId())
                 .title(chatRoom.getChatRoomName())
@@ -218,6 +226,8 @@ public class ChatRoomCommandService {
         user.incrementGroupChatCount();
         userRepository.save(user);
 
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(chatRoomId));
+
         return ChatRoomResponseDto.JoinChatRoomResponse.builder()
                 .chatRoomId(chatRoomId)
                 .message("채팅방에 성공적으로 참가했습니다.")
@@ -317,6 +327,9 @@ public class ChatRoomCommandService {
         messageRead.updateLastReadAt(newLastReadAt);
         messageReadRepository.save(messageRead);
 
+        // 안읽은 메시지 카운터 초기화 (읽은 시각 이전 메시지의 늦은 +1 은 무시됨)
+        chatUnreadCounterService.reset(userId, chatRoomId, newLastReadAt);
+
     }
 
 
@@ -407,6 +420,8 @@ public class ChatRoomCommandService {
         messageRepository.deleteByRoomId(roomId);
         joinChatRepository.deleteByChatRoom(room);
         chatRoomRepository.delete(room); // 진짜 물리 삭제
+        chatUnreadCounterService.reset(userId, roomId, LocalDateTime.now());
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId));
     }
 
     @Transactional
@@ -432,6 +447,7 @@ public class ChatRoomCommandService {
 
         room.complete();
         chatRoomRepository.save(room);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId));
     }
 
 }
@@ -10,6 +10,8 @@ import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.dto.CursorPageResponse;
 import com.dataury.soloJ.global.exception.GeneralException;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.KeysetSlice;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,9 +19,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -45,12 +44,14 @@ public class ChatRoomQueryService {
         List<Long> chatRoomIds = chatRooms.getContent().stream()
                 .map(ChatRoomListItem::getChatRoomId)
                 .toList();
-        Map<Long, Boolean> unreadStatusMap = messageReadQueryService.getUnreadStatusForAllChatRooms(chatRoomIds);
+        Map<Long, Long> unreadCountMap = messageReadQueryService.getUnreadCountsForChatRooms(chatRoomIds);
         
-        // 미확인 메시지 여부 설정
-        chatRooms.getContent().forEach(room -> 
-                room.setHasUnreadMessages(unreadStatusMap.getOrDefault(room.getChatRoomId(), false))
-        );
+        // 미확인 메시지 수/여부 설정
+        chatRooms.getContent().forEach(room -> {
+            long unreadCount = unreadCountMap.getOrDefault(room.getChatRoomId(), 0L);
+            room.setUnreadCount(unreadCount);
+            room.setHasUnreadMessages(unreadCount > 0);
+        });
         
         return chatRooms;
     }
@@ -62,22 +63,19 @@ public class ChatRoomQueryService {
 
     // 커서 기반 페이지네이션을 위한 내 채팅방 목록
     public CursorPageResponse<ChatRoomListItem> getMyChatRoomsByCursor(Long userId, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1); // 다음 페이지 여부 확인을 위해 +1
-        
-        List<ChatRoomListItemWithCursor> results = joinChatRepository.findMyChatRoomsByCursor(
-                userId, JoinChatStatus.ACTIVE, cursorDateTime, pageable);
+        List<ChatRoomListItemWithCursor> fetched = joinChatRepository.findMyChatRoomsByCursor(
+                userId, JoinChatStatus.ACTIVE, KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
         
-        boolean hasNext = results.size() > size;
-        if (hasNext) {
-            results = results.subList(0, size);
-        }
+        // 커서는 (참여 시각, 채팅방 id)
+        KeysetSlice<ChatRoomListItemWithCursor> slice = KeysetSlice.of(fetched, size,
+                item -> new KeysetCursor(item.getCursor(), item.getChatRoomId()));
+        List<ChatRoomListItemWithCursor> results = slice.rows();
         
         // 각 채팅방의 미확인 메시지 여부 확인
         List<Long> chatRoomIds = results.stream()
                 .map(ChatRoomListItemWithCursor::getChatRoomId)
                 .toList();
-        Map<Long, Boolean> unreadStatusMap = messageReadQueryService.getUnreadStatusForAllChatRooms(chatRoomIds);
+        Map<Long, Long> unreadCountMap = messageReadQueryService.getUnreadCountsForChatRooms(chatRoomIds);
         
         // ChatRoomListItemWithCursor를 ChatRoomListItem으로 변환하면서 미확인 메시지 여부 설정
         List<ChatRoomListItem> items = results.stream()
@@ -89,23 +87,15 @@ public class ChatRoomQueryService {
                         item.getCurrentMembers(),
                         item.getMaxMembers(),
                         item.getIsCompleted(),
-                        unreadStatusMap.getOrDefault(item.getChatRoomId(), false),
+                        unreadCountMap.getOrDefault(item.getChatRoomId(), 0L) > 0,
+                        unreadCountMap.getOrDefault(item.getChatRoomId(), 0L),
                         item.getGenderRestriction(),
                         item.getTouristSpotImage(),
                         item.getSpotName()
                 ))
                 .toList();
         
-        String nextCursor = hasNext && !results.isEmpty() 
-                ? encodeCursor(results.get(results.size() - 1).getCursor()) 
-                : null;
-        
-        return CursorPageResponse.<ChatRoomListItem>builder()
-                .content(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .size(items.size())
-                .build();
+        return slice.toResponse(items);
     }
 
     public ChatRoomListItem getDetailChatRoom(Long roomId){
@@ -124,22 +114,4 @@ public class ChatRoomQueryService {
                 .touristSpotImage(touristSpot.getFirstImage())
                 .build();
     }
-
-    // 커서 인코딩
-    private String encodeCursor(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        String formatted = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return Base64.getEncoder().encodeToString(formatted.getBytes());
-    }
-
-    // 커서 디코딩
-    private LocalDateTime decodeCursor(String cursor) {
-        if (cursor == null || cursor.trim().isEmpty()) return null;
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor));
-            return LocalDateTime.parse(decoded, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
@@ -20,12 +20,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 public class ChatService {
-    private final MessageCommandService messageCommandService;
+    private final ChatIngestPipeline chatIngestPipeline;
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
 
     public void handleMessage(Message message) {
-        messageCommandService.processMessage(message);
+        chatIngestPipeline.ingest(message);
     }
 
     public void handleEnterMessage(Long roomId, String content) {
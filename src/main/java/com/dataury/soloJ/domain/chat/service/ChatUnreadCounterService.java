@@ -0,0 +1,245 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 채팅방 안읽은 메시지 수 카운터
+ * - chat:unread:{userId} (Hash, field = roomId, value = 안읽은 수)
+ * - 메시지 수신 시 발신자 제외 멤버의 카운터를 올리고, 읽음 처리/방 나가기 시 제거
+ * - 목록/배지 조회는 사용자당 HMGET/HGETALL 한 번 (메시지 스캔 없음)
+ * - 카운터가 없는 사용자(최초 조회, Redis 유실)는 기준 시각까지의 MySQL + 미반영 Redis 메시지 집계로 한 번 채움
+ *   (seeded = 기준 시각, HSETNX 로 한 번만, 기존 방 카운트는 덮어씀)
+ * - 채우기 전에 받은 메시지는 카운트 대신 pending 에 두었다가 채울 때 기준 시각 이후 것만 반영 (집계와 중복 방지)
+ * - 읽음 처리 시각을 r:{roomId} 에 남겨, 그보다 먼저 보낸 메시지의 늦은 +1 이나 뒤바뀐 읽음 처리는 무시
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCounterService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MessageRepository messageRepository;
+    private final RedisScript<Long> chatUnreadIncrementScript;
+    private final RedisScript<Long> chatUnreadResetScript;
+    private final RedisScript<Long> chatUnreadSeedScript;
+    private final ChatMessageRedisSerializer chatMessageRedisSerializer;
+
+    // 기준 시각을 현재보다 이만큼 앞으로 잡아, 수신 큐에서 늦게 저장되는 메시지도 집계 시점엔 Redis/MySQL 에 있도록
+    @Value("${chat.unread.seed-margin-ms:5000}")
+    private long seedMarginMs;
+
+    private static final String UNREAD_KEY = "chat:unread:%s";
+    private static final String PENDING_KEY = "chat:unread:%s:pending";
+    private static final long PENDING_TTL_SECONDS = 600;
+    // 미반영 메시지가 없을 때 not in () 대신 쓰는 값 (messageId 는 UUID)
+    private static final List<String> NO_EXCLUDED_IDS = List.of("");
+    private static final String SEEDED_FIELD = "seeded";
+    private static final String READ_AT_FIELD_PREFIX = "r:";
+    private static final RedisSerializer<Long> SCRIPT_LONG_RESULT = new GenericToStringSerializer<>(Long.class);
+
+    /**
+     * 새 메시지 수신 - 수신자들의 해당 방 카운터 +1 (스크립트 한 번, 보낸 시각이 읽은 시각보다 이르면 제외)
+     */
+    public void increment(Long roomId, String messageId, Collection<Long> receiverIds, LocalDateTime sendAt) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(receiverIds.size() * 2);
+        for (Long receiverId : receiverIds) {
+            keys.add(key(receiverId));
+            keys.add(pendingKey(receiverId));
+        }
+        redisTemplate.execute(chatUnreadIncrementScript, redisTemplate.getValueSerializer(), SCRIPT_LONG_RESULT,
+                keys,
+                roomId, toMillis(sendAt), messageId, PENDING_TTL_SECONDS);
+    }
+
+    /**
+     * 읽음 처리/방 나가기 - 해당 방 카운터 제거 (readAt 보다 늦게 읽음 처리된 적이 있으면 무시)
+     */
+    public void reset(Long userId, Long roomId, LocalDateTime readAt) {
+        redisTemplate.execute(chatUnreadResetScript, redisTemplate.getValueSerializer(), SCRIPT_LONG_RESULT,
+                List.of(key(userId)),
+                roomId, toMillis(readAt));
+    }
+
+    /**
+     * 방별 안읽은 메시지 수 (요청한 방 전부 포함, 없으면 0)
+     */
+    public Map<Long, Long> getCounts(Long userId, List<Long> roomIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (roomIds.isEmpty()) {
+            return counts;
+        }
+        ensureSeeded(userId);
+
+        List<Object> fields = new ArrayList<>(roomIds.size());
+        roomIds.forEach(roomId -> fields.add(String.valueOf(roomId)));
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(userId), fields);
+
+        for (int i = 0; i < roomIds.size(); i++) {
+            counts.put(roomIds.get(i), toCount(values.get(i)));
+        }
+        return counts;
+    }
+
+    /**
+     * 참여 중인 전체 방의 안읽은 메시지 수 합계
+     */
+    public long getTotalCount(Long userId) {
+        ensureSeeded(userId);
+
+        long total = 0;
+        for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key(userId)).entrySet()) {
+            String field = String.valueOf(entry.getKey());
+            if (!SEEDED_FIELD.equals(field) && !field.startsWith(READ_AT_FIELD_PREFIX)) {
+                total += toCount(entry.getValue());
+            }
+        }
+        return total;
+    }
+
+    // 카운터가 없으면 기준 시각까지 안읽은 메시지를 방별로 집계해 채움 (마지막 읽은 시각 이후, 본인 메시지 제외)
+    // - 미반영 메시지를 먼저 읽고 MySQL 집계에서는 그 messageId 를 빼서, flush 와 겹쳐도 한 번만 셈
+    private void ensureSeeded(Long userId) {
+        String key = key(userId);
+        if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(key, SEEDED_FIELD))) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(seedMarginMs));
+
+        Map<Long, LocalDateTime> lastReadAts = new HashMap<>();
+        for (Object[] row : messageRepository.findActiveRoomReadMarkers(userId)) {
+            lastReadAts.put(((Number) row[0]).longValue(), (LocalDateTime) row[1]);
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        Set<String> unflushedIds = new HashSet<>();
+        readUnflushed(lastReadAts.keySet(), cutoff).forEach((roomId, messages) -> {
+            LocalDateTime lastReadAt = lastReadAts.get(roomId);
+            for (Message message : messages) {
+                unflushedIds.add(message.getMessageId());
+                if (!userId.equals(message.getSenderId())
+                        && !message.getSendAt().isAfter(cutoff)
+                        && (lastReadAt == null || !message.getSendAt().isBefore(lastReadAt))) {
+                    counts.merge(roomId, 1L, Long::sum);
+                }
+            }
+        });
+        for (Object[] row : messageRepository.countUnreadByRoomForUser(
+                userId, cutoff, unflushedIds.isEmpty() ? NO_EXCLUDED_IDS : unflushedIds)) {
+            counts.merge(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), Long::sum);
+        }
+
+        // [기준 시각, roomId, 안읽은 수, ...] - 동시에 여러 요청이 집계해도 스크립트에서 한 번만 반영
+        List<Object> args = new ArrayList<>();
+        args.add(toMillis(cutoff));
+        counts.forEach((roomId, count) -> {
+            if (count > 0) {
+                args.add(roomId);
+                args.add(count);
+            }
+        });
+        Long seeded = redisTemplate.execute(chatUnreadSeedScript, redisTemplate.getValueSerializer(), SCRIPT_LONG_RESULT,
+                List.of(key, pendingKey(userId)), args.toArray());
+        if (Long.valueOf(1L).equals(seeded)) {
+            log.debug("안읽은 메시지 카운터 초기화 - userId: {}, rooms: {}", userId, (args.size() - 1) / 2);
+        }
+    }
+
+    // 방별로 기준 시각까지 보냈지만 아직 MySQL 에 반영되지 않은 메시지 (payload 는 payloads → overflow 순으로 찾음)
+    private Map<Long, List<Message>> readUnflushed(Collection<Long> roomIds, LocalDateTime cutoff) {
+        double maxScore = MessageCommandService.toWindowScore(cutoff);
+        Map<Long, List<Message>> unflushed = redisTemplate.execute((RedisCallback<Map<Long, List<Message>>>) connection -> {
+            Map<Long, List<Message>> result = new HashMap<>();
+            for (Long roomId : roomIds) {
+                Set<byte[]> ids = connection.zSetCommands().zRangeByScore(
+                        bytes(MessageCommandService.CHAT_ROOM_UNFLUSHED_KEY, roomId), 0, maxScore);
+                if (ids == null || ids.isEmpty()) {
+                    continue;
+                }
+                byte[][] fields = ids.toArray(byte[][]::new);
+                List<byte[]> payloads = connection.hashCommands().hMGet(
+                        bytes(MessageCommandService.CHAT_ROOM_PAYLOADS_KEY, roomId), fields);
+                List<byte[]> overflow = connection.hashCommands().hMGet(
+                        bytes(MessageCommandService.CHAT_ROOM_OVERFLOW_KEY, roomId), fields);
+
+                List<Message> messages = new ArrayList<>(fields.length);
+                for (int i = 0; i < fields.length; i++) {
+                    byte[] payload = payloads != null && payloads.get(i) != null ? payloads.get(i)
+                            : overflow != null ? overflow.get(i) : null;
+                    Message message = decode(roomId, payload);
+                    if (message != null) {
+                        messages.add(message);
+                    }
+                }
+                result.put(roomId, messages);
+            }
+            return result;
+        });
+        return unflushed != null ? unflushed : Map.of();
+    }
+
+    // payload 가 만료됐거나 해석할 수 없는 항목은 MySQL 에도 반영되지 않으므로 세지 않음
+    private Message decode(Long roomId, byte[] payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            Message message = chatMessageRedisSerializer.deserialize(payload);
+            if (message != null && message.getMessageId() != null && message.getSendAt() != null) {
+                return message;
+            }
+        } catch (Exception e) {
+            log.warn("안읽은 수 집계 중 채팅 메시지 캐시 항목 해석 실패 - roomId: {}, error: {}", roomId, e.getMessage());
+        }
+        return null;
+    }
+
+    // 메시지 sendAt 과 읽은 시각 모두 LocalDateTime 그대로 비교하므로 같은 기준(UTC 가정)으로 변환
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private long toCount(Object value) {
+        if (value instanceof Number number) {
+            return Math.max(number.longValue(), 0L);
+        }
+        return 0L;
+    }
+
+    private String key(Long userId) {
+        return String.format(UNREAD_KEY, userId);
+    }
+
+    private String pendingKey(Long userId) {
+        return String.format(PENDING_KEY, userId);
+    }
+
+    private static byte[] bytes(String keyFormat, Long roomId) {
+        return String.format(keyFormat, roomId).getBytes(StandardCharsets.UTF_8);
+    }
+}
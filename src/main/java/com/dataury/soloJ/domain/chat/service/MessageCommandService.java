@@ -1,36 +1,31 @@
 package com.dataury.soloJ.domain.chat.service;
 
+import com.dataury.soloJ.domain.chat.broker.ChatBroadcaster;
 import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
 import com.dataury.soloJ.domain.chat.entity.ChatRoom;
-import com.dataury.soloJ.domain.chat.entity.JoinChat;
 import com.dataury.soloJ.domain.chat.entity.Message;
-import com.dataury.soloJ.domain.chat.entity.status.JoinChatStatus;
 import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
 import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
-import com.dataury.soloJ.domain.chat.repository.MessageRepository;
-import com.dataury.soloJ.domain.notification.service.NotificationService;
+import com.dataury.soloJ.domain.chat.repository.view.ChatMemberTokenView;
+import com.dataury.soloJ.domain.notification.service.ChatNotificationBatcher;
 import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -39,37 +34,48 @@ public class MessageCommandService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ChatRoomRepository chatRoomRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatBroadcaster chatBroadcaster;
     // private final MongoTemplate mongoTemplate; // MongoDB 주석처리
-    private final MessageRepository messageRepository; // MySQL repository 추가
     private final JoinChatRepository joinChatRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ChatNotificationBatcher chatNotificationBatcher;
+    private final ChatUnreadCounterService chatUnreadCounterService;
+    private final RedisScript<Long> chatMessageSaveScript;
+    private final ChatMessageRedisSerializer chatMessageRedisSerializer;
 
-    private static final String CHAT_ROOM_MESSAGES_KEY = "chatroom:%s:messages";
+    static final String CHAT_ROOM_WINDOW_KEY = "chatroom:%s:window";
+    static final String CHAT_ROOM_PAYLOADS_KEY = "chatroom:%s:payloads";
     private static final String CHAT_ROOM_LATEST_MESSAGE_KEY = "chatroom:%s:latestMessage";
     private static final String CHAT_ROOM_LATEST_MESSAGE_TIME_KEY = "chatroom:%s:latestMessageTime";
+    static final String CHAT_ROOM_UNFLUSHED_KEY = "chatroom:%s:unflushed";
+    static final String CHAT_ROOM_OVERFLOW_KEY = "chatroom:%s:overflow";
+    private static final String CHAT_ROOM_DIRTY_KEY = "chatroom:dirty";
     private static final int MAX_REDIS_MESSAGES = 200;     // 방별 보관 개수
     private static final long REDIS_MESSAGE_TTL_SECONDS = 86400; // 24h
-    
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final ZoneId SCORE_ZONE = ZoneId.of("Asia/Seoul");
+    private static final RedisSerializer<Long> SCRIPT_LONG_RESULT = new GenericToStringSerializer<>(Long.class);
 
-    @Transactional
-    public void processMessage(Message message) {
-        // 채팅방 완료 상태 확인
-        ChatRoom chatRoom = chatRoomRepository.findById(message.getRoomId())
+    /**
+     * window 정렬/커서 기준 score (sendAt epoch micros)
+     * - double 로 저장되지만 2^53 미만이라 마이크로초 단위까지 정확히 보존됨
+     */
+    static long toWindowScore(LocalDateTime sendAt) {
+        Instant instant = sendAt.atZone(SCORE_ZONE).toInstant();
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000L;
+    }
+
+    /**
+     * 메시지 수신 전 채팅방 검증 (존재 여부 + 완료 상태)
+     * - Redis 저장/브로드캐스트/알림은 ChatIngestPipeline 이 단계별로 처리
+     */
+    @Transactional(readOnly = true)
+    public void validateChatRoom(Long roomId) {
+        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.CHATROOM_NOT_FOUND));
-        
+
         if (chatRoom.getIsCompleted()) {
             throw new GeneralException(ErrorStatus.CHATROOM_COMPLETED);
         }
-
-        
-        // Redis에만 임시 저장 (MySQL 배치 저장은 스케줄러가 처리)
-        saveMessageToRedis(message);   // Redis에 캐시
-        broadcastMessage(message);
-        sendNotificationToMembers(message); // 알림 전송
-
     }
 
     // MongoDB 관련 메서드 주석처리
@@ -126,38 +132,22 @@ public class MessageCommandService {
 
 
     /**
-     * Redis에 최신 메시지만 캐시 (LPUSH + LTRIM, Set 기반 중복 방지, TTL)
+     * Redis에 최신 메시지만 캐시 (sendAt 순 Sorted Set + payload Hash, Set 기반 중복 방지, TTL)
+     * - Lua 스크립트로 한 번의 round trip 에 원자적으로 처리
      */
 
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     public void saveMessageToRedis(Message message) {
         Long roomId = message.getRoomId();
-        String listKey = String.format(CHAT_ROOM_MESSAGES_KEY, roomId);
+        String windowKey = String.format(CHAT_ROOM_WINDOW_KEY, roomId);
+        String payloadsKey = String.format(CHAT_ROOM_PAYLOADS_KEY, roomId);
         String latestMessageKey = String.format(CHAT_ROOM_LATEST_MESSAGE_KEY, roomId);
         String latestMessageTimeKey = String.format(CHAT_ROOM_LATEST_MESSAGE_TIME_KEY, roomId);
         String idSetKey = "chatroom:%d:messageIds".formatted(roomId);
+        String unflushedKey = String.format(CHAT_ROOM_UNFLUSHED_KEY, roomId);
+        String overflowKey = String.format(CHAT_ROOM_OVERFLOW_KEY, roomId);
 
-        String messageId = message.getMessageId();
-
-        // 1) messageId 중복 체크 (Set)
-        if (messageId != null) {
-            Boolean exists = redisTemplate.opsForSet().isMember(idSetKey, messageId);
-            if (Boolean.TRUE.equals(exists)) {
-                return;
-            }
-        }
-
-        // 2) 최신 앞으로 푸시하고 개수 제한
-        redisTemplate.opsForList().leftPush(listKey, message);
-        redisTemplate.opsForList().trim(listKey, 0, MAX_REDIS_MESSAGES - 1);
-
-        // 3) messageId 인덱싱(Set) + TTL
-        if (messageId != null) {
-            redisTemplate.opsForSet().add(idSetKey, messageId);
-        }
-
-        // 4) 최신 메시지/시간 키 갱신 (+ TTL)
         // 항상 UTC 기준 ISO_LOCAL_DATE_TIME으로 저장
         String sendAtUtc = message.getSendAt()
                 .atZone(ZoneOffset.systemDefault())
@@ -165,13 +155,27 @@ public class MessageCommandService {
                 .toLocalDateTime()
                 .format(ISO_FORMATTER);
 
-        redisTemplate.opsForValue().set(latestMessageKey, message.getContent(), Duration.ofSeconds(REDIS_MESSAGE_TTL_SECONDS));
-        redisTemplate.opsForValue().set(latestMessageTimeKey, sendAtUtc, Duration.ofSeconds(REDIS_MESSAGE_TTL_SECONDS));
-
-        // 5) TTL 설정 (리스트/ID세트 둘 다)
-        redisTemplate.expire(listKey, Duration.ofSeconds(REDIS_MESSAGE_TTL_SECONDS));
-        redisTemplate.expire(idSetKey, Duration.ofSeconds(REDIS_MESSAGE_TTL_SECONDS));
-
+        // 중복 체크 → ZADD/HSET + 개수 제한 → SADD → 최신 메시지/시간 SET → TTL 갱신 → dirty 등록 (스크립트 참고)
+        // 메시지 payload 는 바이너리(ChatMessageRedisSerializer), 나머지 인자는 기존 값 직렬화 방식
+        Long saved = redisTemplate.execute(
+                chatMessageSaveScript,
+                chatMessageRedisSerializer.scriptArgs(redisTemplate.getValueSerializer()),
+                SCRIPT_LONG_RESULT,
+                List.of(windowKey, idSetKey, latestMessageKey, latestMessageTimeKey,
+                        CHAT_ROOM_DIRTY_KEY, unflushedKey, payloadsKey, overflowKey),
+                message.getMessageId(),
+                message,
+                message.getContent(),
+                sendAtUtc,
+                MAX_REDIS_MESSAGES,
+                REDIS_MESSAGE_TTL_SECONDS,
+                roomId,
+                toWindowScore(message.getSendAt())
+        );
+
+        if (saved == null || saved == 0L) {
+            log.debug("중복 메시지 Redis 저장 스킵 - messageId: {}", message.getMessageId());
+        }
     }
 
 
@@ -191,27 +195,34 @@ public class MessageCommandService {
                 .sendAt(message.getSendAt())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/" + message.getRoomId(), response);
+        // 단일/다중 서버 전달 방식은 chat.broker.mode 에 따라 결정
+        chatBroadcaster.broadcast(message.getRoomId(), response);
     }
 
     /**
      * 채팅방 멤버들에게 알림 전송 (메시지 발신자 제외)
+     * - 대상 조회는 한 번의 projection 쿼리, 저장/푸시는 ChatNotificationBatcher 가 모아서 처리
+     * - 같은 대상에게 안읽은 메시지 카운터도 함께 올림
      */
-    private void sendNotificationToMembers(Message message) {
+    public void sendNotificationToMembers(Message message) {
         try {
-            // 채팅방의 활성 멤버 조회
-            List<JoinChat> activeMembers = joinChatRepository.findByChatRoomIdAndStatus(
-                    message.getRoomId(), JoinChatStatus.ACTIVE);
-            
-            // 발신자를 제외한 멤버들에게 알림 전송
-            for (JoinChat joinChat : activeMembers) {
-                if (!joinChat.getUser().getId().equals(message.getSenderId())) {
-                    notificationService.createChatNotification(
-                            joinChat.getUser(), 
-                            message.getSenderName(), 
-                            message.getRoomId()
-                    );
-                }
+            List<ChatMemberTokenView> targets = joinChatRepository.findNotificationTargets(
+                    message.getRoomId(), message.getSenderId());
+
+            chatUnreadCounterService.increment(
+                    message.getRoomId(),
+                    message.getMessageId(),
+                    targets.stream().map(ChatMemberTokenView::getUserId).toList(),
+                    message.getSendAt()
+            );
+
+            for (ChatMemberTokenView target : targets) {
+                chatNotificationBatcher.enqueue(
+                        target.getUserId(),
+                        target.getFcmToken(),
+                        message.getSenderName(),
+                        message.getRoomId()
+                );
             }
         } catch (Exception e) {
             log.error("알림 전송 실패 - messageId: {}, error: {}", message.getMessageId(), e.getMessage());
@@ -219,117 +230,4 @@ public class MessageCommandService {
         }
     }
 
-    /**
-     * Redis 메시지를 MySQL로 배치 저장 (10분마다 실행)
-     */
-    @Scheduled(fixedRate = 600000) // 10분마다 실행
-    @Transactional
-    public void batchSaveMessagesToMySQL() {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAll();
-        int totalSavedMessages = 0;
-        
-        for (ChatRoom chatRoom : chatRooms) {
-            try {
-                int savedCount = saveRoomMessagesToMySQL(chatRoom.getId());
-                totalSavedMessages += savedCount;
-            } catch (Exception e) {
-                // 한 방의 실패가 전체 작업을 중단시키지 않도록 계속 진행
-            }
-        }
-
-    }
-
-    private int saveRoomMessagesToMySQL(Long roomId) {
-
-        String listKey = String.format(CHAT_ROOM_MESSAGES_KEY, roomId);
-        List<Object> rawMessages = redisTemplate.opsForList().range(listKey, 0, -1);
-        
-        if (rawMessages == null || rawMessages.isEmpty()) {
-            return 0;
-        }
-
-        // Redis 메시지를 Message 객체로 변환
-        List<Message> messages = rawMessages.stream()
-                .map(obj -> {
-                    try {
-                        return objectMapper.convertValue(obj, Message.class);
-                    } catch (Exception e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .filter(msg -> msg.getMessageId() != null)
-                .collect(Collectors.toList());
-
-        if (messages.isEmpty()) {
-            return 0;
-        }
-
-        // 이미 MySQL에 존재하는 messageId들을 확인
-        Set<String> messageIds = messages.stream()
-                .map(Message::getMessageId)
-                .collect(Collectors.toSet());
-        
-        List<Message> existingMessages = messageRepository.findByMessageIdIn(messageIds);
-        Set<String> existingMessageIds = existingMessages.stream()
-                .map(Message::getMessageId)
-                .collect(Collectors.toSet());
-
-        // 중복되지 않은 메시지들만 저장
-        List<Message> newMessages = messages.stream()
-                .filter(msg -> !existingMessageIds.contains(msg.getMessageId()))
-                .collect(Collectors.toList());
-
-        if (!newMessages.isEmpty()) {
-            // 시간 설정
-            LocalDateTime now = LocalDateTime.now();
-            List<Message> messagesToSave = new ArrayList<>();
-            
-            for (Message msg : newMessages) {
-                    
-                Message messageToSave = Message.builder()
-                        .messageId(msg.getMessageId())
-                        .type(msg.getType())
-                        .roomId(msg.getRoomId())
-                        .senderId(msg.getSenderId())
-                        .senderName(msg.getSenderName())
-                        .content(msg.getContent())
-                        .image(msg.getImage())
-                        .sendAt(msg.getSendAt())
-                        .isRead(false)
-                        .chatRoomId(msg.getRoomId().toString())
-                        .createdAt(msg.getSendAt() != null ? msg.getSendAt() : now)
-                        .updatedAt(now)
-                        .senderProfileImage(msg.getSenderProfileImage())
-                        .build();
-                messagesToSave.add(messageToSave);
-            }
-
-            messageRepository.saveAll(messagesToSave);
-            return messagesToSave.size();
-        }
-
-        return 0;
-    }
-
-    /**
-     * Redis 캐시 정리 (오래된 메시지 제거)
-     */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
-    public void cleanupRedisCache() {
-        List<ChatRoom> chatRooms = chatRoomRepository.findAll();
-        
-        for (ChatRoom chatRoom : chatRooms) {
-            Long chatRoomId = chatRoom.getId();
-            String chatRoomMessagesKey = String.format(CHAT_ROOM_MESSAGES_KEY, chatRoomId);
-            
-            Long totalMessages = redisTemplate.opsForList().size(chatRoomMessagesKey);
-            if (totalMessages != null && totalMessages > MAX_REDIS_MESSAGES) {
-                // 최신 200개만 유지
-                redisTemplate.opsForList().trim(chatRoomMessagesKey, 0, MAX_REDIS_MESSAGES - 1);
-            }
-        }
-    }
-
 }
-
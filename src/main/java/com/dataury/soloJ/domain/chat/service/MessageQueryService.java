@@ -7,8 +7,7 @@ import com.dataury.soloJ.domain.chat.repository.MessageRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import com.dataury.soloJ.global.security.SecurityUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +16,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -55,9 +55,10 @@ public class MessageQueryService {
     private final MessageRepository messageRepository; // MySQL repository 추가
     private final JoinChatRepository joinChatRepository;
     // private final UserRepository userRepository; // 없애도 됨
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-
-    private static final String CHAT_ROOM_MESSAGES_KEY = "chatroom:%s:messages";
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> chatMessageWindowScript;
+    private final ChatMessageRedisSerializer chatMessageRedisSerializer;
+    private final MeterRegistry meterRegistry;
 
     public MessagePageResponse getMessagesByChatRoom(Long chatRoomId, LocalDateTime lastMessageTime, int size) {
         Long userId = SecurityUtils.getCurrentUserId();
@@ -66,6 +67,7 @@ public class MessageQueryService {
         }
 
         // 무한 스크롤: lastMessageTime 이전의 메시지를 size+1개 조회 (hasNext 판단용)
+        // Redis window 에서 커서 이전 구간만 잘라오고, 모자라는 만큼만 MySQL 에서 이어서 조회
         List<Message> result = new ArrayList<>();
         List<Message> redisMessages = getMessagesFromRedis(chatRoomId, lastMessageTime, size + 1);
         result.addAll(redisMessages);
@@ -74,22 +76,22 @@ public class MessageQueryService {
             int remaining = size + 1 - result.size();
 
             // Redis에서 일부라도 얻었으면 그 중 가장 오래된 sendAt 이전으로 MySQL 조회
-            LocalDateTime searchBefore = (lastMessageTime == null)
-                    ? redisMessages.stream().map(Message::getSendAt).min(LocalDateTime::compareTo).orElse(null)
-                    : lastMessageTime;
-
-            if (searchBefore == null && lastMessageTime == null) {
+            LocalDateTime searchBefore = redisMessages.stream()
+                    .map(Message::getSendAt)
+                    .filter(Objects::nonNull)
+                    .min(LocalDateTime::compareTo)
+                    .orElse(lastMessageTime);
+            Pageable pageable = PageRequest.of(0, remaining, Sort.by(Sort.Direction.DESC, "sendAt"));
+
+            if (searchBefore == null) {
                 // 최초 조회: 최신 메시지부터
-                Pageable pageable = PageRequest.of(0, remaining, Sort.by(Sort.Direction.DESC, "sendAt"));
                 result.addAll(messageRepository.findByRoomIdOrderBySendAtDesc(chatRoomId, pageable));
             } else {
                 // 이전 메시지 조회
-                LocalDateTime beforeTime = searchBefore != null ? searchBefore : lastMessageTime;
-                Pageable pageable = PageRequest.of(0, remaining, Sort.by(Sort.Direction.DESC, "sendAt"));
                 Set<String> excludeIds = getRedisMessageIds(redisMessages);
                 result.addAll(
                         messageRepository
-                                .findByRoomIdAndSendAtBeforeOrderBySendAtDesc(chatRoomId, beforeTime, pageable)
+                                .findByRoomIdAndSendAtBeforeOrderBySendAtDesc(chatRoomId, searchBefore, pageable)
                                 .stream()
                                 .filter(m -> m.getMessageId() != null && !excludeIds.contains(m.getMessageId()))
                                 .toList()
@@ -135,27 +137,36 @@ public class MessageQueryService {
     }
 
 
-    private List<Message> getMessagesFromRedis(Long chatRoomId, LocalDateTime before, int size) {
-        String redisKey = String.format(CHAT_ROOM_MESSAGES_KEY, chatRoomId);
-
-        // Redis에서 전체 메시지를 가져와서 필터링
-        List<Object> raw = redisTemplate.opsForList().range(redisKey, 0, -1);
+    /**
+     * Redis window 에서 before(미포함) 이전 메시지를 최신순으로 최대 limit 개 조회
+     */
+    private List<Message> getMessagesFromRedis(Long chatRoomId, LocalDateTime before, int limit) {
+        String windowKey = String.format(MessageCommandService.CHAT_ROOM_WINDOW_KEY, chatRoomId);
+        String payloadsKey = String.format(MessageCommandService.CHAT_ROOM_PAYLOADS_KEY, chatRoomId);
+        long beforeScore = before != null ? MessageCommandService.toWindowScore(before) : 0L;
+
+        List<?> raw = redisTemplate.execute(
+                chatMessageWindowScript,
+                redisTemplate.getValueSerializer(),
+                chatMessageRedisSerializer.scriptResults(),
+                List.of(windowKey, payloadsKey),
+                beforeScore,
+                0L,
+                limit
+        );
         if (raw == null || raw.isEmpty()) return Collections.emptyList();
 
-        List<Message> messages = raw.stream()
-                .map(obj -> {
-                    try {
-                        // ✅ 변환 금지: 그대로 역직렬화만 한다.
-                        return objectMapper.convertValue(obj, Message.class);
-                    } catch (Exception e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-
+        // 해석에 실패한 항목은 null 로 들어옴 (scriptResults 참고) - 건너뛰고 집계만 함
+        long corrupt = raw.stream().filter(Objects::isNull).count();
+        if (corrupt > 0) {
+            meterRegistry.counter("chat.message.cache.corrupt").increment(corrupt);
+            log.warn("채팅 메시지 캐시 손상 항목 제외 - roomId: {}, count: {}", chatRoomId, corrupt);
+        }
 
-        return messages;
+        return raw.stream()
+                .filter(Message.class::isInstance)
+                .map(Message.class::cast)
+                .toList();
     }
 
 
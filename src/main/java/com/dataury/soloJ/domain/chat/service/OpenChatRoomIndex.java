@@ -0,0 +1,161 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.ChatRoom;
+import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.user.entity.status.Gender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 열린(완료되지 않은) 동행방 read model
+ * - 홈 추천(성별별)과 관광지별 열린 방 수를 DB 조회 없이 메모리에서 바로 응답
+ * - 방 생성/참가/나가기/완료/삭제 시 ChatRoomChangedEvent 로 해당 방만 갱신
+ * - 다른 서버에서 바뀐 내용은 주기적 전체 재적재로 맞춤
+ * - 변경은 드물고 조회가 많으므로 변경 시마다 인덱스를 새로 만들어 통째로 교체 (조회는 락 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenChatRoomIndex {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final Map<Long, OpenRoom> rooms = new HashMap<>();
+    private volatile View view;
+
+    public record OpenRoom(
+            Long roomId,
+            String title,
+            String description,
+            Long contentId,
+            String spotName,
+            String spotImage,
+            Long numberOfMembers,
+            Long maxMembers,
+            LocalDateTime joinDate,
+            Gender genderRestriction
+    ) {
+        static OpenRoom from(ChatRoom room) {
+            return new OpenRoom(
+                    room.getId(),
+                    room.getChatRoomName(),
+                    room.getChatRoomDescription(),
+                    room.getTouristSpot().getContentId(),
+                    room.getTouristSpot().getName(),
+                    room.getTouristSpot().getFirstImage(),
+                    room.getNumberOfMembers(),
+                    room.getMaxMembers(),
+                    room.getJoinDate(),
+                    room.getGenderRestriction()
+            );
+        }
+    }
+
+    // newest: 최신 등록순(id 내림차순), joinable: 성별별 참여 가능한 방, spotCounts: contentId → 열린 방 수
+    private record View(List<OpenRoom> newest, Map<Gender, List<OpenRoom>> joinable, Map<Long, Integer> spotCounts) {}
+
+    /**
+     * 열린 방 전체 (최신 등록순)
+     */
+    public List<OpenRoom> newest() {
+        return view().newest();
+    }
+
+    /**
+     * 해당 성별이 참여할 수 있는 열린 방 (최신 등록순) - 성별을 모르면 전체
+     */
+    public List<OpenRoom> joinableBy(Gender gender) {
+        if (gender == null) {
+            return newest();
+        }
+        return view().joinable().getOrDefault(gender, List.of());
+    }
+
+    /**
+     * 관광지별 열린 방 수 (열린 방이 없는 관광지는 포함하지 않음)
+     */
+    public Map<Long, Integer> countBySpotIds(Collection<Long> contentIds) {
+        Map<Long, Integer> spotCounts = view().spotCounts();
+        Map<Long, Integer> result = new HashMap<>();
+        for (Long contentId : contentIds) {
+            Integer count = spotCounts.get(contentId);
+            if (count != null) {
+                result.put(contentId, count);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomChanged(ChatRoomChangedEvent event) {
+        ChatRoom room = chatRoomRepository.findByIdWithSpot(event.roomId()).orElse(null);
+        synchronized (rooms) {
+            if (room != null && !Boolean.TRUE.equals(room.getIsCompleted())) {
+                rooms.put(room.getId(), OpenRoom.from(room));
+            } else {
+                rooms.remove(event.roomId());
+            }
+            view = buildView();
+        }
+    }
+
+    /**
+     * 전체 재적재 (기동 직후 + 주기적으로)
+     */
+    @Scheduled(fixedDelayString = "${chat.open-rooms.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<ChatRoom> openRooms = chatRoomRepository.findOpenRoomsWithSpot();
+        synchronized (rooms) {
+            rooms.clear();
+            openRooms.forEach(room -> rooms.put(room.getId(), OpenRoom.from(room)));
+            view = buildView();
+        }
+        log.debug("열린 동행방 인덱스 재적재 - rooms: {}", openRooms.size());
+    }
+
+    private View view() {
+        View current = view;
+        if (current == null) {
+            refresh();
+            current = view;
+        }
+        return current;
+    }
+
+    // rooms 락 안에서 호출
+    private View buildView() {
+        List<OpenRoom> newest = rooms.values().stream()
+                .sorted(Comparator.comparing(OpenRoom::roomId).reversed())
+                .toList();
+
+        Map<Gender, List<OpenRoom>> joinable = new EnumMap<>(Gender.class);
+        for (Gender gender : Gender.values()) {
+            joinable.put(gender, newest.stream()
+                    .filter(room -> canJoin(gender, room.genderRestriction()))
+                    .toList());
+        }
+
+        Map<Long, Integer> spotCounts = new HashMap<>();
+        newest.forEach(room -> spotCounts.merge(room.contentId(), 1, Integer::sum));
+
+        return new View(newest, joinable, spotCounts);
+    }
+
+    private boolean canJoin(Gender userGender, Gender roomGenderRestriction) {
+        if (roomGenderRestriction == null || roomGenderRestriction == Gender.MIXED) {
+            return true;
+        }
+        return userGender == roomGenderRestriction;
+    }
+}
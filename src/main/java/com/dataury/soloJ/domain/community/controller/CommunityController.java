@@ -54,16 +54,16 @@ public class CommunityController {
     }
 
     @GetMapping("/posts")
-    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "게시글 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getPostList(
             @Parameter(description = "카테고리") @RequestParam(required = false) PostCategory category,
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (0부터 시작, offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "정렬 기준 (offset 기반용)") @RequestParam(defaultValue = "createdAt") String sort,
             @Parameter(description = "정렬 방향 (offset 기반용)") @RequestParam(defaultValue = "DESC") Sort.Direction direction) {
         
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(postService.getPostListByCursor(category, cursor, size));
         } else {
@@ -80,14 +80,14 @@ public class CommunityController {
     }
 
     @GetMapping("/posts/search")
-    @Operation(summary = "게시글 검색", description = "키워드로 게시글을 검색합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "게시글 검색", description = "키워드로 게시글 제목/본문과 댓글을 검색해 관련도 순으로 반환합니다(1글자 검색어는 최신순). cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> searchPosts(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
         
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(postService.searchPostsByCursor(keyword, cursor, size));
         } else {
@@ -0,0 +1,24 @@
+package com.dataury.soloJ.domain.community.dto;
+
+import com.dataury.soloJ.domain.community.entity.status.PostCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 행 (작성자 프로필 + 댓글/스크랩 수를 한 번에 조회)
+@Getter
+@AllArgsConstructor
+public class PostListRow {
+    private Long postId;                // p.id
+    private String title;               // p.title
+    private String content;             // p.content
+    private PostCategory postCategory;  // p.postCategory
+    private Long authorId;              // p.user.id
+    private String authorNickname;      // up.nickName (프로필 없으면 null)
+    private String authorProfileImage;  // up.imageUrl
+    private Integer commentCount;       // p.commentCount
+    private Integer scrapCount;         // p.scrapCount
+    private LocalDateTime createdAt;    // p.createdAt
+    private String thumbnailUrl;        // p.thumbnailUrl
+}
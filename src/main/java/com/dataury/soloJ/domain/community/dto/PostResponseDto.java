@@ -35,6 +35,25 @@ public class PostResponseDto {
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime createdAt;
         private String thumbnailUrl;
+
+        public static PostListItemDto of(PostListRow row) {
+            String content = row.getContent();
+            return PostListItemDto.builder()
+                    .postId(row.getPostId())
+                    .title(row.getTitle())
+                    .content(content != null && content.length() > 100
+                            ? content.substring(0, 100) + "..."
+                            : content)
+                    .postCategory(row.getPostCategory())
+                    .authorNickname(row.getAuthorNickname() != null ? row.getAuthorNickname() : "익명")
+                    .authorId(row.getAuthorId())
+                    .authorProfileImage(row.getAuthorProfileImage())
+                    .commentCount(row.getCommentCount())
+                    .scrapCount(row.getScrapCount())
+                    .createdAt(row.getCreatedAt())
+                    .thumbnailUrl(row.getThumbnailUrl())
+                    .build();
+        }
     }
 
     @Getter
@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_created", columnList = "post_id, created_date, id"),
+        @Index(name = "idx_comments_user_created", columnList = "user_id, created_date")
+})
 @Getter
 @Setter
 @Builder
@@ -39,6 +42,11 @@ public class Comment extends BaseEntity {
 
     private String originalContent;
 
+    // 게시글 댓글 수(Post.commentCount)에 포함되는 상태인지
+    public boolean isCounted() {
+        return this.isVisible && !this.isDeleted;
+    }
+
     public void delete() {
         if (this.originalContent == null) {
             this.originalContent = this.content;
@@ -10,7 +10,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 목록 키셋 페이지네이션용 - 기존 DB 는 V3 마이그레이션에서 같은 이름으로 생성
+        @Index(name = "idx_posts_visible_created", columnList = "is_visible, is_deleted, created_date, id"),
+        @Index(name = "idx_posts_category_created", columnList = "post_category, created_date, id"),
+        @Index(name = "idx_posts_user_created", columnList = "user_id, created_date, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -56,6 +61,16 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private boolean isDeleted = false;
 
+    // 목록 조회용 비정규화 카운트 - PostRepository 의 증감 쿼리로만 변경
+    // updatable = false: 게시글 수정/숨김 시 dirty checking 이 메모리의 옛 값으로 덮어쓰지 않도록
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private Integer commentCount = 0; // 보이는(숨김/삭제 제외) 댓글 수
+
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "int default 0")
+    private Integer scrapCount = 0;
+
     public void updateImages(List<PostImage> newImages) {
         if (this.images == null) this.images = new ArrayList<>();
         this.images.clear();
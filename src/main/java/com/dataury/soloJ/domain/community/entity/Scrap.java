@@ -6,7 +6,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "scraps")
+@Table(name = "scraps", indexes = {
+        @Index(name = "idx_scraps_user_created", columnList = "user_id, created_date, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -1,6 +1,7 @@
 package com.dataury.soloJ.domain.community.repository;
 
 import com.dataury.soloJ.domain.community.entity.Comment;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,14 +27,26 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT DISTINCT c.post FROM Comment c WHERE c.user.id = :userId AND c.isVisible = true AND c.isDeleted = false ORDER BY c.createdAt DESC")
     Page<com.dataury.soloJ.domain.community.entity.Post> findPostsByUserId(@Param("userId") Long userId, Pageable pageable);
     
-    // 커서 기반 페이지네이션용
+    // 커서 기반 페이지네이션용 (작성 시각, id 오래된 순)
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.post.id = :postId " +
-           "AND (:cursor IS NULL OR c.createdAt > :cursor) " +
            "AND c.isVisible = true AND c.isDeleted = false " +
-           "ORDER BY c.createdAt ASC")
-    List<Comment> findByPostIdAndCursor(@Param("postId") Long postId, 
-                                       @Param("cursor") LocalDateTime cursor, 
-                                       Pageable pageable);
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByPostIdFirstPage(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.post.id = :postId " +
+           "AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) " +
+           "AND c.isVisible = true AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByPostIdAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    default List<Comment> findByPostIdAndCursor(Long postId, KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findByPostIdFirstPage(postId, pageable)
+                : findByPostIdAfter(postId, cursor.createdAt(), cursor.id(), pageable);
+    }
     
     // 관리자용 - 모든 댓글 조회
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
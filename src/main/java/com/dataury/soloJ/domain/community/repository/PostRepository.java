@@ -2,31 +2,28 @@ package com.dataury.soloJ.domain.community.repository;
 
 import com.dataury.soloJ.domain.community.entity.Post;
 import com.dataury.soloJ.domain.community.entity.status.PostCategory;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.ScoreCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
-    
-    // 기본 조회 메서드들 - 보이고 삭제되지 않은 게시물만
-    Page<Post> findByPostCategoryAndIsVisibleTrueAndIsDeletedFalse(PostCategory postCategory, Pageable pageable);
-    
-    Page<Post> findByUserIdAndIsVisibleTrueAndIsDeletedFalse(Long userId, Pageable pageable);
-    
-    Page<Post> findByIsVisibleTrueAndIsDeletedFalse(Pageable pageable);
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     
+    // 목록 조회는 PostRepositoryCustom (작성자 프로필 + 댓글/스크랩 수 포함 projection)
+
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.user WHERE p.id = :postId AND p.isVisible = true AND p.isDeleted = false")
     Optional<Post> findByIdWithUser(@Param("postId") Long postId);
     
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.isVisible = true AND p.isDeleted = false")
-    Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-    
     // 관리자용 - 모든 게시물 조회
     Page<Post> findByPostCategory(PostCategory postCategory, Pageable pageable);
     
@@ -41,7 +38,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         join c.post p
         where c.user.id = :userId AND p.isVisible = true AND p.isDeleted = false
         group by p
-        order by max(c.createdAt) desc
+        order by max(c.createdAt) desc, p.id desc
     """)
     Page<Post> findCommentedPostsOrderByLatestMyComment(@Param("userId") Long userId,
                                                         Pageable pageable);
@@ -53,28 +50,115 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     
     long countByUserIdAndIsDeleted(Long userId, boolean isDeleted);
 
-    // 커서 기반 페이지네이션 메서드들
-    @Query("SELECT p FROM Post p WHERE p.isVisible = true AND p.isDeleted = false AND (:cursor IS NULL OR p.createdAt < :cursor) ORDER BY p.createdAt DESC")
-    List<Post> findAllByCursor(@Param("cursor") LocalDateTime cursor, Pageable pageable);
-
-    @Query("SELECT p FROM Post p WHERE p.postCategory = :category AND p.isVisible = true AND p.isDeleted = false AND (:cursor IS NULL OR p.createdAt < :cursor) ORDER BY p.createdAt DESC")
-    List<Post> findByCategoryAndCursor(@Param("category") PostCategory category, @Param("cursor") LocalDateTime cursor, Pageable pageable);
-
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.isVisible = true AND p.isDeleted = false AND (:cursor IS NULL OR p.createdAt < :cursor) ORDER BY p.createdAt DESC")
-    List<Post> searchByKeywordAndCursor(@Param("keyword") String keyword, @Param("cursor") LocalDateTime cursor, Pageable pageable);
-
-    @Query("SELECT p FROM Post p WHERE p.user.id = :userId AND p.isVisible = true AND p.isDeleted = false AND (:cursor IS NULL OR p.createdAt < :cursor) ORDER BY p.createdAt DESC")
-    List<Post> findByUserIdAndCursor(@Param("userId") Long userId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    // 내가 댓글 단 게시글 (커서 기반, 내 마지막 댓글 시각 → 게시글 id 순) - [postId, 내 마지막 댓글 시각]
+    @Query("""
+        SELECT p.id, MAX(c.createdAt)
+        FROM Comment c
+        JOIN c.post p
+        WHERE c.user.id = :userId AND p.isVisible = true AND p.isDeleted = false
+        GROUP BY p.id
+        ORDER BY MAX(c.createdAt) DESC, p.id DESC
+    """)
+    List<Object[]> findCommentedPostKeysFirstPage(@Param("userId") Long userId, Pageable pageable);
 
+    // 집계값 기준이라 HAVING 으로 거름 (comments(user_id, created_date) 인덱스로 내 댓글만 읽음)
     @Query("""
-        SELECT p
+        SELECT p.id, MAX(c.createdAt)
         FROM Comment c
         JOIN c.post p
-        WHERE c.user.id = :userId AND p.isVisible = true AND p.isDeleted = false 
-        AND (:cursor IS NULL OR p.createdAt < :cursor)
-        GROUP BY p
-        ORDER BY MAX(c.createdAt) DESC
+        WHERE c.user.id = :userId AND p.isVisible = true AND p.isDeleted = false
+        GROUP BY p.id
+        HAVING MAX(c.createdAt) < :createdAt OR (MAX(c.createdAt) = :createdAt AND p.id < :id)
+        ORDER BY MAX(c.createdAt) DESC, p.id DESC
     """)
-    List<Post> findCommentedPostsByUserIdAndCursor(@Param("userId") Long userId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    List<Object[]> findCommentedPostKeysAfter(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    default List<Object[]> findCommentedPostKeys(Long userId, KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findCommentedPostKeysFirstPage(userId, pageable)
+                : findCommentedPostKeysAfter(userId, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    // 비정규화 댓글/스크랩 수 - 동시 요청에도 어긋나지 않도록 DB 에서 증감 (0 미만 방지)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.scrapCount = CASE WHEN p.scrapCount + :delta < 0 THEN 0 ELSE p.scrapCount + :delta END WHERE p.id = :postId")
+    int addScrapCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 대사용 - 실제 댓글/스크랩 수와 다른 게시글 수
+    @Query(value = """
+        SELECT COUNT(*) FROM posts p
+        WHERE p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_visible = true AND c.is_deleted = false)
+           OR p.scrap_count <> (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id)
+    """, nativeQuery = true)
+    long countCountMismatches();
+
+    // 대사용 - 어긋난 게시글만 다시 계산 (컬럼 추가 직후 백필 포함)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_visible = true AND c.is_deleted = false),
+            p.scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id)
+        WHERE p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.is_visible = true AND c.is_deleted = false)
+           OR p.scrap_count <> (SELECT COUNT(*) FROM scraps s WHERE s.post_id = p.id)
+    """, nativeQuery = true)
+    int recalculateCounts();
+
+    // ===== 전문 검색 (FULLTEXT ngram, V4) =====
+    // 제목/본문 일치 점수 + 보이는 댓글 일치 점수(commentWeight 배)의 합을 DECIMAL 로 고정해 (점수, id) 커서 비교에 오차가 없게 함
+    // 결과는 [postId, score], 목록 행은 findListRowsByIds 로 한 번에 조회
+    // 점수는 전체 문서 수/토큰 빈도에 따라 달라지므로 페이지 사이에 글이 추가·삭제되면 (점수, id) 커서 경계가 약간 어긋날 수 있음
+    // → 관련도 순 검색은 가까운 순위의 글이 중복되거나 빠질 수 있는 근사 페이지 (최신순 목록과 달리 정확한 순서를 보장하지 않음)
+    String FULLTEXT_MATCHES = """
+        SELECT m.post_id, CAST(SUM(m.score) AS DECIMAL(16,6)) AS score
+        FROM (
+            SELECT p.id AS post_id, MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE) AS score
+            FROM posts p
+            WHERE MATCH(p.title, p.content) AGAINST (:query IN BOOLEAN MODE)
+            UNION ALL
+            SELECT c.post_id, MATCH(c.content) AGAINST (:query IN BOOLEAN MODE) * :commentWeight
+            FROM comments c
+            WHERE MATCH(c.content) AGAINST (:query IN BOOLEAN MODE)
+              AND c.is_visible = true AND c.is_deleted = false
+        ) m
+        JOIN posts p ON p.id = m.post_id
+        WHERE p.is_visible = true AND p.is_deleted = false
+        GROUP BY m.post_id
+        """;
+
+    @Query(value = FULLTEXT_MATCHES + "ORDER BY score DESC, m.post_id DESC",
+           countQuery = "SELECT COUNT(*) FROM (" + FULLTEXT_MATCHES + ") t",
+           nativeQuery = true)
+    Page<Object[]> searchFullText(@Param("query") String query,
+                                  @Param("commentWeight") double commentWeight,
+                                  Pageable pageable);
+
+    @Query(value = FULLTEXT_MATCHES + "ORDER BY score DESC, m.post_id DESC", nativeQuery = true)
+    List<Object[]> searchFullTextFirstPage(@Param("query") String query,
+                                           @Param("commentWeight") double commentWeight,
+                                           Pageable pageable);
+
+    @Query(value = FULLTEXT_MATCHES + """
+        HAVING score < :score OR (score = :score AND m.post_id < :id)
+        ORDER BY score DESC, m.post_id DESC
+        """, nativeQuery = true)
+    List<Object[]> searchFullTextAfter(@Param("query") String query,
+                                       @Param("commentWeight") double commentWeight,
+                                       @Param("score") BigDecimal score,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    default List<Object[]> searchFullTextByCursor(String query, double commentWeight, ScoreCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? searchFullTextFirstPage(query, commentWeight, pageable)
+                : searchFullTextAfter(query, commentWeight, cursor.score(), cursor.id(), pageable);
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.dataury.soloJ.domain.community.repository;
+
+import com.dataury.soloJ.domain.community.dto.PostListRow;
+import com.dataury.soloJ.domain.community.entity.status.PostCategory;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+// 게시글 목록 조회 (QueryDSL) - 작성자 프로필과 댓글/스크랩 수를 한 쿼리로
+public interface PostRepositoryCustom {
+
+    // 보이는 게시글 목록 - category / authorId / keyword 는 null 이면 조건 없음
+    Page<PostListRow> findListRows(PostCategory category, Long authorId, String keyword, Pageable pageable);
+
+    // 커서(createdAt, id) 다음 최신순 limit 개 - cursor 가 null 이면 첫 페이지
+    List<PostListRow> findListRowsByCursor(PostCategory category, Long authorId, String keyword,
+                                           KeysetCursor cursor, int limit);
+
+    // 게시글 id 목록의 행 (정렬은 호출 측에서 맞춤)
+    List<PostListRow> findListRowsByIds(Collection<Long> postIds);
+}
@@ -0,0 +1,124 @@
+package com.dataury.soloJ.domain.community.repository;
+
+import com.dataury.soloJ.domain.community.dto.PostListRow;
+import com.dataury.soloJ.domain.community.entity.Post;
+import com.dataury.soloJ.domain.community.entity.QPost;
+import com.dataury.soloJ.domain.community.entity.status.PostCategory;
+import com.dataury.soloJ.domain.user.entity.QUserProfile;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.KeysetPredicates;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+    private static final QPost post = QPost.post;
+    private static final QUserProfile profile = QUserProfile.userProfile;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<PostListRow> findListRows(PostCategory category, Long authorId, String keyword, Pageable pageable) {
+        BooleanBuilder where = visible(category, authorId, keyword);
+
+        List<PostListRow> content = selectRows()
+                .where(where)
+                .orderBy(orderBy(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지처럼 개수를 알 수 있으면 count 쿼리 생략
+        JPAQuery<Long> countQuery = queryFactory.select(post.count())
+                .from(post)
+                .where(where);
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<PostListRow> findListRowsByCursor(PostCategory category, Long authorId, String keyword,
+                                                  KeysetCursor cursor, int limit) {
+        return selectRows()
+                .where(visible(category, authorId, keyword),
+                        KeysetPredicates.before(post.createdAt, post.id, cursor))
+                .orderBy(KeysetPredicates.newestFirst(post.createdAt, post.id))
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<PostListRow> findListRowsByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return selectRows()
+                .where(post.id.in(postIds))
+                .fetch();
+    }
+
+    // 프로필은 없을 수 있으므로 left join (user 테이블은 FK 만 쓰므로 조인하지 않음)
+    private JPAQuery<PostListRow> selectRows() {
+        return queryFactory
+                .select(Projections.constructor(PostListRow.class,
+                        post.id,
+                        post.title,
+                        post.content,
+                        post.postCategory,
+                        post.user.id,
+                        profile.nickName,
+                        profile.imageUrl,
+                        post.commentCount,
+                        post.scrapCount,
+                        post.createdAt,
+                        post.thumbnailUrl))
+                .from(post)
+                .leftJoin(profile).on(profile.user.id.eq(post.user.id));
+    }
+
+    private BooleanBuilder visible(PostCategory category, Long authorId, String keyword) {
+        BooleanBuilder where = new BooleanBuilder()
+                .and(post.isVisible.isTrue())
+                .and(post.isDeleted.isFalse());
+        if (category != null) {
+            where.and(post.postCategory.eq(category));
+        }
+        if (authorId != null) {
+            where.and(post.user.id.eq(authorId));
+        }
+        if (keyword != null) {
+            where.and(post.title.contains(keyword).or(post.content.contains(keyword)));
+        }
+        return where;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] orderBy(Sort sort) {
+        PathBuilder<Post> path = new PathBuilder<>(Post.class, post.getMetadata());
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC,
+                    path.getComparable(order.getProperty(), Comparable.class)));
+        }
+        if (orders.isEmpty()) {
+            orders.add(post.createdAt.desc());
+        }
+        // 같은 값이 여러 페이지에 걸쳐도 순서가 흔들리지 않도록
+        orders.add(post.id.desc());
+        return orders.toArray(new OrderSpecifier[0]);
+    }
+}
@@ -1,6 +1,7 @@
 package com.dataury.soloJ.domain.community.repository;
 
 import com.dataury.soloJ.domain.community.entity.Scrap;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,7 +23,7 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
     @Query("SELECT s FROM Scrap s JOIN FETCH s.post WHERE s.user.id = :userId")
     Page<Scrap> findByUserIdWithPost(@Param("userId") Long userId, Pageable pageable);
 
-    // 커서 기반 스크랩 조회
+    // 커서 기반 스크랩 조회 (스크랩 시각, id 최신순)
     @Query("""
         SELECT s FROM Scrap s 
         JOIN FETCH s.post p
@@ -30,10 +31,30 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
         WHERE s.user.id = :userId 
         AND p.isVisible = true 
         AND p.isDeleted = false
-        AND (:cursor IS NULL OR s.createdAt < :cursor)
-        ORDER BY s.createdAt DESC
+        ORDER BY s.createdAt DESC, s.id DESC
     """)
-    List<Scrap> findByUserIdWithPostByCursor(@Param("userId") Long userId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    List<Scrap> findByUserIdWithPostFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        SELECT s FROM Scrap s 
+        JOIN FETCH s.post p
+        JOIN FETCH p.user u
+        WHERE s.user.id = :userId 
+        AND p.isVisible = true 
+        AND p.isDeleted = false
+        AND s.createdAt <= :createdAt AND (s.createdAt < :createdAt OR s.id < :id)
+        ORDER BY s.createdAt DESC, s.id DESC
+    """)
+    List<Scrap> findByUserIdWithPostAfter(@Param("userId") Long userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    default List<Scrap> findByUserIdWithPostByCursor(Long userId, KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findByUserIdWithPostFirstPage(userId, pageable)
+                : findByUserIdWithPostAfter(userId, cursor.createdAt(), cursor.id(), pageable);
+    }
     
     void deleteByUserIdAndPostId(Long userId, Long postId);
     
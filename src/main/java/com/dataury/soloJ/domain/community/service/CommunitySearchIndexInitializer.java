@@ -0,0 +1,67 @@
+package com.dataury.soloJ.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 커뮤니티 검색 FULLTEXT 인덱스 보장
+ * - 기존 DB 는 V4 마이그레이션이 만들지만, 새 DB 는 마이그레이션 시점에 테이블이 없어 건너뜀
+ * - JPA 인덱스 선언으로는 FULLTEXT/ngram 을 만들 수 없어 테이블 생성 후(기동 시) 없을 때만 같은 이름으로 생성
+ * - 인덱스가 준비되기 전(또는 생성 실패 시) 검색은 LIKE 로 동작
+ * - V5 와 같이 불용어를 끄고 생성 (ngram 은 불용어를 포함한 토큰을 버려 영문 검색어가 색인되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunitySearchIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        boolean posts = createIfAbsent("posts", "ft_posts_title_content", "title, content");
+        boolean comments = createIfAbsent("comments", "ft_comments_content", "content");
+        available = posts && comments;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private boolean createIfAbsent(String table, String index, String columns) {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+        if (exists != null && exists > 0) return true;
+
+        try {
+            // 세션 변수라 같은 커넥션에서 끄고, 생성 후 풀로 돌려주기 전에 다시 켬
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                    try {
+                        statement.execute("CREATE FULLTEXT INDEX " + index + " ON " + table + " (" + columns + ") WITH PARSER ngram");
+                    } finally {
+                        statement.execute("SET SESSION innodb_ft_enable_stopword = ON");
+                    }
+                }
+                return null;
+            });
+            log.info("FULLTEXT 인덱스 생성 - {}.{}", table, index);
+            return true;
+        } catch (Exception e) {
+            log.error("FULLTEXT 인덱스 생성 실패 - {}.{}", table, index, e);
+            return false;
+        }
+    }
+}
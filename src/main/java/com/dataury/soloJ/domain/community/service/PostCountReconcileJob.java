@@ -0,0 +1,41 @@
+package com.dataury.soloJ.domain.community.service;
+
+import com.dataury.soloJ.domain.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 댓글/스크랩 수(비정규화 컬럼) 대사 - 실제 개수와 다른 게시글만 다시 계산
+ * - 기동 시 한 번 실행해 컬럼 추가 직후의 기존 게시글도 채움
+ *   (이벤트 리스너도 프록시를 거쳐 잠금 - 여러 서버가 연달아 재시작해도 lockAtLeastFor 동안은 한 번만 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconcileJob {
+
+    private final PostRepository postRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "postCountReconcileOnStartup", lockAtMostFor = "PT30M", lockAtLeastFor = "PT10M")
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${community.counts.reconcile.cron:0 40 4 * * *}", zone = "Asia/Seoul")
+    @SchedulerLock(name = "postCountReconcile", lockAtMostFor = "PT30M")
+    public void reconcile() {
+        long mismatches = postRepository.countCountMismatches();
+        if (mismatches == 0) {
+            log.info("게시글 댓글/스크랩 수 대사 완료 - 불일치 없음");
+            return;
+        }
+        int updated = postRepository.recalculateCounts();
+        log.warn("게시글 댓글/스크랩 수 대사 - 불일치 {}건, {}건 재계산", mismatches, updated);
+    }
+}
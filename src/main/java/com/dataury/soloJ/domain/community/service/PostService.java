@@ -5,6 +5,7 @@ import com.dataury.soloJ.domain.chat.entity.JoinChat;
 import com.dataury.soloJ.domain.chat.entity.status.JoinChatStatus;
 import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
 import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
+import com.dataury.soloJ.domain.community.dto.PostListRow;
 import com.dataury.soloJ.domain.community.dto.PostRequestDto;
 import com.dataury.soloJ.domain.community.dto.PostResponseDto;
 import com.dataury.soloJ.domain.community.entity.Post;
@@ -22,20 +23,27 @@ import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.dto.CursorPageResponse;
 import com.dataury.soloJ.global.exception.GeneralException;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.KeysetSlice;
+import com.dataury.soloJ.global.pagination.ScoreCursor;
 import com.dataury.soloJ.global.security.SecurityUtils;
 import com.dataury.soloJ.global.security.UserPenaltyChecker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,6 +59,11 @@ public class PostService {
     private final UserPenaltyChecker userPenaltyChecker;
     private final ChatRoomRepository chatRoomRepository;
     private final JoinChatRepository joinChatRepository;
+    private final CommunitySearchIndexInitializer searchIndex;
+
+    // 검색 점수에서 댓글 일치가 차지하는 비중 (게시글 제목/본문 일치 = 1)
+    @Value("${community.search.comment-weight:0.5}")
+    private double commentWeight;
 
     @Transactional
     public PostResponseDto.PostCreateResponseDto createPost(PostRequestDto.CreatePostDto request) {
@@ -179,11 +192,8 @@ public class PostService {
     }
 
     public Page<PostResponseDto.PostListItemDto> getPostList(PostCategory category, Pageable pageable) {
-        Page<Post> posts = (category != null) 
-                ? postRepository.findByPostCategoryAndIsVisibleTrueAndIsDeletedFalse(category, pageable)
-                : postRepository.findByIsVisibleTrueAndIsDeletedFalse(pageable);
-
-        return posts.map(this::convertToListItemDto);
+        return postRepository.findListRows(category, null, null, pageable)
+                .map(PostResponseDto.PostListItemDto::of);
     }
 
     public PostResponseDto.PostDetailDto getPostDetail(Long postId) {
@@ -203,8 +213,8 @@ public class PostService {
                 .authorNickname(authorProfile != null ? authorProfile.getNickName() : "익명")
                 .authorId(post.getUser().getId())
                 .authorProfileImage(authorProfile != null ? authorProfile.getImageUrl() : null)
-                .commentCount(commentRepository.countByPostId(postId))
-                .scrapCount(scrapRepository.countByPostId(postId))
+                .commentCount(post.getCommentCount())
+                .scrapCount(post.getScrapCount())
                 .isScraped(currentUserId != null && scrapRepository.existsByUserIdAndPostId(currentUserId, postId))
                 .isMine(currentUserId != null && post.getUser().getId().equals(currentUserId))
                 .createdAt(post.getCreatedAt())
@@ -255,98 +265,77 @@ public class PostService {
         return builder.build();
     }
 
+    // 관련도 순 (정렬 파라미터는 무시), 전문 검색을 쓸 수 없는 검색어는 기존 LIKE 최신순
     public Page<PostResponseDto.PostListItemDto> searchPosts(String keyword, Pageable pageable) {
-        Page<Post> posts = postRepository.searchByKeyword(keyword, pageable);
-        
-        return posts.map(this::convertToListItemDto);
+        String query = toFullTextQuery(keyword);
+        if (query == null) {
+            return postRepository.findListRows(null, null, keyword, pageable)
+                    .map(PostResponseDto.PostListItemDto::of);
+        }
+        Page<Object[]> matches = postRepository.searchFullText(query, commentWeight,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        List<PostResponseDto.PostListItemDto> items = toListItems(matches.getContent().stream().map(PostService::matchedPostId).toList());
+        return new PageImpl<>(items, pageable, matches.getTotalElements());
     }
 
     public Page<PostResponseDto.PostListItemDto> getMyPosts(Long userId, Pageable pageable) {
-        Page<Post> posts = postRepository.findByUserIdAndIsVisibleTrueAndIsDeletedFalse(userId, pageable);
-        return posts.map(this::convertToListItemDto);
+        return postRepository.findListRows(null, userId, null, pageable)
+                .map(PostResponseDto.PostListItemDto::of);
     }
 
     public Page<PostResponseDto.PostListItemDto> getPostsWithMyComments(Long userId, Pageable pageable) {
         Page<Post> posts = postRepository.findCommentedPostsOrderByLatestMyComment(userId, pageable);
-        return posts.map(this::convertToListItemDto);
+        List<PostResponseDto.PostListItemDto> items = toListItems(posts.getContent().stream().map(Post::getId).toList());
+        return new PageImpl<>(items, pageable, posts.getTotalElements());
     }
 
     // ===== 커서 기반 페이지네이션 메서드들 =====
     
     public CursorPageResponse<PostResponseDto.PostListItemDto> getPostListByCursor(PostCategory category, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Post> posts = (category != null) 
-                ? postRepository.findByCategoryAndCursor(category, cursorDateTime, pageable)
-                : postRepository.findAllByCursor(cursorDateTime, pageable);
-        
-        return buildCursorPageResponse(posts, size);
+        List<PostListRow> rows = postRepository.findListRowsByCursor(category, null, null, KeysetCursor.decode(cursor), size + 1);
+        return buildCursorPageResponse(rows, size);
     }
     
+    // 인덱스 준비 여부가 바뀌면 다른 정렬의 커서가 들어올 수 있음 → 첫 페이지로 되돌리지 않고 거절
     public CursorPageResponse<PostResponseDto.PostListItemDto> searchPostsByCursor(String keyword, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Post> posts = postRepository.searchByKeywordAndCursor(keyword, cursorDateTime, pageable);
-        
-        return buildCursorPageResponse(posts, size);
+        String query = toFullTextQuery(keyword);
+        boolean hasCursor = cursor != null && !cursor.trim().isEmpty();
+        if (hasCursor && ScoreCursor.isScoreCursor(cursor) != (query != null)) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+        }
+        if (query == null) {
+            List<PostListRow> rows = postRepository.findListRowsByCursor(null, null, keyword, KeysetCursor.decode(cursor), size + 1);
+            return buildCursorPageResponse(rows, size);
+        }
+        List<Object[]> matches = postRepository.searchFullTextByCursor(query, commentWeight, ScoreCursor.decode(cursor), KeysetSlice.fetchPage(size));
+
+        // 커서는 (검색 점수, 게시글 id)
+        KeysetSlice<Object[]> slice = KeysetSlice.of(matches, size,
+                match -> new ScoreCursor((BigDecimal) match[1], matchedPostId(match)));
+        return slice.toResponse(toListItems(slice.rows().stream().map(PostService::matchedPostId).toList()));
     }
     
     public CursorPageResponse<PostResponseDto.PostListItemDto> getMyPostsByCursor(Long userId, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Post> posts = postRepository.findByUserIdAndCursor(userId, cursorDateTime, pageable);
-        
-        return buildCursorPageResponse(posts, size);
+        List<PostListRow> rows = postRepository.findListRowsByCursor(null, userId, null, KeysetCursor.decode(cursor), size + 1);
+        return buildCursorPageResponse(rows, size);
     }
     
+    // 예전 커서는 게시글 작성 시각이라 내 마지막 댓글 시각과 비교할 수 없음 → 거절 (처음부터 다시 조회)
     public CursorPageResponse<PostResponseDto.PostListItemDto> getPostsWithMyCommentsByCursor(Long userId, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Post> posts = postRepository.findCommentedPostsByUserIdAndCursor(userId, cursorDateTime, pageable);
-        
-        return buildCursorPageResponse(posts, size);
-    }
-
-    private CursorPageResponse<PostResponseDto.PostListItemDto> buildCursorPageResponse(List<Post> posts, int size) {
-        boolean hasNext = posts.size() > size;
-        if (hasNext) {
-            posts = posts.subList(0, size);
+        if (KeysetCursor.isLegacy(cursor)) {
+            throw new GeneralException(ErrorStatus.INVALID_CURSOR);
         }
-        
-        List<PostResponseDto.PostListItemDto> items = posts.stream()
-                .map(this::convertToListItemDto)
-                .collect(Collectors.toList());
-        
-        String nextCursor = hasNext && !posts.isEmpty() 
-                ? encodeCursor(posts.get(posts.size() - 1).getCreatedAt()) 
-                : null;
-        
-        return CursorPageResponse.<PostResponseDto.PostListItemDto>builder()
-                .content(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .size(items.size())
-                .build();
-    }
+        List<Object[]> keys = postRepository.findCommentedPostKeys(userId, KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
 
-    private String encodeCursor(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        String formatted = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return Base64.getEncoder().encodeToString(formatted.getBytes());
+        // 커서는 (내 마지막 댓글 시각, 게시글 id)
+        KeysetSlice<Object[]> slice = KeysetSlice.of(keys, size,
+                key -> new KeysetCursor((LocalDateTime) key[1], (Long) key[0]));
+        return slice.toResponse(toListItems(slice.rows().stream().map(key -> (Long) key[0]).toList()));
     }
 
-    private LocalDateTime decodeCursor(String cursor) {
-        if (cursor == null || cursor.trim().isEmpty()) return null;
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor));
-            return LocalDateTime.parse(decoded, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
+    private CursorPageResponse<PostResponseDto.PostListItemDto> buildCursorPageResponse(List<PostListRow> rows, int size) {
+        return KeysetSlice.of(rows, size, row -> new KeysetCursor(row.getCreatedAt(), row.getPostId()))
+                .map(PostResponseDto.PostListItemDto::of);
     }
 
     // ===== 관리자용 메서드 =====
@@ -404,7 +393,7 @@ public class PostService {
                 .authorId(post.getUser().getId())
                 .authorProfileImage(authorProfile != null ? authorProfile.getImageUrl() : null)
                 .commentCount(commentRepository.countByPostIdForAdmin(postId))
-                .scrapCount(scrapRepository.countByPostId(postId))
+                .scrapCount(post.getScrapCount())
                 .isVisible(post.isVisible())
                 .isDeleted(post.isDeleted())
                 .status(postStatus)
@@ -422,24 +411,29 @@ public class PostService {
                 .build();
     }
 
-    private PostResponseDto.PostListItemDto convertToListItemDto(Post post) {
-        UserProfile authorProfile = userProfileRepository.findByUser(post.getUser())
-                .orElse(null);
+    /**
+     * 검색어 → BOOLEAN MODE 구문 검색어 (LIKE '%keyword%' 와 같은 연속 일치)
+     * - ngram 토큰(2글자)보다 짧거나 인덱스가 준비되지 않았으면 null → LIKE 검색
+     */
+    private String toFullTextQuery(String keyword) {
+        if (keyword == null || !searchIndex.isAvailable()) return null;
+        String phrase = keyword.replace("\"", " ").trim().replaceAll("\\s+", " ");
+        if (phrase.replace(" ", "").length() < 2) return null;
+        return "\"" + phrase + "\"";
+    }
 
-        return PostResponseDto.PostListItemDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent().length() > 100 
-                        ? post.getContent().substring(0, 100) + "..." 
-                        : post.getContent())
-                .postCategory(post.getPostCategory())
-                .authorNickname(authorProfile != null ? authorProfile.getNickName() : "익명")
-                .authorId(post.getUser().getId())
-                .authorProfileImage(authorProfile != null ? authorProfile.getImageUrl() : null)
-                .commentCount(commentRepository.countByPostId(post.getId()))
-                .scrapCount(scrapRepository.countByPostId(post.getId()))
-                .createdAt(post.getCreatedAt())
-                .thumbnailUrl(post.getThumbnailUrl())
-                .build();
+    private static Long matchedPostId(Object[] match) {
+        return ((Number) match[0]).longValue();
+    }
+
+    // 이미 정해진 게시글 순서대로 목록 행을 한 번에 조회
+    private List<PostResponseDto.PostListItemDto> toListItems(List<Long> postIds) {
+        Map<Long, PostListRow> rowMap = postRepository.findListRowsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostListRow::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
+                .map(PostResponseDto.PostListItemDto::of)
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,31 @@
 package com.dataury.soloJ.domain.community.service;
 
+import com.dataury.soloJ.domain.community.dto.PostListRow;
 import com.dataury.soloJ.domain.community.dto.PostResponseDto;
 import com.dataury.soloJ.domain.community.entity.Post;
 import com.dataury.soloJ.domain.community.entity.Scrap;
-import com.dataury.soloJ.domain.community.repository.CommentRepository;
 import com.dataury.soloJ.domain.community.repository.PostRepository;
 import com.dataury.soloJ.domain.community.repository.ScrapRepository;
 import com.dataury.soloJ.domain.user.entity.User;
-import com.dataury.soloJ.domain.user.entity.UserProfile;
-import com.dataury.soloJ.domain.user.repository.UserProfileRepository;
 import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import com.dataury.soloJ.global.dto.CursorPageResponse;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.KeysetSlice;
 import com.dataury.soloJ.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,8 +36,6 @@ public class ScrapService {
     private final ScrapRepository scrapRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final UserProfileRepository userProfileRepository;
-    private final CommentRepository commentRepository;
 
     @Transactional
     public String toggleScrap(Long postId) {
@@ -53,6 +51,7 @@ public class ScrapService {
         
         if (existingScrap.isPresent()) {
             scrapRepository.delete(existingScrap.get());
+            postRepository.addScrapCount(postId, -1);
             return "스크랩이 취소되었습니다.";
         } else {
             Scrap scrap = Scrap.builder()
@@ -60,6 +59,7 @@ public class ScrapService {
                     .post(post)
                     .build();
             scrapRepository.save(scrap);
+            postRepository.addScrapCount(postId, 1);
             return "게시글이 스크랩되었습니다.";
         }
     }
@@ -67,73 +67,27 @@ public class ScrapService {
     public Page<PostResponseDto.PostListItemDto> getMyScrapList(Long userId, Pageable pageable) {
         Page<Scrap> scraps = scrapRepository.findByUserIdWithPost(userId, pageable);
         
-        return scraps.map(scrap -> convertToPostListItemDto(scrap));
+        return new PageImpl<>(toListItems(scraps.getContent()), pageable, scraps.getTotalElements());
     }
 
     // 커서 기반 스크랩 목록 조회
     public CursorPageResponse<PostResponseDto.PostListItemDto> getMyScrapListByCursor(Long userId, String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Scrap> scraps = scrapRepository.findByUserIdWithPostByCursor(userId, cursorDateTime, pageable);
-        
-        boolean hasNext = scraps.size() > size;
-        if (hasNext) {
-            scraps = scraps.subList(0, size);
-        }
-        
-        List<PostResponseDto.PostListItemDto> items = scraps.stream()
-                .map(this::convertToPostListItemDto)
-                .collect(Collectors.toList());
-        
-        String nextCursor = hasNext && !scraps.isEmpty() 
-                ? encodeCursor(scraps.get(scraps.size() - 1).getCreatedAt()) 
-                : null;
-        
-        return CursorPageResponse.<PostResponseDto.PostListItemDto>builder()
-                .content(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .size(items.size())
-                .build();
-    }
-
-    // Scrap을 PostListItemDto로 변환하는 공통 메서드
-    private PostResponseDto.PostListItemDto convertToPostListItemDto(Scrap scrap) {
-        Post post = scrap.getPost();
-        UserProfile authorProfile = userProfileRepository.findByUser(post.getUser())
-                .orElse(null);
-        
-        return PostResponseDto.PostListItemDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent().length() > 100 
-                        ? post.getContent().substring(0, 100) + "..." 
-                        : post.getContent())
-                .postCategory(post.getPostCategory())
-                .authorNickname(authorProfile != null ? authorProfile.getNickName() : "익명")
-                .authorId(post.getUser().getId())
-                .authorProfileImage(authorProfile != null ? authorProfile.getImageUrl() : null)
-                .commentCount(commentRepository.countByPostId(post.getId()))
-                .scrapCount(scrapRepository.countByPostId(post.getId()))
-                .createdAt(post.getCreatedAt())
-                .thumbnailUrl(post.getThumbnailUrl())
-                .build();
-    }
+        List<Scrap> scraps = scrapRepository.findByUserIdWithPostByCursor(
+                userId, KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
 
-    private String encodeCursor(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        String formatted = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return Base64.getEncoder().encodeToString(formatted.getBytes());
+        KeysetSlice<Scrap> slice = KeysetSlice.of(scraps, size, scrap -> new KeysetCursor(scrap.getCreatedAt(), scrap.getId()));
+        return slice.toResponse(toListItems(slice.rows()));
     }
 
-    private LocalDateTime decodeCursor(String cursor) {
-        if (cursor == null || cursor.trim().isEmpty()) return null;
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor));
-            return LocalDateTime.parse(decoded, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
+    // 스크랩 순서대로 게시글 목록 행을 한 번에 조회
+    private List<PostResponseDto.PostListItemDto> toListItems(List<Scrap> scraps) {
+        Map<Long, PostListRow> rowMap = postRepository.findListRowsByIds(
+                        scraps.stream().map(scrap -> scrap.getPost().getId()).toList()).stream()
+                .collect(Collectors.toMap(PostListRow::getPostId, Function.identity()));
+        return scraps.stream()
+                .map(scrap -> rowMap.get(scrap.getPost().getId()))
+                .filter(Objects::nonNull)
+                .map(PostResponseDto.PostListItemDto::of)
+                .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
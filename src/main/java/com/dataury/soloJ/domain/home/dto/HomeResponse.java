@@ -64,5 +64,6 @@ public class HomeResponse {
         private LocalDateTime scheduledDate;
         private Gender genderRestriction;  // 채팅방 성별 제한
         private Boolean hasUnreadMessages; // 읽지 않은 메시지 여부 (마이페이지용)
+        private Long unreadCount; // 읽지 않은 메시지 수 (마이페이지용)
     }
 }
\ No newline at end of file
@@ -26,13 +26,13 @@ public class MyPageController {
     private final UserService userService;
 
     @GetMapping("/chatrooms")
-    @Operation(summary = "사용자 동행방 목록 조회", description = "커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "사용자 동행방 목록 조회", description = "cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyChatRooms(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size
     ) {
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyChatRoomsByCursor(cursor, size));
         } else {
@@ -43,13 +43,13 @@ public class MyPageController {
     }
 
     @GetMapping("/scraps")
-    @Operation(summary = "내 스크랩 목록", description = "내가 스크랩한 게시글 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "내 스크랩 목록", description = "내가 스크랩한 게시글 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyScrapList(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyScrapListByCursor(cursor, size));
         } else {
@@ -60,13 +60,13 @@ public class MyPageController {
     }
 
     @GetMapping("/posts")
-    @Operation(summary = "내가 쓴 게시글 목록", description = "내가 작성한 게시글 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "내가 쓴 게시글 목록", description = "내가 작성한 게시글 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyPosts(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyPostsByCursor(cursor, size));
         } else {
@@ -77,13 +77,13 @@ public class MyPageController {
     }
 
     @GetMapping("/commented-posts")
-    @Operation(summary = "내가 댓글 단 게시글 목록", description = "내가 댓글을 단 게시글 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "내가 댓글 단 게시글 목록", description = "내가 댓글을 단 게시글 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyCommentedPosts(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyCommentedPostsByCursor(cursor, size));
         } else {
@@ -94,13 +94,13 @@ public class MyPageController {
     }
 
     @GetMapping("/reviews")
-    @Operation(summary = "내가 쓴 리뷰 목록", description = "내가 작성한 리뷰 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "내가 쓴 리뷰 목록", description = "내가 작성한 리뷰 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyReviews(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyReviewsByCursor(cursor, size));
         } else {
@@ -116,6 +116,12 @@ public class MyPageController {
         boolean hasUnread = messageReadQueryService.hasAnyUnreadMessages();
         return ApiResponse.onSuccess(hasUnread);
     }
+
+    @GetMapping("/unread-messages/count")
+    @Operation(summary = "읽지 않은 채팅 메시지 수 조회", description = "참여 중인 전체 채팅방의 읽지 않은 메시지 수 합계를 조회합니다.")
+    public ApiResponse<Long> getUnreadMessageCount() {
+        return ApiResponse.onSuccess(messageReadQueryService.getTotalUnreadCount());
+    }
     
     @GetMapping("/profile")
     @Operation(summary = "내 프로필 조회", description = "현재 로그인한 사용자의 프로필 정보를 조회합니다.")
@@ -143,13 +149,13 @@ public class MyPageController {
     }
 
     @GetMapping("/plans")
-    @Operation(summary = "내 계획 목록", description = "내가 작성한 계획 목록을 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "내 계획 목록", description = "내가 작성한 계획 목록을 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     public ApiResponse<?> getMyPlans(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
 
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(myPageFacadeService.getMyPlansByCursor(cursor, size));
         } else {
@@ -44,6 +44,7 @@ public class MyPageFacadeService {
                 .scheduledDate(room.getJoinDate())
                 .genderRestriction(room.getGenderRestriction())
                 .hasUnreadMessages(room.getHasUnreadMessages()) // 안읽은 메시지 여부 추가
+                .unreadCount(room.getUnreadCount())
                 .build());
     }
 
@@ -84,6 +85,7 @@ public class MyPageFacadeService {
                         .scheduledDate(room.getJoinDate())
                         .genderRestriction(room.getGenderRestriction())
                         .hasUnreadMessages(room.getHasUnreadMessages()) // 안읽은 메시지 여부 추가
+                        .unreadCount(room.getUnreadCount())
                         .build())
                 .toList();
         return CursorPageResponse.<HomeResponse.OpenChatRoomDto>builder()
@@ -0,0 +1,136 @@
+package com.dataury.soloJ.domain.notification.service;
+
+import com.dataury.soloJ.domain.notification.entity.status.ResourceType;
+import com.dataury.soloJ.domain.notification.entity.status.Type;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅 알림 배치 처리
+ * - 짧은 구간 동안 (수신자, 채팅방) 단위로 알림을 합쳐서
+ * - notifications 테이블에 JDBC 배치 insert 하고
+ * - 같은 내용의 푸시는 멀티캐스트(500개 단위)로 전송
+ * - 푸시(FCM HTTP 호출)는 insert 트랜잭션 커밋 후에 보냄 (DB 커넥션을 잡고 외부 호출을 기다리지 않도록)
+ * - insert 가 실패하면 묶음을 버퍼에 되돌려 다음 flush 에서 다시 시도 (푸시도 그때 함께)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatNotificationBatcher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FCMService fcmService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (type, message, resource_type, resource_id, is_read, user_id, created_date, modified_date)
+            VALUES (?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private final Object lock = new Object();
+    private Map<Key, Pending> buffer = new LinkedHashMap<>();
+
+    /**
+     * 채팅 알림 적재 - 같은 구간 안에서 같은 (수신자, 채팅방) 알림은 마지막 발신자 기준 1건으로 합침
+     */
+    public void enqueue(Long receiverId, String fcmToken, String senderName, Long chatRoomId) {
+        synchronized (lock) {
+            buffer.put(new Key(receiverId, chatRoomId), new Pending(fcmToken, senderName));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.notification.flush-interval-ms:1000}")
+    public void flush() {
+        Map<Key, Pending> snapshot;
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            snapshot = buffer;
+            buffer = new LinkedHashMap<>();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertNotifications(snapshot));
+        } catch (RuntimeException e) {
+            requeue(snapshot);
+            throw e;
+        }
+        sendPushNotifications(snapshot);
+    }
+
+    // insert 실패(롤백)한 묶음은 다음 flush 에 다시 시도 - 그 사이 같은 (수신자, 채팅방) 알림이 새로 들어왔으면 새 것을 유지
+    private void requeue(Map<Key, Pending> failed) {
+        synchronized (lock) {
+            Map<Key, Pending> merged = new LinkedHashMap<>(failed);
+            merged.putAll(buffer);
+            buffer = merged;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("종료 시 채팅 알림 flush 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void insertNotifications(Map<Key, Pending> snapshot) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Map.Entry<Key, Pending>> rows = new ArrayList<>(snapshot.entrySet());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, Type.MESSAGE.name());
+            ps.setString(2, NotificationService.buildChatMessage(row.getValue().senderName()));
+            ps.setString(3, ResourceType.CHAT.name());
+            ps.setLong(4, row.getKey().chatRoomId());
+            ps.setLong(5, row.getKey().receiverId());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    // 알림 문구가 같은 (같은 방, 같은 발신자) 수신자끼리 묶어서 멀티캐스트
+    private void sendPushNotifications(Map<Key, Pending> snapshot) {
+        Map<PushGroup, List<String>> tokensByGroup = new LinkedHashMap<>();
+        snapshot.forEach((key, pending) -> {
+            if (pending.fcmToken() == null || pending.fcmToken().isEmpty()) {
+                return;
+            }
+            tokensByGroup.computeIfAbsent(new PushGroup(key.chatRoomId(), pending.senderName()), g -> new ArrayList<>())
+                    .add(pending.fcmToken());
+        });
+
+        String title = NotificationService.getNotificationTitle(Type.MESSAGE);
+        tokensByGroup.forEach((group, tokens) -> fcmService.sendMultiplePushNotifications(
+                tokens,
+                title,
+                NotificationService.buildChatMessage(group.senderName()),
+                Map.of(
+                        "resourceType", ResourceType.CHAT.name(),
+                        "resourceId", String.valueOf(group.chatRoomId())
+                )
+        ));
+    }
+
+    private record Key(Long receiverId, Long chatRoomId) {}
+
+    private record Pending(String fcmToken, String senderName) {}
+
+    private record PushGroup(Long chatRoomId, String senderName) {}
+}
@@ -9,6 +9,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,6 +18,8 @@ import java.util.stream.Collectors;
 public class FCMService {
     private final UserRepository userRepository;
 
+    private static final int MULTICAST_MAX_TOKENS = 500; // FCM 멀티캐스트 1회 최대 토큰 수
+
     @Async
     public void sendPushNotification(String fcmToken, String title, String body, Long notificationId) {
 
@@ -55,11 +58,7 @@ public class FCMService {
             String response = FirebaseMessaging.getInstance().send(message);
         } catch (FirebaseMessagingException e) {
             if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
-                userRepository.findByFcmToken(fcmToken)
-                        .ifPresent(user -> {
-                            user.updateFcmToken(null);
-                            userRepository.save(user);
-                        });
+                clearUnregisteredToken(fcmToken);
             }
         } catch (IllegalStateException e) {
         } catch (Exception e) {
@@ -67,6 +66,13 @@ public class FCMService {
     }
 
     public void sendMultiplePushNotifications(List<String> fcmTokens, String title, String body, Long notificationId) {
+        sendMultiplePushNotifications(fcmTokens, title, body, Map.of("notificationId", String.valueOf(notificationId)));
+    }
+
+    /**
+     * 같은 내용의 푸시를 여러 토큰에 전송 (500개 단위로 나눠 sendEachForMulticast)
+     */
+    public void sendMultiplePushNotifications(List<String> fcmTokens, String title, String body, Map<String, String> data) {
         if (fcmTokens == null || fcmTokens.isEmpty()) {
             return;
         }
@@ -78,20 +84,24 @@ public class FCMService {
 
         List<String> validTokens = fcmTokens.stream()
                 .filter(token -> token != null && !token.isEmpty())
+                .distinct()
                 .collect(Collectors.toList());
 
-        if (validTokens.isEmpty()) {
-            return;
+        for (int from = 0; from < validTokens.size(); from += MULTICAST_MAX_TOKENS) {
+            List<String> chunk = validTokens.subList(from, Math.min(from + MULTICAST_MAX_TOKENS, validTokens.size()));
+            sendMulticastChunk(chunk, title, body, data);
         }
+    }
 
+    private void sendMulticastChunk(List<String> tokens, String title, String body, Map<String, String> data) {
         try {
             MulticastMessage message = MulticastMessage.builder()
-                    .addAllTokens(validTokens)
+                    .addAllTokens(tokens)
                     .setNotification(Notification.builder()
                             .setTitle(title)
                             .setBody(body)
                             .build())
-                    .putData("notificationId", String.valueOf(notificationId))
+                    .putAllData(data)
                     .setAndroidConfig(AndroidConfig.builder()
                             .setPriority(AndroidConfig.Priority.HIGH)
                             .setNotification(AndroidNotification.builder()
@@ -105,22 +115,38 @@ public class FCMService {
                             .build())
                     .build();
 
-            BatchResponse response = FirebaseMessaging.getInstance().sendMulticast(message);
+            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
             
             if (response.getFailureCount() > 0) {
                 List<SendResponse> responses = response.getResponses();
                 for (int i = 0; i < responses.size(); i++) {
-                    if (!responses.get(i).isSuccessful()) {
-                        log.warn("Failed to send FCM to token: {}, error: {}", 
-                                validTokens.get(i), responses.get(i).getException());
+                    SendResponse sendResponse = responses.get(i);
+                    if (sendResponse.isSuccessful()) {
+                        continue;
+                    }
+                    FirebaseMessagingException exception = sendResponse.getException();
+                    if (exception != null && exception.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                        clearUnregisteredToken(tokens.get(i));
+                    } else {
+                        log.warn("Failed to send FCM to token: {}, error: {}", tokens.get(i), exception);
                     }
                 }
             }
 
         } catch (FirebaseMessagingException e) {
+            log.warn("FCM multicast failed - tokens: {}, error: {}", tokens.size(), e.getMessage());
         } catch (Exception e) {
+            log.warn("FCM multicast failed - tokens: {}, error: {}", tokens.size(), e.getMessage());
         }
     }
+
+    private void clearUnregisteredToken(String fcmToken) {
+        userRepository.findByFcmToken(fcmToken)
+                .ifPresent(user -> {
+                    user.updateFcmToken(null);
+                    userRepository.save(user);
+                });
+    }
     
     /**
      * Firebase가 올바르게 초기화되었는지 확인
@@ -126,7 +126,7 @@ public class NotificationService {
         }
     }
     
-    private String getNotificationTitle(Type type) {
+    static String getNotificationTitle(Type type) {
         switch (type) {
             case MESSAGE:
                 return "새로운 메시지";
@@ -147,8 +147,11 @@ public class NotificationService {
     
     @Transactional
     public void createChatNotification(User receiver, String senderName, Long chatRoomId) {
-        String message = senderName + "님이 새로운 메시지를 보냈습니다.";
-        createNotification(receiver, Type.MESSAGE, message, ResourceType.CHAT, chatRoomId);
+        createNotification(receiver, Type.MESSAGE, buildChatMessage(senderName), ResourceType.CHAT, chatRoomId);
+    }
+
+    static String buildChatMessage(String senderName) {
+        return senderName + "님이 새로운 메시지를 보냈습니다.";
     }
     
     @Transactional
@@ -21,12 +21,14 @@ import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import com.dataury.soloJ.global.security.SecurityUtils;
+import com.dataury.soloJ.global.security.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,6 +51,7 @@ public class AdminManagementService {
     private final CommentRepository commentRepository;
     private final InquiryRepository inquiryRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ===== 대시보드 & 신고 관리 =====
     
@@ -301,6 +304,7 @@ public class AdminManagementService {
         }
 
         userPenaltyRepository.save(penalty);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
         
         Long adminId = SecurityUtils.getCurrentUserId();
         UserPenaltyHistory history = UserPenaltyHistory.builder()
@@ -336,6 +340,7 @@ public class AdminManagementService {
             case "inactive" -> user.deactivate();
         }
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
     }
 
     public void sendUserActionNotification(NotificationDto.UserActionDto dto) {
@@ -466,6 +471,7 @@ public class AdminManagementService {
                 .orElseThrow(() -> new GeneralException(ErrorStatus.COMMENT_NOT_FOUND));
             
             contentOwner = comment.getUser();
+            boolean wasCounted = comment.isCounted();
             
             switch (actionDto.getActionType()) {
                 case "hide" -> comment.hide();
@@ -475,6 +481,7 @@ public class AdminManagementService {
             }
             
             commentRepository.save(comment);
+            updateCommentCount(comment, wasCounted);
         } else {
             throw new GeneralException(ErrorStatus.UNKNOWN_CONTENT_TYPE);
         }
@@ -513,6 +520,7 @@ public class AdminManagementService {
         } else if ("comment".equals(contentType)) {
             Comment comment = commentRepository.findById(contentId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.COMMENT_NOT_FOUND));
+            boolean wasCounted = comment.isCounted();
             
             switch (status) {
                 case "visible" -> comment.show();
@@ -520,12 +528,20 @@ public class AdminManagementService {
                 case "deleted" -> comment.delete();
             }
             commentRepository.save(comment);
+            updateCommentCount(comment, wasCounted);
             
         } else {
             throw new GeneralException(ErrorStatus.UNKNOWN_CONTENT_TYPE);
         }
     }
 
+    // 숨김/삭제/복구로 댓글 수에 포함 여부가 바뀌면 게시글 댓글 수 반영
+    private void updateCommentCount(Comment comment, boolean wasCounted) {
+        if (wasCounted != comment.isCounted()) {
+            postRepository.addCommentCount(comment.getPost().getId(), comment.isCounted() ? 1 : -1);
+        }
+    }
+
     public List<AutoActionRuleDto> getAutoActionRules() {
         return List.of(
             AutoActionRuleDto.builder()
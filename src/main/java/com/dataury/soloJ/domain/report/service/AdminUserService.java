@@ -9,9 +9,11 @@ import com.dataury.soloJ.domain.report.repository.UserPenaltyHistoryRepository;
 import com.dataury.soloJ.domain.report.repository.UserPenaltyRepository;
 import com.dataury.soloJ.domain.user.entity.User;
 import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.global.security.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class AdminUserService {
     private final UserPenaltyRepository userPenaltyRepository;
     private final UserPenaltyHistoryRepository historyRepository;
     private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ReportedUserDto> getReportedUsers(int page, int limit, String status, String search) {
         Pageable pageable = PageRequest.of(page - 1, limit);
@@ -78,6 +81,7 @@ public class AdminUserService {
         }
 
         userPenaltyRepository.save(penalty);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
 
         // Save action history
         UserPenaltyHistory history = UserPenaltyHistory.builder()
@@ -105,6 +109,7 @@ public class AdminUserService {
         }
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
     }
 
     private ReportedUserDto convertToReportedUserDto(User user) {
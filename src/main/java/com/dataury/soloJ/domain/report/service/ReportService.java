@@ -16,10 +16,12 @@ import com.dataury.soloJ.domain.report.repository.UserPenaltyRepository;
 import com.dataury.soloJ.domain.user.entity.User;
 import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.security.SecurityUtils;
+import com.dataury.soloJ.global.security.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,7 @@ public class ReportService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 신고 사유 상수
     private static final Map<String, String> REPORT_REASONS = Map.of(
@@ -188,6 +191,7 @@ public class ReportService {
         if (penalty.getPenaltyLevel() == 3) {
             penalty.getUser().deactivate(); // ✅ User 엔티티에 추가한 메서드 사용
             savePenaltyHistory(penalty, "SUSPEND_CONFIRMED");
+            eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
         }
     }
 
@@ -427,6 +431,7 @@ public class ReportService {
 
         applyPenaltyRule(penalty);
         userPenaltyRepository.save(penalty);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(targetUser.getId()));
     }
     
     private String getReasonDescription(String reasonCode) {
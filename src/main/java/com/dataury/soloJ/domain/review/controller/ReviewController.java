@@ -85,16 +85,16 @@ public class ReviewController {
 
     // 전체 리뷰 조회
     @GetMapping("/all")
-    @Operation(summary = "전체 리뷰 목록 조회", description = "모든 리뷰를 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다.")
+    @Operation(summary = "전체 리뷰 목록 조회", description = "모든 리뷰를 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
     })
     public ApiResponse<?> getAllReviews(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
         
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(reviewService.getAllReviewsByCursor(cursor, size));
         } else {
@@ -106,16 +106,16 @@ public class ReviewController {
 
     // 내가 쓴 리뷰 조회
     @GetMapping("/my")
-    @Operation(summary = "내가 쓴 리뷰 목록 조회", description = "내가 작성한 리뷰를 조회합니다. 커서가 제공되면 커서 기반 페이지네이션을 사용하고, 없으면 offset 기반을 사용합니다. 토큰 필요.")
+    @Operation(summary = "내가 쓴 리뷰 목록 조회", description = "내가 작성한 리뷰를 조회합니다. cursor 파라미터가 있으면 커서 기반 페이지네이션을 사용하고(cursor= 로 첫 페이지), 없으면 offset 기반을 사용합니다. 토큰 필요.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
     })
     public ApiResponse<?> getMyReviews(
-            @Parameter(description = "커서 (커서 기반 페이지네이션용)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 (커서 기반 페이지네이션용, 빈 값이면 첫 페이지)") @RequestParam(required = false) String cursor,
             @Parameter(description = "페이지 번호 (offset 기반용)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
         
-        if (cursor != null && !cursor.trim().isEmpty()) {
+        if (cursor != null) {
             // 커서 기반 페이지네이션
             return ApiResponse.onSuccess(reviewService.getMyReviewsByCursor(cursor, size));
         } else {
@@ -9,13 +9,18 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        @Index(name = "idx_reviews_created", columnList = "created_date, id"),
+        @Index(name = "idx_reviews_user_created", columnList = "user_id, created_date, id"),
+        @Index(name = "idx_reviews_spot_created", columnList = "tourist_spot_id, created_date, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -50,10 +55,12 @@ public class Review extends BaseEntity {
     private String thumbnailName;
 
     @Builder.Default
+    @BatchSize(size = 100) // 목록 조회 시 여러 리뷰의 태그/이미지를 IN 쿼리 한 번으로
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewTag> reviewTags = new ArrayList<>();
 
     @Builder.Default
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewImage> images = new ArrayList<>();
 
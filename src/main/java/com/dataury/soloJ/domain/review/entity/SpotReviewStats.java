@@ -0,0 +1,76 @@
+package com.dataury.soloJ.domain.review.entity;
+
+import com.dataury.soloJ.domain.review.entity.status.Difficulty;
+import com.dataury.soloJ.domain.review.entity.status.ReviewTags;
+import com.dataury.soloJ.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 관광지별 리뷰 통계 (목록 화면용 비정규화 projection)
+ * - 리뷰 생성/수정/삭제 시 변경분만 더하고 빼서 유지, 목록은 contentId IN 한 번으로 조회
+ * - 평균 별점/대표 난이도는 누적값에서 바로 계산
+ */
+@Entity
+@Table(name = "spot_review_stats")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class SpotReviewStats extends BaseEntity {
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Column(nullable = false)
+    private int reviewCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private int ratingCount;
+
+    @Column(nullable = false)
+    private int easyCount;
+
+    @Column(nullable = false)
+    private int mediumCount;
+
+    @Column(nullable = false)
+    private int hardCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private ReviewTags topTag;
+
+    public void update(int reviewCount, long ratingSum, int ratingCount,
+                       int easyCount, int mediumCount, int hardCount, ReviewTags topTag) {
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+        this.ratingCount = ratingCount;
+        this.easyCount = easyCount;
+        this.mediumCount = mediumCount;
+        this.hardCount = hardCount;
+        this.topTag = topTag;
+    }
+
+    public void updateTopTag(ReviewTags topTag) {
+        this.topTag = topTag;
+    }
+
+    // 별점이 있는 리뷰가 없으면 null
+    public Double getAverageRating() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : null;
+    }
+
+    // 가장 많이 선택된 난이도 (동점이면 EASY > MEDIUM > HARD, 없으면 NONE)
+    public Difficulty getMainDifficulty() {
+        int max = Math.max(easyCount, Math.max(mediumCount, hardCount));
+        if (max == 0) return Difficulty.NONE;
+        if (easyCount == max) return Difficulty.EASY;
+        if (mediumCount == max) return Difficulty.MEDIUM;
+        return Difficulty.HARD;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dataury.soloJ.domain.review.entity;
+
+import com.dataury.soloJ.domain.review.entity.status.ReviewTags;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 관광지별 리뷰 태그 선택 수 (대표 태그 계산용)
+ */
+@Entity
+@Table(name = "spot_tag_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_spot_tag_stats", columnNames = {"content_id", "tag"}))
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Builder
+public class SpotTagStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ReviewTags tag;
+
+    @Column(nullable = false)
+    private int cnt;
+}
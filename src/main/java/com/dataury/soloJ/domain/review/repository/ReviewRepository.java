@@ -3,6 +3,7 @@ package com.dataury.soloJ.domain.review.repository;
 import com.dataury.soloJ.domain.review.entity.Review;
 import com.dataury.soloJ.domain.review.entity.status.Difficulty;
 import com.dataury.soloJ.domain.review.dto.ReviewImageRow;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +24,25 @@ public interface ReviewRepository extends JpaRepository<Review,Long> {
             "ORDER BY COUNT(r) DESC")
     List<Difficulty> findDifficultiesByPopularity(@Param("spotId") Long spotId);
 
+    // 관광지별 리뷰 통계 원본 값 [contentId, 리뷰 수, 별점 합, 별점 수, EASY 수, MEDIUM 수, HARD 수]
+    @Query("SELECT r.touristSpot.contentId, COUNT(r), COALESCE(SUM(r.rating), 0), COUNT(r.rating), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.EASY THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.MEDIUM THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.HARD THEN 1 ELSE 0 END) " +
+            "FROM Review r " +
+            "WHERE r.touristSpot.contentId IN :contentIds " +
+            "GROUP BY r.touristSpot.contentId")
+    List<Object[]> aggregateStatsByContentIds(@Param("contentIds") Collection<Long> contentIds);
+
+    @Query("SELECT r.touristSpot.contentId, COUNT(r), COALESCE(SUM(r.rating), 0), COUNT(r.rating), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.EASY THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.MEDIUM THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN r.difficulty = com.dataury.soloJ.domain.review.entity.status.Difficulty.HARD THEN 1 ELSE 0 END) " +
+            "FROM Review r " +
+            "WHERE r.touristSpot.contentId IS NOT NULL " +
+            "GROUP BY r.touristSpot.contentId")
+    List<Object[]> aggregateStatsForAllSpots();
+
     // ReviewRepository
     @Query("""
         select distinct r
@@ -88,42 +109,77 @@ public interface ReviewRepository extends JpaRepository<Review,Long> {
 
     // 전체 리뷰 조회 (offset 기반)
     @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot", "images"})
-    @Query("select r from Review r order by r.createdAt desc")
+    @Query("select r from Review r order by r.createdAt desc, r.id desc")
     org.springframework.data.domain.Page<Review> findAllReviews(Pageable pageable);
 
+    // 커서 기반 조회는 (createdAt, id) 키셋 - 첫 페이지/다음 페이지를 나눠 조건에 "커서 IS NULL OR" 가 남지 않게 함
+    // 컬렉션(images, reviewTags)은 fetch join 하면 limit 이 메모리에서 적용되므로 @BatchSize 로 따로 읽음
+
     // 전체 리뷰 조회 (커서 기반)
-    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot", "images"})
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
+    @Query("select r from Review r order by r.createdAt desc, r.id desc")
+    List<Review> findAllReviewsFirstPage(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
     @Query("""
         select r from Review r 
-        where :cursor is null or r.createdAt < :cursor
-        order by r.createdAt desc
+        where r.createdAt <= :createdAt and (r.createdAt < :createdAt or r.id < :id)
+        order by r.createdAt desc, r.id desc
     """)
-    List<Review> findAllReviewsByCursor(@Param("cursor") LocalDateTime cursor, Pageable pageable);
+    List<Review> findAllReviewsAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    default List<Review> findAllReviewsByCursor(KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findAllReviewsFirstPage(pageable)
+                : findAllReviewsAfter(cursor.createdAt(), cursor.id(), pageable);
+    }
 
     // 내가 쓴 리뷰 조회 (offset 기반)
     @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
-    @Query("select r from Review r where r.user.id = :userId order by r.createdAt desc")
+    @Query("select r from Review r where r.user.id = :userId order by r.createdAt desc, r.id desc")
     org.springframework.data.domain.Page<Review> findMyReviews(@Param("userId") Long userId, Pageable pageable);
 
     // 내가 쓴 리뷰 조회 (커서 기반)
-    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot", "images"})
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
+    @Query("select r from Review r where r.user.id = :userId order by r.createdAt desc, r.id desc")
+    List<Review> findMyReviewsFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
     @Query("""
         select r from Review r 
         where r.user.id = :userId
-        and (:cursor is null or r.createdAt < :cursor)
-        order by r.createdAt desc
+        and r.createdAt <= :createdAt and (r.createdAt < :createdAt or r.id < :id)
+        order by r.createdAt desc, r.id desc
     """)
-    List<Review> findMyReviewsByCursor(@Param("userId") Long userId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    List<Review> findMyReviewsAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id, Pageable pageable);
+
+    default List<Review> findMyReviewsByCursor(Long userId, KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findMyReviewsFirstPage(userId, pageable)
+                : findMyReviewsAfter(userId, cursor.createdAt(), cursor.id(), pageable);
+    }
 
     // 관광지별 리뷰 조회 (커서 기반)
-    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot", "images"})
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
+    @Query("select r from Review r where r.touristSpot.contentId = :spotId order by r.createdAt desc, r.id desc")
+    List<Review> findBySpotFirstPage(@Param("spotId") Long spotId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "user.userProfile", "touristSpot"})
     @Query("""
         select r from Review r 
         where r.touristSpot.contentId = :spotId
-        and (:cursor is null or r.createdAt < :cursor)
-        order by r.createdAt desc
+        and r.createdAt <= :createdAt and (r.createdAt < :createdAt or r.id < :id)
+        order by r.createdAt desc, r.id desc
     """)
-    List<Review> findBySpotByCursor(@Param("spotId") Long spotId, @Param("cursor") LocalDateTime cursor, Pageable pageable);
+    List<Review> findBySpotAfter(@Param("spotId") Long spotId, @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id, Pageable pageable);
+
+    default List<Review> findBySpotByCursor(Long spotId, KeysetCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findBySpotFirstPage(spotId, pageable)
+                : findBySpotAfter(spotId, cursor.createdAt(), cursor.id(), pageable);
+    }
 
     // 관광지별 평균 별점 계산
     @Query("select AVG(CAST(r.rating as double)) from Review r where r.touristSpot.contentId = :contentId and r.rating is not null")
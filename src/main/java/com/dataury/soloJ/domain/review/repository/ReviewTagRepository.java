@@ -16,5 +16,18 @@ public interface ReviewTagRepository extends JpaRepository<ReviewTag, Long> {
             "ORDER BY COUNT(rt) DESC")
     List<ReviewTags> findTagsByPopularity(@Param("spotId") Long spotId);
 
+    // 관광지별 태그 선택 수 [contentId, tag, 개수]
+    @Query("SELECT rt.review.touristSpot.contentId, rt.tag, COUNT(rt) " +
+            "FROM ReviewTag rt " +
+            "WHERE rt.review.touristSpot.contentId IS NOT NULL AND rt.tag is not null " +
+            "GROUP BY rt.review.touristSpot.contentId, rt.tag")
+    List<Object[]> countTagsForAllSpots();
+
+    @Query("SELECT rt.tag, COUNT(rt) " +
+            "FROM ReviewTag rt " +
+            "WHERE rt.review.touristSpot.contentId = :spotId AND rt.tag is not null " +
+            "GROUP BY rt.tag")
+    List<Object[]> countTagsByContentId(@Param("spotId") Long spotId);
+
 
 }
@@ -0,0 +1,58 @@
+package com.dataury.soloJ.domain.review.repository;
+
+import com.dataury.soloJ.domain.review.entity.SpotReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SpotReviewStatsRepository extends JpaRepository<SpotReviewStats, Long> {
+
+    // 리뷰 1건 변경분만큼 누적값 증감 (행이 없으면 0 반환 → 호출 측에서 전체 재계산)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE spot_review_stats
+            SET review_count = review_count + :reviewDelta,
+                rating_sum = rating_sum + :ratingSumDelta,
+                rating_count = rating_count + :ratingCountDelta,
+                easy_count = easy_count + :easyDelta,
+                medium_count = medium_count + :mediumDelta,
+                hard_count = hard_count + :hardDelta,
+                modified_date = NOW()
+            WHERE content_id = :contentId
+            """, nativeQuery = true)
+    int applyDelta(@Param("contentId") Long contentId,
+                   @Param("reviewDelta") int reviewDelta,
+                   @Param("ratingSumDelta") long ratingSumDelta,
+                   @Param("ratingCountDelta") int ratingCountDelta,
+                   @Param("easyDelta") int easyDelta,
+                   @Param("mediumDelta") int mediumDelta,
+                   @Param("hardDelta") int hardDelta);
+
+    // 전체 재계산 값으로 덮어쓰기 (행이 없으면 생성 - 첫 통계 행을 동시에 만들어도 PK 충돌 없음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO spot_review_stats
+                (content_id, review_count, rating_sum, rating_count, easy_count, medium_count, hard_count, top_tag,
+                 created_date, modified_date)
+            VALUES (:contentId, :reviewCount, :ratingSum, :ratingCount, :easyCount, :mediumCount, :hardCount, :topTag,
+                    NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                review_count = :reviewCount,
+                rating_sum = :ratingSum,
+                rating_count = :ratingCount,
+                easy_count = :easyCount,
+                medium_count = :mediumCount,
+                hard_count = :hardCount,
+                top_tag = :topTag,
+                modified_date = NOW()
+            """, nativeQuery = true)
+    int upsert(@Param("contentId") Long contentId,
+               @Param("reviewCount") int reviewCount,
+               @Param("ratingSum") long ratingSum,
+               @Param("ratingCount") int ratingCount,
+               @Param("easyCount") int easyCount,
+               @Param("mediumCount") int mediumCount,
+               @Param("hardCount") int hardCount,
+               @Param("topTag") String topTag);
+}
@@ -0,0 +1,40 @@
+package com.dataury.soloJ.domain.review.repository;
+
+import com.dataury.soloJ.domain.review.entity.SpotTagStats;
+import com.dataury.soloJ.domain.review.entity.status.ReviewTags;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SpotTagStatsRepository extends JpaRepository<SpotTagStats, Long> {
+
+    // 태그 선택 수 증감 (없으면 생성)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO spot_tag_stats (content_id, tag, cnt)
+            VALUES (:contentId, :tag, GREATEST(:delta, 0))
+            ON DUPLICATE KEY UPDATE cnt = GREATEST(cnt + :delta, 0)
+            """, nativeQuery = true)
+    int applyDelta(@Param("contentId") Long contentId, @Param("tag") String tag, @Param("delta") int delta);
+
+    // 태그 선택 수 덮어쓰기 (없으면 생성)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO spot_tag_stats (content_id, tag, cnt)
+            VALUES (:contentId, :tag, :cnt)
+            ON DUPLICATE KEY UPDATE cnt = :cnt
+            """, nativeQuery = true)
+    int upsert(@Param("contentId") Long contentId, @Param("tag") String tag, @Param("cnt") int cnt);
+
+    // 선택 수 많은 순 (동점이면 태그 이름순)
+    @Query("SELECT s.tag FROM SpotTagStats s WHERE s.contentId = :contentId AND s.cnt > 0 ORDER BY s.cnt DESC, s.tag ASC")
+    List<ReviewTags> findTopTags(@Param("contentId") Long contentId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SpotTagStats s WHERE s.contentId = :contentId")
+    void deleteAllByContentId(@Param("contentId") Long contentId);
+}
@@ -7,7 +7,6 @@ import com.dataury.soloJ.domain.review.dto.ReviewResponseDto;
 import com.dataury.soloJ.domain.review.entity.Review;
 import com.dataury.soloJ.domain.review.entity.ReviewImage;
 import com.dataury.soloJ.domain.review.entity.ReviewTag;
-import com.dataury.soloJ.domain.review.entity.status.Difficulty;
 import com.dataury.soloJ.domain.review.entity.status.ReviewTags;
 import com.dataury.soloJ.domain.review.repository.ReviewRepository;
 import com.dataury.soloJ.domain.review.repository.ReviewTagRepository;
@@ -18,18 +17,17 @@ import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.dto.CursorPageResponse;
 import com.dataury.soloJ.global.exception.GeneralException;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.KeysetSlice;
 import com.dataury.soloJ.global.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -43,6 +41,7 @@ public class ReviewService {
     private final GoogleOcrService googleOcrService;
     private final CacheManager cacheManager;
     private final SpotAggReadService spotAggReadService;
+    private final SpotReviewStatsService spotReviewStatsService;
 
     // contentTypeId로 리뷰 태그 목록 조회
     public List<ReviewResponseDto.ReviewTagResponseDto> getTagsByContentTypeId(int contentTypeId) {
@@ -121,18 +120,8 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
 
-        // 대표 난이도 / 태그 갱신 (동점 있으면 첫 번째 값만 사용)
-        Difficulty mainDiff = reviewRepository.findDifficultiesByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(Difficulty.NONE);
-
-        ReviewTags mainTag = reviewTagRepository.findTagsByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(null);
-
-        // 평균 rating 업데이트
-        Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(touristSpot.getContentId());
-
-        touristSpot.updateMainStats(mainDiff, mainTag);
-        touristSpot.updateAverageRating(averageRating);
+        // 관광지 통계(리뷰 수/평균 별점/난이도 분포/대표 태그)에 변경분만 반영하고 대표값 갱신
+        spotReviewStatsService.applyChange(touristSpot, null, SpotReviewStatsService.ReviewSnapshot.of(savedReview));
         touristSpotRepository.save(touristSpot);
 
         evictSpotCaches(touristSpot.getContentId());
@@ -163,6 +152,9 @@ public class ReviewService {
             throw new GeneralException(ErrorStatus.REVIEW_ACCESS_DENIED);
         }
 
+        // 통계 delta 계산용 수정 전 값
+        SpotReviewStatsService.ReviewSnapshot before = SpotReviewStatsService.ReviewSnapshot.of(review);
+
         // 리뷰 기본 정보 수정
         review.updateReview(
                 request.getText(),
@@ -216,18 +208,10 @@ public class ReviewService {
 
         Review updatedReview = reviewRepository.save(review);
 
-        // 관광지 대표 난이도/태그 갱신
         TouristSpot touristSpot = review.getTouristSpot();
-        Difficulty mainDiff = reviewRepository.findDifficultiesByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(Difficulty.NONE);
-        ReviewTags mainTag = reviewTagRepository.findTagsByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(null);
-
-        // 평균 rating 업데이트
-        Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(touristSpot.getContentId());
 
-        touristSpot.updateMainStats(mainDiff, mainTag);
-        touristSpot.updateAverageRating(averageRating);
+        // 관광지 통계(리뷰 수/평균 별점/난이도 분포/대표 태그)에 변경분만 반영하고 대표값 갱신
+        spotReviewStatsService.applyChange(touristSpot, before, SpotReviewStatsService.ReviewSnapshot.of(updatedReview));
         touristSpotRepository.save(touristSpot);
         evictSpotCaches(touristSpot.getContentId());
 
@@ -256,21 +240,13 @@ public class ReviewService {
         }
 
         TouristSpot touristSpot = review.getTouristSpot();
+        SpotReviewStatsService.ReviewSnapshot before = SpotReviewStatsService.ReviewSnapshot.of(review);
 
         // 리뷰 삭제
         reviewRepository.delete(review);
 
-        // 관광지 대표 난이도 / 태그 갱신
-        Difficulty mainDiff = reviewRepository.findDifficultiesByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(Difficulty.NONE);
-        ReviewTags mainTag = reviewTagRepository.findTagsByPopularity(touristSpot.getContentId())
-                .stream().findFirst().orElse(null);
-
-        // 평균 rating 업데이트
-        Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(touristSpot.getContentId());
-
-        touristSpot.updateMainStats(mainDiff, mainTag);
-        touristSpot.updateAverageRating(averageRating);
+        // 관광지 통계(리뷰 수/평균 별점/난이도 분포/대표 태그)에서 삭제분을 빼고 대표값 갱신
+        spotReviewStatsService.applyChange(touristSpot, before, null);
         touristSpotRepository.save(touristSpot);
         evictSpotCaches(touristSpot.getContentId());
     }
@@ -339,30 +315,8 @@ public class ReviewService {
     // 전체 리뷰 조회 (커서 기반)
     @Transactional(readOnly = true)
     public CursorPageResponse<ReviewResponseDto.ReviewListDto> getAllReviewsByCursor(String cursor, int size) {
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Review> reviews = reviewRepository.findAllReviewsByCursor(cursorDateTime, pageable);
-        
-        boolean hasNext = reviews.size() > size;
-        if (hasNext) {
-            reviews = reviews.subList(0, size);
-        }
-        
-        List<ReviewResponseDto.ReviewListDto> items = reviews.stream()
-                .map(this::convertToListDto)
-                .collect(Collectors.toList());
-        
-        String nextCursor = hasNext && !reviews.isEmpty() 
-                ? encodeCursor(reviews.get(reviews.size() - 1).getCreatedAt()) 
-                : null;
-        
-        return CursorPageResponse.<ReviewResponseDto.ReviewListDto>builder()
-                .content(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .size(items.size())
-                .build();
+        List<Review> reviews = reviewRepository.findAllReviewsByCursor(KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
+        return KeysetSlice.of(reviews, size, this::keyOf).map(this::convertToListDto);
     }
 
     // 내가 쓴 리뷰 조회 (offset 기반)
@@ -377,50 +331,19 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public CursorPageResponse<ReviewResponseDto.ReviewListDto> getMyReviewsByCursor(String cursor, int size) {
         Long userId = SecurityUtils.getCurrentUserId();
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
-        Pageable pageable = PageRequest.of(0, size + 1);
-        
-        List<Review> reviews = reviewRepository.findMyReviewsByCursor(userId, cursorDateTime, pageable);
-        
-        boolean hasNext = reviews.size() > size;
-        if (hasNext) {
-            reviews = reviews.subList(0, size);
-        }
-        
-        List<ReviewResponseDto.ReviewListDto> items = reviews.stream()
-                .map(this::convertToListDto)
-                .collect(Collectors.toList());
-        
-        String nextCursor = hasNext && !reviews.isEmpty() 
-                ? encodeCursor(reviews.get(reviews.size() - 1).getCreatedAt()) 
-                : null;
-        
-        return CursorPageResponse.<ReviewResponseDto.ReviewListDto>builder()
-                .content(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
-                .size(items.size())
-                .build();
+        List<Review> reviews = reviewRepository.findMyReviewsByCursor(userId, KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
+        return KeysetSlice.of(reviews, size, this::keyOf).map(this::convertToListDto);
     }
 
     // 관광지별 리뷰 조회 (커서 기반) 
     @Transactional(readOnly = true)
     public CursorReviewListWithSpotAggResponse getReviewsBySpotByCursor(Long contentId, String cursor, int size) {
-        // 1) 커서 파싱
-        LocalDateTime cursorDateTime = decodeCursor(cursor);
+        // 1) (createdAt, id) 커서 다음 size+1 개로 hasNext 판별
+        List<Review> reviews = reviewRepository.findBySpotByCursor(contentId, KeysetCursor.decode(cursor), KeysetSlice.fetchPage(size));
+        KeysetSlice<Review> slice = KeysetSlice.of(reviews, size, this::keyOf);
 
-        // 2) size+1 로 더 가져와서 hasNext 판별
-        Pageable pageable = PageRequest.of(0, size + 1);
-
-        List<Review> reviews = reviewRepository.findBySpotByCursor(contentId, cursorDateTime, pageable);
-
-        boolean hasNext = reviews.size() > size;
-        if (hasNext) {
-            reviews = reviews.subList(0, size);
-        }
-
-        // 3) 리스트 아이템 변환 (기존 page 방식과 동일 포맷 유지)
-        List<ReviewListWithSpotAggResponse.ReviewItemDto> items = reviews.stream()
+        // 2) 리스트 아이템 변환 (기존 page 방식과 동일 포맷 유지)
+        List<ReviewListWithSpotAggResponse.ReviewItemDto> items = slice.rows().stream()
                 .map(r -> ReviewListWithSpotAggResponse.ReviewItemDto.builder()
                         .reviewId(r.getId())
                         .userId(r.getUser().getId())
@@ -438,20 +361,15 @@ public class ReviewService {
                 )
                 .toList();
 
-        // 4) nextCursor 계산
-        String nextCursor = hasNext && !reviews.isEmpty()
-                ? encodeCursor(reviews.get(reviews.size() - 1).getCreatedAt())
-                : null;
-
-        // 5) 관광지 Agg 로드 (평균/난이도비율/태그비율 포함)
+        // 3) 관광지 Agg 로드 (평균/난이도비율/태그비율 포함)
         ReviewListWithSpotAggResponse.SpotAggDto agg = spotAggReadService.load(contentId);
 
-        // 6) 합쳐서 반환
+        // 4) 합쳐서 반환
         return CursorReviewListWithSpotAggResponse.builder()
                 .spotAgg(agg)
                 .reviews(items)
-                .nextCursor(nextCursor)
-                .hasNext(hasNext)
+                .nextCursor(slice.nextCursor())
+                .hasNext(slice.hasNext())
                 .size(items.size())
                 .build();
     }
@@ -496,20 +414,8 @@ public class ReviewService {
                 .build();
     }
 
-    private String encodeCursor(LocalDateTime dateTime) {
-        if (dateTime == null) return null;
-        String formatted = dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        return Base64.getEncoder().encodeToString(formatted.getBytes());
-    }
-
-    private LocalDateTime decodeCursor(String cursor) {
-        if (cursor == null || cursor.trim().isEmpty()) return null;
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor));
-            return LocalDateTime.parse(decoded, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
-        } catch (Exception e) {
-            return null;
-        }
+    private KeysetCursor keyOf(Review review) {
+        return new KeysetCursor(review.getCreatedAt(), review.getId());
     }
 
 }
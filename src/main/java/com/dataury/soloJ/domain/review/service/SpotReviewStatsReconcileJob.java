@@ -0,0 +1,53 @@
+package com.dataury.soloJ.domain.review.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관광지 리뷰 통계 대사 - delta 로 유지되는 누적값을 전체 재계산 결과와 비교
+ * - 불일치가 있으면 로그/메트릭(review.stats.mismatches)을 남기고, repair 설정 시 전체 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpotReviewStatsReconcileJob {
+
+    private final SpotReviewStatsService spotReviewStatsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${review.stats.reconcile.repair:true}")
+    private boolean repair;
+
+    private final AtomicInteger lastMismatches = new AtomicInteger();
+
+    @PostConstruct
+    public void initMetrics() {
+        Gauge.builder("review.stats.mismatches", lastMismatches, AtomicInteger::get)
+                .description("마지막 대사에서 전체 재계산과 다른 관광지 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${review.stats.reconcile.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @SchedulerLock(name = "spotReviewStatsReconcile", lockAtMostFor = "PT30M")
+    public void reconcile() {
+        int mismatches = spotReviewStatsService.countMismatches();
+        lastMismatches.set(mismatches);
+        if (mismatches == 0) {
+            log.info("관광지 리뷰 통계 대사 완료 - 불일치 없음");
+            return;
+        }
+        log.warn("관광지 리뷰 통계 대사 - 불일치 {}곳{}", mismatches, repair ? ", 전체 재적재" : "");
+        if (repair) {
+            spotReviewStatsService.rebuildAll();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.dataury.soloJ.domain.review.service;
+
+import com.dataury.soloJ.domain.review.entity.Review;
+import com.dataury.soloJ.domain.review.entity.ReviewTag;
+import com.dataury.soloJ.domain.review.entity.SpotReviewStats;
+import com.dataury.soloJ.domain.review.entity.SpotTagStats;
+import com.dataury.soloJ.domain.review.entity.status.Difficulty;
+import com.dataury.soloJ.domain.review.entity.status.ReviewTags;
+import com.dataury.soloJ.domain.review.repository.ReviewRepository;
+import com.dataury.soloJ.domain.review.repository.ReviewTagRepository;
+import com.dataury.soloJ.domain.review.repository.SpotReviewStatsRepository;
+import com.dataury.soloJ.domain.review.repository.SpotTagStatsRepository;
+import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관광지별 리뷰 통계(spot_review_stats, spot_tag_stats) 유지/조회
+ * - 리뷰 쓰기 시 applyChange(spot, before, after) 로 리뷰 1건의 변경분만 delta UPDATE (같은 트랜잭션)
+ * - TouristSpot 대표값(난이도/태그/평균 별점)은 누적값에서 바로 계산해 함께 갱신
+ * - 통계 행이 아직 없는 관광지는 그 관광지만 전체 재계산 (upsert)
+ * - 목록 화면은 getStats(contentIds) 한 번으로 평균 별점/리뷰 수/난이도 분포/대표 태그를 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpotReviewStatsService {
+
+    private final SpotReviewStatsRepository spotReviewStatsRepository;
+    private final SpotTagStatsRepository spotTagStatsRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewTagRepository reviewTagRepository;
+
+    /**
+     * 통계에 반영되는 리뷰 값 (수정 전 값을 잡아두기 위한 스냅샷)
+     */
+    public record ReviewSnapshot(Integer rating, Difficulty difficulty, List<ReviewTags> tags) {
+        public static ReviewSnapshot of(Review review) {
+            List<ReviewTags> tags = review.getReviewTags() == null ? List.of() : review.getReviewTags().stream()
+                    .map(ReviewTag::getTag)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new ReviewSnapshot(review.getRating(), review.getDifficulty(), tags);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, SpotReviewStats> getStats(Collection<Long> contentIds) {
+        if (contentIds == null || contentIds.isEmpty()) {
+            return Map.of();
+        }
+        return spotReviewStatsRepository.findAllById(contentIds).stream()
+                .collect(Collectors.toMap(SpotReviewStats::getContentId, Function.identity()));
+    }
+
+    /**
+     * 리뷰 1건 변경 반영 - 생성은 before = null, 삭제는 after = null
+     */
+    @Transactional
+    public void applyChange(TouristSpot spot, ReviewSnapshot before, ReviewSnapshot after) {
+        Long contentId = spot.getContentId();
+        int updated = spotReviewStatsRepository.applyDelta(
+                contentId,
+                (after != null ? 1 : 0) - (before != null ? 1 : 0),
+                ratingOf(after) - ratingOf(before),
+                ratedOf(after) - ratedOf(before),
+                difficultyOf(after, Difficulty.EASY) - difficultyOf(before, Difficulty.EASY),
+                difficultyOf(after, Difficulty.MEDIUM) - difficultyOf(before, Difficulty.MEDIUM),
+                difficultyOf(after, Difficulty.HARD) - difficultyOf(before, Difficulty.HARD)
+        );
+        if (updated == 0) {
+            refresh(spot);
+            return;
+        }
+
+        Map<ReviewTags, Integer> tagDelta = new EnumMap<>(ReviewTags.class);
+        if (after != null) after.tags().forEach(tag -> tagDelta.merge(tag, 1, Integer::sum));
+        if (before != null) before.tags().forEach(tag -> tagDelta.merge(tag, -1, Integer::sum));
+        tagDelta.forEach((tag, delta) -> {
+            if (delta != 0) {
+                spotTagStatsRepository.applyDelta(contentId, tag.name(), delta);
+            }
+        });
+
+        ReviewTags topTag = spotTagStatsRepository.findTopTags(contentId, PageRequest.of(0, 1))
+                .stream().findFirst().orElse(null);
+        SpotReviewStats stats = spotReviewStatsRepository.findById(contentId).orElseThrow();
+        stats.updateTopTag(topTag);
+        updateSpot(spot, stats);
+    }
+
+    /**
+     * 관광지 하나의 통계 전체 재계산
+     * - 통계 행이 없는 관광지에 리뷰가 동시에 들어와도 충돌하지 않게 조회 후 저장 대신 upsert
+     */
+    @Transactional
+    public SpotReviewStats refresh(TouristSpot spot) {
+        Long contentId = spot.getContentId();
+        List<Object[]> rows = reviewRepository.aggregateStatsByContentIds(List.of(contentId));
+
+        spotTagStatsRepository.deleteAllByContentId(contentId);
+        List<SpotTagStats> tagStats = reviewTagRepository.countTagsByContentId(contentId).stream()
+                .map(row -> SpotTagStats.builder()
+                        .contentId(contentId)
+                        .tag((ReviewTags) row[0])
+                        .cnt(((Number) row[1]).intValue())
+                        .build())
+                .toList();
+        tagStats.forEach(tag -> spotTagStatsRepository.upsert(contentId, tag.getTag().name(), tag.getCnt()));
+
+        SpotReviewStats stats = SpotReviewStats.builder().contentId(contentId).build();
+        apply(stats, rows.isEmpty() ? null : rows.get(0), topTagOf(tagStats));
+        spotReviewStatsRepository.upsert(contentId, stats.getReviewCount(), stats.getRatingSum(), stats.getRatingCount(),
+                stats.getEasyCount(), stats.getMediumCount(), stats.getHardCount(),
+                stats.getTopTag() != null ? stats.getTopTag().name() : null);
+
+        updateSpot(spot, stats);
+        return stats;
+    }
+
+    /**
+     * 전체 관광지 통계 재적재 (관리자 배치, 최초 적재, 대사 후 보정)
+     */
+    @Transactional
+    public int rebuildAll() {
+        Map<Long, List<SpotTagStats>> tagsBySpot = recomputeTagStats();
+        spotTagStatsRepository.deleteAllInBatch();
+        spotTagStatsRepository.saveAll(tagsBySpot.values().stream().flatMap(List::stream).toList());
+
+        Map<Long, SpotReviewStats> existing = spotReviewStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(SpotReviewStats::getContentId, Function.identity()));
+        List<SpotReviewStats> updated = new ArrayList<>();
+        for (Object[] row : reviewRepository.aggregateStatsForAllSpots()) {
+            Long contentId = (Long) row[0];
+            SpotReviewStats stats = existing.remove(contentId);
+            if (stats == null) {
+                stats = SpotReviewStats.builder().contentId(contentId).build();
+            }
+            apply(stats, row, topTagOf(tagsBySpot.getOrDefault(contentId, List.of())));
+            updated.add(stats);
+        }
+        // 리뷰가 모두 삭제된 관광지
+        existing.values().forEach(stats -> {
+            apply(stats, null, null);
+            updated.add(stats);
+        });
+
+        spotReviewStatsRepository.saveAll(updated);
+        log.info("관광지 리뷰 통계 재적재 완료 - spots: {}", updated.size());
+        return updated.size();
+    }
+
+    /**
+     * 누적 통계와 전체 재계산 결과 비교 - 값이 다른 관광지 수 반환
+     */
+    @Transactional(readOnly = true)
+    public int countMismatches() {
+        Map<Long, SpotReviewStats> actual = spotReviewStatsRepository.findAll().stream()
+                .collect(Collectors.toMap(SpotReviewStats::getContentId, Function.identity()));
+        Map<Long, Map<ReviewTags, Integer>> actualTags = new HashMap<>();
+        spotTagStatsRepository.findAll().stream()
+                .filter(tagStats -> tagStats.getCnt() > 0)
+                .forEach(tagStats -> actualTags.computeIfAbsent(tagStats.getContentId(), id -> new EnumMap<>(ReviewTags.class))
+                        .put(tagStats.getTag(), tagStats.getCnt()));
+
+        Map<Long, Map<ReviewTags, Integer>> expectedTags = new HashMap<>();
+        recomputeTagStats().forEach((contentId, tagStats) -> tagStats.forEach(tag ->
+                expectedTags.computeIfAbsent(contentId, id -> new EnumMap<>(ReviewTags.class)).put(tag.getTag(), tag.getCnt())));
+
+        int mismatches = 0;
+        for (Object[] row : reviewRepository.aggregateStatsForAllSpots()) {
+            Long contentId = (Long) row[0];
+            SpotReviewStats expected = SpotReviewStats.builder().contentId(contentId).build();
+            apply(expected, row, null);
+            SpotReviewStats stats = actual.remove(contentId);
+            boolean tagsMatch = Objects.equals(expectedTags.getOrDefault(contentId, Map.of()),
+                    actualTags.getOrDefault(contentId, Map.of()));
+            if (stats == null || !sameCounts(expected, stats) || !tagsMatch) {
+                log.warn("관광지 리뷰 통계 불일치 - contentId: {}", contentId);
+                mismatches++;
+            }
+        }
+        // 리뷰가 없는데 통계가 남아있는 관광지
+        for (SpotReviewStats stats : actual.values()) {
+            if (stats.getReviewCount() != 0 || actualTags.containsKey(stats.getContentId())) {
+                log.warn("관광지 리뷰 통계 불일치 (리뷰 없음) - contentId: {}", stats.getContentId());
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private Map<Long, List<SpotTagStats>> recomputeTagStats() {
+        Map<Long, List<SpotTagStats>> tagsBySpot = new HashMap<>();
+        for (Object[] row : reviewTagRepository.countTagsForAllSpots()) {
+            Long contentId = (Long) row[0];
+            tagsBySpot.computeIfAbsent(contentId, id -> new ArrayList<>()).add(SpotTagStats.builder()
+                    .contentId(contentId)
+                    .tag((ReviewTags) row[1])
+                    .cnt(((Number) row[2]).intValue())
+                    .build());
+        }
+        return tagsBySpot;
+    }
+
+    // spotTagStatsRepository.findTopTags 와 같은 순서 (선택 수 많은 순, 동점이면 태그 이름순)
+    private ReviewTags topTagOf(List<SpotTagStats> tagStats) {
+        return tagStats.stream()
+                .filter(tag -> tag.getCnt() > 0)
+                .min(Comparator.comparingInt(SpotTagStats::getCnt).reversed()
+                        .thenComparing(tag -> tag.getTag().name()))
+                .map(SpotTagStats::getTag)
+                .orElse(null);
+    }
+
+    private void updateSpot(TouristSpot spot, SpotReviewStats stats) {
+        spot.updateMainStats(stats.getMainDifficulty(), stats.getTopTag());
+        spot.updateAverageRating(stats.getAverageRating());
+    }
+
+    private boolean sameCounts(SpotReviewStats a, SpotReviewStats b) {
+        return a.getReviewCount() == b.getReviewCount()
+                && a.getRatingSum() == b.getRatingSum()
+                && a.getRatingCount() == b.getRatingCount()
+                && a.getEasyCount() == b.getEasyCount()
+                && a.getMediumCount() == b.getMediumCount()
+                && a.getHardCount() == b.getHardCount();
+    }
+
+    // row: [contentId, 리뷰 수, 별점 합, 별점 수, EASY, MEDIUM, HARD] (없으면 0)
+    private void apply(SpotReviewStats stats, Object[] row, ReviewTags topTag) {
+        if (row == null) {
+            stats.update(0, 0, 0, 0, 0, 0, null);
+            return;
+        }
+        stats.update(
+                toInt(row[1]),
+                row[2] != null ? ((Number) row[2]).longValue() : 0L,
+                toInt(row[3]),
+                toInt(row[4]),
+                toInt(row[5]),
+                toInt(row[6]),
+                topTag
+        );
+    }
+
+    private int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private static long ratingOf(ReviewSnapshot snapshot) {
+        return snapshot != null && snapshot.rating() != null ? snapshot.rating() : 0;
+    }
+
+    private static int ratedOf(ReviewSnapshot snapshot) {
+        return snapshot != null && snapshot.rating() != null ? 1 : 0;
+    }
+
+    private static int difficultyOf(ReviewSnapshot snapshot, Difficulty difficulty) {
+        return snapshot != null && snapshot.difficulty() == difficulty ? 1 : 0;
+    }
+}
@@ -1,8 +1,11 @@
 package com.dataury.soloJ.domain.touristSpot.controller;
 
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
 import com.dataury.soloJ.domain.touristSpot.service.TouristSpotBatchService;
 import com.dataury.soloJ.global.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,9 +17,20 @@ public class TouristSpotBatchController {
     
     private final TouristSpotBatchService batchService;
     
+    // 비동기로 시작하고 작업 상태를 바로 반환 (진행률은 /jobs/{jobId} 로 조회)
     @PostMapping("/update-average-ratings")
-    public ApiResponse<String> updateAllAverageRatings() {
-        batchService.updateAllAverageRatings();
-        return ApiResponse.onSuccess("모든 관광지의 평균 평점이 업데이트되었습니다.");
+    public ApiResponse<BatchJobResponse> updateAllAverageRatings() {
+        return ApiResponse.onSuccess(batchService.startAverageRatingJob());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/jobs/{jobId}")
+    public ApiResponse<BatchJobResponse> getJob(@PathVariable String jobId) {
+        return ApiResponse.onSuccess(batchService.getJob(jobId));
+    }
+
+    @PostMapping("/rebuild-review-stats")
+    public ApiResponse<String> rebuildReviewStats() {
+        int spots = batchService.rebuildReviewStats();
+        return ApiResponse.onSuccess("관광지 리뷰 통계를 재적재했습니다. (" + spots + "곳)");
+    }
+}
@@ -0,0 +1,33 @@
+package com.dataury.soloJ.domain.touristSpot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobResponse {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    private String jobId;
+    private String jobName;
+    private Status status;
+    private long processed;
+    private long total;
+    private long lastId;     // 마지막으로 반영된 tourist_spots.id (재개 지점)
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public double getProgressPct() {
+        if (total <= 0) return status == Status.COMPLETED ? 100.0 : 0.0;
+        return Math.min(100.0, Math.round(1000.0 * processed / total) / 10.0);
+    }
+}
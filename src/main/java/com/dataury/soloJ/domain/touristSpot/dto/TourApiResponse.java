@@ -72,6 +72,9 @@ public class TourApiResponse {
         private String tel;
         private String homepage;
         private String dist;  // 거리 정보 (위치 기반 조회 시)
+        private String sigungucode;
+        private String modifiedtime;  // yyyyMMddHHmmss
+        private String showflag;      // 동기화 목록 전용 (1: 표출, 0: 비표출)
     }
 
     @Getter
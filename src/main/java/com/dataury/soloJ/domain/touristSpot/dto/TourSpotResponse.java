@@ -51,6 +51,7 @@ public class TourSpotResponse {
         private Difficulty difficulty;
         private String reviewTags;
         private Double averageRating;
+        private int reviewCount;
     }
 
 
@@ -37,6 +37,18 @@ public class TouristSpot extends BaseEntity {
     @Column
     private String tel;
 
+    @Column
+    private Integer sigunguCode;
+
+    @Column
+    private Double mapX; // 경도
+
+    @Column
+    private Double mapY; // 위도
+
+    @Column(length = 14)
+    private String modifiedTime; // TourAPI modifiedtime (yyyyMMddHHmmss), 미러 동기화 기준
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -54,6 +66,11 @@ public class TouristSpot extends BaseEntity {
     @Builder.Default
     private boolean aiGenerated = false;
 
+    // TourAPI 비표출(showflag=0) 전환 - 리뷰/동행방이 참조할 수 있어 행은 남기고 미러 목록/인덱스에서만 제외
+    @Column(nullable = false, columnDefinition = "bit(1) default 0")
+    @Builder.Default
+    private boolean hidden = false;
+
 
     public void updateMainStats(Difficulty difficulty, ReviewTags tag) {
         this.difficulty = difficulty != null ? difficulty : Difficulty.NONE;
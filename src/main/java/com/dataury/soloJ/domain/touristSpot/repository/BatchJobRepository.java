@@ -0,0 +1,87 @@
+package com.dataury.soloJ.domain.touristSpot.repository;
+
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * batch_job 테이블 접근 (Flyway 관리 테이블이라 JdbcTemplate 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BatchJobRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final RowMapper<BatchJobResponse> ROW_MAPPER = (rs, rowNum) -> BatchJobResponse.builder()
+            .jobId(rs.getString("job_id"))
+            .jobName(rs.getString("job_name"))
+            .status(BatchJobResponse.Status.valueOf(rs.getString("status")))
+            .lastId(rs.getLong("last_id"))
+            .processed(rs.getLong("processed"))
+            .total(rs.getLong("total"))
+            .error(rs.getString("error"))
+            .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+            .build();
+
+    public void create(String jobId, String jobName, long total) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO batch_job (job_id, job_name, status, total, started_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, jobId, jobName, BatchJobResponse.Status.RUNNING.name(), total, now, now);
+    }
+
+    public Optional<BatchJobResponse> findById(String jobId) {
+        return jdbcTemplate.query("SELECT * FROM batch_job WHERE job_id = ?", ROW_MAPPER, jobId)
+                .stream().findFirst();
+    }
+
+    public Optional<BatchJobResponse> findLatest(String jobName) {
+        return jdbcTemplate.query(
+                "SELECT * FROM batch_job WHERE job_name = ? ORDER BY started_at DESC LIMIT 1", ROW_MAPPER, jobName)
+                .stream().findFirst();
+    }
+
+    public boolean existsCompleted(String jobName) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM batch_job WHERE job_name = ? AND status = ?)",
+                Boolean.class, jobName, BatchJobResponse.Status.COMPLETED.name());
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // 청크 처리와 같은 트랜잭션에서 호출 (체크포인트)
+    public void updateProgress(String jobId, long lastId, long processedDelta) {
+        jdbcTemplate.update("""
+                UPDATE batch_job SET last_id = ?, processed = processed + ?, updated_at = ?
+                WHERE job_id = ?
+                """, lastId, processedDelta, Timestamp.valueOf(LocalDateTime.now()), jobId);
+    }
+
+    public void resume(String jobId, long total) {
+        jdbcTemplate.update("""
+                UPDATE batch_job SET status = ?, total = ?, error = NULL, updated_at = ?, finished_at = NULL
+                WHERE job_id = ?
+                """, BatchJobResponse.Status.RUNNING.name(), total, Timestamp.valueOf(LocalDateTime.now()), jobId);
+    }
+
+    public void finish(String jobId, BatchJobResponse.Status status, String error) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                UPDATE batch_job SET status = ?, error = ?, updated_at = ?, finished_at = ?
+                WHERE job_id = ?
+                """, status.name(), error, now, now, jobId);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,7 @@ public interface TouristSpotRepository extends JpaRepository<TouristSpot, Long>
     List<TouristSpot> findAllByName(String name);
     Optional<TouristSpot> findByContentId(Long contentId);
     List<TouristSpot> findByNameAndContentIdIsNull(String name);
+    List<TouristSpot> findAllByNameInAndContentIdIsNull(Collection<String> names);
     // 제목으로 관광지 검색
     @Query("SELECT t FROM TouristSpot t WHERE t.name LIKE %:keyword% " +
            "AND (:contentTypeId IS NULL OR t.contentTypeId = :contentTypeId) " +
@@ -47,4 +49,25 @@ public interface TouristSpotRepository extends JpaRepository<TouristSpot, Long>
                                                Pageable pageable);
 
     List<TouristSpot> findAllByDifficulty(Difficulty difficulty, Pageable pageable);
+
+    // 동기화된 TourAPI 미러 목록 (제목순, TourAPI arrange=A 와 동일)
+    @Query("SELECT t FROM TouristSpot t WHERE t.contentId IS NOT NULL AND t.aiGenerated = false AND t.hidden = false " +
+           "AND (:contentTypeId IS NULL OR t.contentTypeId = :contentTypeId) " +
+           "AND (:sigunguCode IS NULL OR t.sigunguCode = :sigunguCode) " +
+           "ORDER BY t.name ASC")
+    List<TouristSpot> findMirrorSpots(@Param("contentTypeId") Integer contentTypeId,
+                                      @Param("sigunguCode") Integer sigunguCode,
+                                      Pageable pageable);
+
+    // 주변 관광지 공간 인덱스 적재용 (since 가 null 이면 전체, 아니면 그 이후 변경분 - hidden 전환도 포함해 인덱스에서 제거)
+    @Query("SELECT t FROM TouristSpot t WHERE t.contentId IS NOT NULL " +
+           "AND t.mapX IS NOT NULL AND t.mapY IS NOT NULL " +
+           "AND (:since IS NULL OR t.updatedAt >= :since)")
+    List<TouristSpot> findGeoSpots(@Param("since") LocalDateTime since);
+
+    // 관광지 검색 인덱스 적재용 (AI 생성 장소 제외, since 가 null 이면 전체 - hidden 전환도 포함해 인덱스에서 제거)
+    @Query("SELECT t FROM TouristSpot t WHERE t.contentId IS NOT NULL AND t.contentId > 0 " +
+           "AND t.aiGenerated = false " +
+           "AND (:since IS NULL OR t.updatedAt >= :since)")
+    List<TouristSpot> findSearchableSpots(@Param("since") LocalDateTime since);
 }
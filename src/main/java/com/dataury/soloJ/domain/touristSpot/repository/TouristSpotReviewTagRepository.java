@@ -9,4 +9,5 @@ import java.util.List;
 public interface TouristSpotReviewTagRepository extends JpaRepository<TouristSpotReviewTag, Long> {
     List<TouristSpotReviewTag> findAllByTouristSpotIn(List<TouristSpot> spots);
     List<TouristSpotReviewTag> findAllByTouristSpot(TouristSpot touristSpot);
+    List<TouristSpotReviewTag> findAllByTouristSpotContentId(Long contentId);
 }
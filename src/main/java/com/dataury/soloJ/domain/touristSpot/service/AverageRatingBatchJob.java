@@ -0,0 +1,104 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
+import com.dataury.soloJ.domain.touristSpot.repository.BatchJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 관광지 평균 평점 재계산 배치 (비동기 실행)
+ * - tourist_spots 를 id 순으로 chunk-size 만큼 잘라 처리, 청크마다 커밋
+ * - 청크 집계는 GROUP BY 결과를 임시 테이블에 담고 UPDATE ... JOIN 한 번으로 반영 (관광지별 쿼리 없음)
+ * - 청크 반영과 체크포인트(last_id, processed)를 같은 트랜잭션에서 기록 → 실패 시 last_id 다음부터 재개
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AverageRatingBatchJob {
+
+    public static final String JOB_NAME = "spotAverageRating";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchJobRepository batchJobRepository;
+
+    @Value("${spot.rating-batch.chunk-size:1000}")
+    private int chunkSize;
+
+    private static final String CREATE_TEMP_SQL = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS tmp_spot_avg_rating (
+                spot_id    BIGINT NOT NULL PRIMARY KEY,
+                avg_rating DOUBLE NULL
+            )
+            """;
+
+    private static final String FILL_TEMP_SQL = """
+            INSERT INTO tmp_spot_avg_rating (spot_id, avg_rating)
+            SELECT r.tourist_spot_id, AVG(r.rating)
+            FROM reviews r
+            WHERE r.tourist_spot_id BETWEEN ? AND ? AND r.rating IS NOT NULL
+            GROUP BY r.tourist_spot_id
+            """;
+
+    // 리뷰가 없는 관광지는 0.0 (TouristSpot.updateAverageRating(null) 과 동일)
+    private static final String APPLY_SQL = """
+            UPDATE tourist_spots ts
+            LEFT JOIN tmp_spot_avg_rating t ON t.spot_id = ts.id
+            SET ts.average_rating = COALESCE(t.avg_rating, 0)
+            WHERE ts.id BETWEEN ? AND ?
+            """;
+
+    @Async
+    public void run(String jobId, long fromId) {
+        long lastId = fromId;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM tourist_spots WHERE id > ? ORDER BY id LIMIT ?", Long.class, lastId, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                long chunkFrom = ids.get(0);
+                long chunkTo = ids.get(ids.size() - 1);
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    applyChunk(chunkFrom, chunkTo);
+                    batchJobRepository.updateProgress(jobId, chunkTo, ids.size());
+                });
+                lastId = chunkTo;
+                log.debug("평균 평점 배치 청크 완료 - jobId: {}, lastId: {}", jobId, lastId);
+            }
+            batchJobRepository.finish(jobId, BatchJobResponse.Status.COMPLETED, null);
+            log.info("평균 평점 배치 완료 - jobId: {}", jobId);
+        } catch (Exception e) {
+            log.error("평균 평점 배치 실패 - jobId: {}, lastId: {}, error: {}", jobId, lastId, e.getMessage());
+            batchJobRepository.finish(jobId, BatchJobResponse.Status.FAILED, abbreviate(e.getMessage()));
+        }
+    }
+
+    // 임시 테이블은 커넥션 단위라 트랜잭션 안에서 만들고 지움
+    private void applyChunk(long fromId, long toId) {
+        jdbcTemplate.execute(CREATE_TEMP_SQL);
+        try {
+            jdbcTemplate.update("DELETE FROM tmp_spot_avg_rating");
+            jdbcTemplate.update(FILL_TEMP_SQL, fromId, toId);
+            jdbcTemplate.update(APPLY_SQL, fromId, toId);
+        } finally {
+            jdbcTemplate.execute("DROP TEMPORARY TABLE IF EXISTS tmp_spot_avg_rating");
+        }
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null) {
+            return "unknown";
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
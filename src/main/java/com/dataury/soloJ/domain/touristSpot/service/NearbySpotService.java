@@ -1,6 +1,6 @@
 package com.dataury.soloJ.domain.touristSpot.service;
 
-import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.service.OpenChatRoomIndex;
 import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
 import com.dataury.soloJ.domain.touristSpot.dto.TourSpotRequest;
 import com.dataury.soloJ.domain.touristSpot.dto.TourSpotResponse;
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -19,52 +20,94 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 public class NearbySpotService {
-    
+
+    private static final int MAX_RESULTS = 100; // TourAPI numOfRows 와 동일
+
     private final TourApiService tourApiService;
     private final TouristSpotRepository touristSpotRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    
-    // 위치 기반 주변 관광지 조회
+    private final OpenChatRoomIndex openChatRoomIndex;
+    private final TouristSpotGeoIndex touristSpotGeoIndex;
+
+    // 위치 기반 주변 관광지 조회 - 미러 범위 안이면 공간 인덱스, 밖이면 TourAPI
     public TourSpotResponse.NearbySpotListResponse getNearbySpots(TourSpotRequest.NearbySpotRequestDto request) {
-        // TourAPI 호출하여 주변 관광지 조회
+        List<TourSpotResponse.NearbySpotItemDto> spots =
+                touristSpotGeoIndex.covers(request.getLatitude(), request.getLongitude())
+                        ? searchLocal(request)
+                        : searchTourApi(request);
+
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(
+                spots.stream().map(TourSpotResponse.NearbySpotItemDto::getContentId).toList());
+        spots.forEach(spot -> spot.setOpenCompanionRoomCount(roomCountMap.getOrDefault(spot.getContentId(), 0)));
+
+        return TourSpotResponse.NearbySpotListResponse.builder()
+                .spots(spots)
+                .totalCount(spots.size())
+                .build();
+    }
+
+    private List<TourSpotResponse.NearbySpotItemDto> searchLocal(TourSpotRequest.NearbySpotRequestDto request) {
+        return touristSpotGeoIndex.search(
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        request.getRadius(),
+                        request.getContentTypeId(),
+                        request.getDifficulty(),
+                        MAX_RESULTS
+                ).stream()
+                .map(hit -> TourSpotResponse.NearbySpotItemDto.builder()
+                        .contentId(hit.spot().contentId())
+                        .contentTypeId(hit.spot().contentTypeId())
+                        .title(hit.spot().title())
+                        .addr1(hit.spot().address())
+                        .tel(hit.spot().tel())
+                        .mapx(hit.spot().mapX())
+                        .mapy(hit.spot().mapY())
+                        .distance(Math.round(hit.distance() * 10) / 10.0)
+                        .firstimage(hit.spot().firstImage())
+                        .difficulty(hit.spot().difficulty())
+                        .build())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private List<TourSpotResponse.NearbySpotItemDto> searchTourApi(TourSpotRequest.NearbySpotRequestDto request) {
         List<TourApiResponse.Item> apiItems = tourApiService.fetchNearbySpots(
                 request.getLatitude(),
-                request.getLongitude(), 
+                request.getLongitude(),
                 request.getRadius(),
                 request.getContentTypeId()
         );
-        
-        // contentId 리스트 추출
+
         List<Long> contentIds = apiItems.stream()
                 .map(item -> Long.valueOf(item.getContentid()))
                 .toList();
-        
-        // DB에서 관광지 정보 조회
+
         Map<Long, TouristSpot> spotMap = touristSpotRepository.findAllByContentIdIn(contentIds).stream()
                 .collect(Collectors.toMap(TouristSpot::getContentId, Function.identity()));
 
-        List<Object[]> counts = chatRoomRepository.countOpenRoomsBySpotIds(contentIds);
-        Map<Long, Integer> roomCountMap = counts.stream()
-                .collect(Collectors.toMap(
-                        row -> (Long) row[0],
-                        row -> ((Long) row[1]).intValue()
-                ));
+        // DB에 없는 관광지는 좌표까지 한 번에 저장 (다음 인덱스 갱신 때 포함됨)
+        List<TouristSpot> newSpots = apiItems.stream()
+                .filter(item -> !spotMap.containsKey(Long.valueOf(item.getContentid())))
+                .map(item -> TouristSpot.builder()
+                        .contentId(Long.valueOf(item.getContentid()))
+                        .name(item.getTitle())
+                        .contentTypeId(Integer.parseInt(item.getContenttypeid()))
+                        .firstImage(item.getFirstimage() != null ? item.getFirstimage() : "")
+                        .address(item.getAddr1())
+                        .tel(item.getTel())
+                        .mapX(Double.parseDouble(item.getMapx()))
+                        .mapY(Double.parseDouble(item.getMapy()))
+                        .build())
+                .toList();
+        if (!newSpots.isEmpty()) {
+            touristSpotRepository.saveAll(newSpots)
+                    .forEach(spot -> spotMap.put(spot.getContentId(), spot));
+        }
 
-        List<TourSpotResponse.NearbySpotItemDto> spots = apiItems.stream()
+        return apiItems.stream()
                 .map(item -> {
                     Long contentId = Long.valueOf(item.getContentid());
                     TouristSpot spot = spotMap.get(contentId);
 
-                    // DB에 없으면 새로 저장
-                    if (spot == null) {
-                        spot = touristSpotRepository.save(TouristSpot.builder()
-                                .contentId(contentId)
-                                .name(item.getTitle())
-                                .contentTypeId(Integer.parseInt(item.getContenttypeid()))
-                                .firstImage(item.getFirstimage() != null ? item.getFirstimage() : "")
-                                .build());
-                    }
-
                     return TourSpotResponse.NearbySpotItemDto.builder()
                             .contentId(contentId)
                             .contentTypeId(Integer.parseInt(item.getContenttypeid()))
@@ -76,16 +119,10 @@ public class NearbySpotService {
                             .distance(Double.parseDouble(item.getDist()))
                             .firstimage(item.getFirstimage())
                             .difficulty(spot.getDifficulty())
-                            .openCompanionRoomCount(roomCountMap.getOrDefault(contentId, 0)) // ✅ 여기서 Map 사용
                             .build();
                 })
                 // 난이도 필터 적용
                 .filter(spot -> request.getDifficulty() == null || spot.getDifficulty() == request.getDifficulty())
-                .toList();
-
-        return TourSpotResponse.NearbySpotListResponse.builder()
-                .spots(spots)
-                .totalCount(spots.size())
-                .build();
+                .collect(Collectors.toCollection(ArrayList::new));
     }
-}
\ No newline at end of file
+}
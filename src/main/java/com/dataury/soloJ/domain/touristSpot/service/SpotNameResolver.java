@@ -0,0 +1,305 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
+import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 장소명 → 관광지 contentId 일괄 매칭 (AI 일정 등)
+ * 1. 같은 이름은 한 번만 처리
+ * 2. contentId 없이 등록된 장소(이름 완전 일치)는 쿼리 한 번으로 확인 → null
+ * 3. 관광지 검색 인덱스(2-gram)로 후보를 뽑아 정규화 이름 편집 거리로 매칭
+ * 4. 남은 이름만 TourAPI 로 병렬 검색 (동시 호출 수 제한), 새 관광지는 한 번에 저장
+ * 매칭 실패는 -1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpotNameResolver {
+
+    public static final Long NOT_FOUND = -1L;
+
+    private static final int MAX_DISTANCE = 3;
+    private static final int LOCAL_CANDIDATES = 10;
+
+    private final TourApiService tourApiService;
+    private final TouristSpotRepository touristSpotRepository;
+    private final TouristSpotSearchIndex touristSpotSearchIndex;
+
+    @Value("${spring.tourapi.resolve.concurrency:4}")
+    private int concurrency;
+    @Value("${spring.tourapi.resolve.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolTaskExecutor resolveExecutor;
+
+    @PostConstruct
+    public void initResolveExecutor() {
+        resolveExecutor = new ThreadPoolTaskExecutor();
+        resolveExecutor.setCorePoolSize(concurrency);
+        resolveExecutor.setMaxPoolSize(concurrency);
+        resolveExecutor.setQueueCapacity(concurrency * 16);
+        resolveExecutor.setThreadNamePrefix("spot-resolve-");
+        // 가득 차면 거절 → 해당 이름은 매칭 실패로 처리 (호출 스레드에서 돌리면 타임아웃이 적용되지 않음)
+        resolveExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        resolveExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdownResolveExecutor() {
+        resolveExecutor.shutdown();
+    }
+
+    /**
+     * 장소명별 contentId (contentId 없이 등록된 장소는 null, 매칭 실패는 -1)
+     */
+    public Map<String, Long> resolveAll(Collection<String> titles) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        Map<String, List<String>> candidatesByTitle = new LinkedHashMap<>();
+        for (String title : new LinkedHashSet<>(titles)) {
+            if (title != null && !title.isBlank()) {
+                candidatesByTitle.put(title, generateCandidateNames(title));
+            }
+        }
+        if (candidatesByTitle.isEmpty()) {
+            return result;
+        }
+
+        // contentId 없이 등록된 장소
+        Set<String> allCandidates = candidatesByTitle.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        Set<String> unlinkedNames = touristSpotRepository.findAllByNameInAndContentIdIsNull(allCandidates).stream()
+                .map(TouristSpot::getName)
+                .collect(Collectors.toSet());
+
+        List<String> leftovers = new ArrayList<>();
+        candidatesByTitle.forEach((title, candidates) -> {
+            if (candidates.stream().anyMatch(unlinkedNames::contains)) {
+                result.put(title, null);
+                return;
+            }
+            Long local = resolveLocally(title, candidates);
+            if (local != null) {
+                result.put(title, local);
+            } else {
+                leftovers.add(title);
+            }
+        });
+
+        if (!leftovers.isEmpty()) {
+            result.putAll(resolveByTourApi(leftovers, candidatesByTitle));
+        }
+        log.debug("장소명 일괄 매칭 - titles: {}, tourApi: {}", candidatesByTitle.size(), leftovers.size());
+        return result;
+    }
+
+    private Long resolveLocally(String title, List<String> candidates) {
+        for (String candidate : candidates) {
+            List<TouristSpotSearchIndex.SearchDoc> docs = touristSpotSearchIndex.similarNames(candidate, LOCAL_CANDIDATES);
+            TouristSpotSearchIndex.SearchDoc best = getMostSimilar(title, docs, TouristSpotSearchIndex.SearchDoc::title);
+            if (best != null && getLevenshteinDistance(normalize(title), normalize(best.title())) <= MAX_DISTANCE) {
+                return best.contentId();
+            }
+        }
+        return null;
+    }
+
+    private Map<String, Long> resolveByTourApi(List<String> titles, Map<String, List<String>> candidatesByTitle) {
+        Map<String, CompletableFuture<TourApiResponse.Item>> futures = new LinkedHashMap<>();
+        for (String title : titles) {
+            futures.put(title, submitSearch(() -> searchTourApi(title, candidatesByTitle.get(title)))
+                    .exceptionally(e -> {
+                        log.warn("장소명 TourAPI 매칭 실패 - title: {}, error: {}", title, e.getClass().getSimpleName());
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+
+        Map<String, TourApiResponse.Item> matched = new LinkedHashMap<>();
+        futures.forEach((title, future) -> {
+            TourApiResponse.Item item = future.join();
+            if (item != null) {
+                matched.put(title, item);
+            }
+        });
+
+        registerSpots(matched.values());
+
+        Map<String, Long> result = new HashMap<>();
+        for (String title : titles) {
+            TourApiResponse.Item item = matched.get(title);
+            result.put(title, item != null ? Long.valueOf(item.getContentid()) : NOT_FOUND);
+        }
+        return result;
+    }
+
+    // 타임아웃이 지나면 작업도 취소 (대기 중이면 실행되지 않고, 실행 중이면 인터럽트)
+    private CompletableFuture<TourApiResponse.Item> submitSearch(Supplier<TourApiResponse.Item> search) {
+        CompletableFuture<TourApiResponse.Item> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = resolveExecutor.submit(() -> {
+                try {
+                    result.complete(search.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((item, error) -> {
+                    if (error instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
+    private TourApiResponse.Item searchTourApi(String title, List<String> candidates) {
+        for (String candidate : candidates) {
+            List<TourApiResponse.Item> items = tourApiService.searchTouristSpotByKeyword(candidate);
+            if (items.isEmpty()) {
+                continue;
+            }
+
+            TourApiResponse.Item bestMatch = getMostSimilar(title, items, TourApiResponse.Item::getTitle);
+            if (bestMatch != null && bestMatch.getContentid() != null && !bestMatch.getContentid().isBlank()
+                    && getLevenshteinDistance(normalize(title), normalize(bestMatch.getTitle())) <= MAX_DISTANCE) {
+                return bestMatch;
+            }
+        }
+        return null;
+    }
+
+    // DB에 없는 관광지만 한 번에 저장
+    private void registerSpots(Collection<TourApiResponse.Item> items) {
+        Map<Long, TourApiResponse.Item> byContentId = items.stream()
+                .collect(Collectors.toMap(item -> Long.valueOf(item.getContentid()), Function.identity(),
+                        (existing, duplicate) -> existing, LinkedHashMap::new));
+        if (byContentId.isEmpty()) {
+            return;
+        }
+
+        touristSpotRepository.findAllByContentIdIn(new ArrayList<>(byContentId.keySet()))
+                .forEach(spot -> byContentId.remove(spot.getContentId()));
+
+        List<TouristSpot> newSpots = byContentId.entrySet().stream()
+                .map(entry -> TouristSpot.builder()
+                        .contentId(entry.getKey())
+                        .name(entry.getValue().getTitle())
+                        .contentTypeId(Integer.parseInt(entry.getValue().getContenttypeid()))
+                        .firstImage(entry.getValue().getFirstimage())
+                        .build())
+                .toList();
+        if (!newSpots.isEmpty()) {
+            touristSpotRepository.saveAll(newSpots);
+        }
+    }
+
+    private List<String> generateCandidateNames(String name) {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(name); // 원본
+
+        // 공백 제거
+        String noSpace = name.replaceAll("\\s+", "");
+        candidates.add(noSpace);
+
+        // 괄호 제거
+        String noBracket = name.replaceAll("\\([^)]*\\)", "");
+        candidates.add(noBracket.trim());
+
+        // "본점", "지점", "제주", "점" 같은 접미어 제거
+        String noBranch = name.replaceAll("(본점|지점|제주|점)$", "");
+        candidates.add(noBranch.trim());
+
+        return candidates.stream().filter(c -> !c.isBlank()).distinct().collect(Collectors.toList());
+    }
+
+    private <T> T getMostSimilar(String target, List<T> items, Function<T, String> titleOf) {
+        String normalizedTarget = normalize(target);
+
+        // 1. 정규화된 이름 기준 완전 일치
+        for (T item : items) {
+            String normalizedTitle = normalize(titleOf.apply(item));
+            if (normalizedTarget.equalsIgnoreCase(normalizedTitle)) {
+                return item;
+            }
+        }
+
+        // 2. 정규화된 포함 + 거리 기준
+        for (T item : items) {
+            String normalizedTitle = normalize(titleOf.apply(item));
+            if (normalizedTitle.contains(normalizedTarget)) {
+                int distance = getLevenshteinDistance(normalizedTarget, normalizedTitle);
+                if (distance <= 2) {
+                    return item;
+                }
+            }
+        }
+
+        // 3. 거리 기반 가장 가까운 것
+        return items.stream()
+                .min(Comparator.comparingInt(item ->
+                        getLevenshteinDistance(normalizedTarget, normalize(titleOf.apply(item)))))
+                .orElse(null);
+    }
+
+    private String normalize(String input) {
+        if (input == null) {
+            return "";
+        }
+        return input.replaceAll("\\[.*?\\]", "")   // 대괄호 제거
+                .replaceAll("\\(.*?\\)", "")   // 소괄호 제거
+                .replaceAll("\\s+", "")        // 공백 제거
+                .trim()
+                .toLowerCase();                // 소문자화
+    }
+
+    private int getLevenshteinDistance(String s1, String s2) {
+        s1 = s1.toLowerCase();
+        s2 = s2.toLowerCase();
+        int[] costs = new int[s2.length() + 1];
+        for (int j = 0; j < costs.length; j++) {
+            costs[j] = j;
+        }
+        for (int i = 1; i <= s1.length(); i++) {
+            costs[0] = i;
+            int nw = i - 1;
+            for (int j = 1; j <= s2.length(); j++) {
+                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
+                        s1.charAt(i - 1) == s2.charAt(j - 1) ? nw : nw + 1);
+                nw = costs[j];
+                costs[j] = cj;
+            }
+        }
+        return costs[s2.length()];
+    }
+}
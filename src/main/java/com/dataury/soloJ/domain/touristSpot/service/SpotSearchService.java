@@ -1,7 +1,8 @@
 package com.dataury.soloJ.domain.touristSpot.service;
 
-import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
-import com.dataury.soloJ.domain.review.repository.ReviewRepository;
+import com.dataury.soloJ.domain.chat.service.OpenChatRoomIndex;
+import com.dataury.soloJ.domain.review.entity.SpotReviewStats;
+import com.dataury.soloJ.domain.review.service.SpotReviewStatsService;
 import com.dataury.soloJ.domain.touristSpot.dto.CursorTourSpotListResponse;
 import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
 import com.dataury.soloJ.domain.touristSpot.dto.TourSpotRequest;
@@ -9,14 +10,21 @@ import com.dataury.soloJ.domain.touristSpot.dto.TourSpotResponse;
 import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
 import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
 import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotReviewTagRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,15 +34,142 @@ public class SpotSearchService {
 
     private final TouristSpotRepository touristSpotRepository;
     private final TourApiService tourApiService;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ReviewRepository reviewRepository;
+    private final OpenChatRoomIndex openChatRoomIndex;
+    private final SpotReviewStatsService spotReviewStatsService;
     private final TouristSpotReviewTagRepository tagRepository;
+    private final TouristSpotSearchIndex touristSpotSearchIndex;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final int MIRROR_AREA_CODE = 39; // 미러 동기화 대상 지역 (제주)
+    private static final String RANKING_CURSOR_PREFIX = "r:";
+    private static final String RANKING_KEY = "spot:search:ranking:%s";
+
+    @Value("${spot.search.ranking-ttl:10m}")
+    private Duration rankingTtl;
 
     /**
-     * Offset 기반 검색
+     * Offset 기반 검색 - 제주는 로컬 검색 인덱스, 그 외 지역(과 미러 전체 동기화 완료 전의 제주)은 TourAPI
      */
     @Transactional
     public TourSpotResponse.TourSpotListResponse searchSpotsWithOffset(TourSpotRequest.SpotSearchRequestDto request) {
+        if (!searchesLocally(request)) {
+            return searchTourApiWithOffset(request);
+        }
+
+        List<TouristSpotSearchIndex.Hit> hits = touristSpotSearchIndex.search(
+                request.getKeyword(), request.getContentTypeId(), request.getDifficulty());
+
+        // page 는 TourAPI pageNo 와 같이 1부터 (0 도 첫 페이지)
+        int from = Math.min(hits.size(), (Math.max(request.getPage(), 1) - 1) * request.getSize());
+        int to = Math.min(hits.size(), from + request.getSize());
+
+        return TourSpotResponse.TourSpotListResponse.builder()
+                .list(hits.subList(from, to).stream().map(this::toItem).toList())
+                .build();
+    }
+
+    /**
+     * Cursor 기반 검색 - 첫 페이지에서 정한 순위를 Redis 에 저장해 두고 다음 페이지는 그 순서대로 이어서 조회
+     * - 점수에 평점/열린 동행방 수가 섞여 있어 페이지 사이에 바뀌므로 (점수, id) 커서로는 중복/누락이 생김
+     * - 저장한 순위가 만료되면(spot.search.ranking-ttl) INVALID_CURSOR → 처음부터 다시 검색
+     */
+    @Transactional(readOnly = true)
+    public CursorTourSpotListResponse searchSpotsByCursor(TourSpotRequest.SpotSearchRequestDto request) {
+        if (!searchesLocally(request)) {
+            return searchTourApiByCursor(request);
+        }
+
+        int size = request.getSize();
+        String rankingId;
+        int offset;
+        boolean hasNext;
+        List<TouristSpotSearchIndex.Hit> pageHits;
+
+        if (request.getCursor() == null || request.getCursor().isEmpty()) {
+            List<TouristSpotSearchIndex.Hit> hits = touristSpotSearchIndex.search(
+                    request.getKeyword(), request.getContentTypeId(), request.getDifficulty());
+            offset = 0;
+            hasNext = hits.size() > size;
+            pageHits = hits.subList(0, Math.min(hits.size(), size));
+            rankingId = hasNext ? saveRanking(hits) : null;
+        } else {
+            String[] cursor = decodeRankingCursor(request.getCursor());
+            rankingId = cursor[0];
+            offset = Integer.parseInt(cursor[1]);
+            // 한 개 더 읽어 다음 페이지 여부 판단 (다음 페이지가 있을 때만 커서를 주므로 비어 있으면 만료)
+            List<String> ids = redisTemplate.opsForList().range(String.format(RANKING_KEY, rankingId), offset, offset + size);
+            if (ids == null || ids.isEmpty()) {
+                throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+            }
+            hasNext = ids.size() > size;
+            pageHits = touristSpotSearchIndex.hitsOf(ids.subList(0, Math.min(ids.size(), size)).stream()
+                    .map(Long::valueOf)
+                    .toList());
+        }
+
+        List<TourSpotResponse.TourSpotItemWithReview> results = pageHits.stream().map(this::toItem).toList();
+        return CursorTourSpotListResponse.builder()
+                .list(results)
+                .nextCursor(hasNext ? encodeRankingCursor(rankingId, offset + size) : null)
+                .hasNext(hasNext)
+                .size(results.size())
+                .build();
+    }
+
+    // 미러 전체 동기화가 끝나기 전에는 tourist_spots 에 일부 관광지만 있으므로 제주도 TourAPI 로
+    private boolean searchesLocally(TourSpotRequest.SpotSearchRequestDto request) {
+        return request.getAreaCode() == MIRROR_AREA_CODE && touristSpotSearchIndex.isComplete();
+    }
+
+    private TourSpotResponse.TourSpotItemWithReview toItem(TouristSpotSearchIndex.Hit hit) {
+        TouristSpotSearchIndex.SearchDoc doc = hit.doc();
+        return TourSpotResponse.TourSpotItemWithReview.builder()
+                .contentid(String.valueOf(doc.contentId()))
+                .contenttypeid(String.valueOf(doc.contentTypeId()))
+                .title(doc.title())
+                .addr1(doc.address())
+                .tel(doc.tel())
+                .firstimage(doc.firstImage())
+                .difficulty(doc.difficulty())
+                .reviewTags("")
+                .companionRoomCount(hit.roomCount())
+                .averageRating(hit.stats() != null ? hit.stats().getAverageRating() : null)
+                .reviewCount(hit.stats() != null ? hit.stats().getReviewCount() : 0)
+                .build();
+    }
+
+    private String saveRanking(List<TouristSpotSearchIndex.Hit> hits) {
+        String rankingId = UUID.randomUUID().toString();
+        String key = String.format(RANKING_KEY, rankingId);
+        redisTemplate.opsForList().rightPushAll(key, hits.stream()
+                .map(hit -> String.valueOf(hit.doc().contentId()))
+                .toList());
+        redisTemplate.expire(key, rankingTtl);
+        return rankingId;
+    }
+
+    private String encodeRankingCursor(String rankingId, int offset) {
+        String raw = RANKING_CURSOR_PREFIX + rankingId + ":" + offset;
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // [순위 id, 다음 위치] - 형식이 맞지 않으면 INVALID_CURSOR
+    private String[] decodeRankingCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.startsWith(RANKING_CURSOR_PREFIX)
+                    ? decoded.substring(RANKING_CURSOR_PREFIX.length()).split(":")
+                    : new String[0];
+            if (parts.length == 2 && Integer.parseInt(parts[1]) >= 0) {
+                return parts;
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 거절
+        }
+        throw new GeneralException(ErrorStatus.INVALID_CURSOR);
+    }
+
+    private TourSpotResponse.TourSpotListResponse searchTourApiWithOffset(TourSpotRequest.SpotSearchRequestDto request) {
 
         List<TourApiResponse.Item> apiResults = tourApiService.searchSpotsByKeyword(
                 request.getKeyword(),
@@ -76,14 +211,14 @@ public class SpotSearchService {
 
             }
         });
-        Map<Long, Integer> roomCountMap = chatRoomRepository.countOpenRoomsBySpotIds(contentIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Long) row[1]).intValue()));
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(contentIds);
+        Map<Long, SpotReviewStats> statsMap = spotReviewStatsService.getStats(contentIds);
 
         List<TourSpotResponse.TourSpotItemWithReview> results = apiResults.stream()
                 .map(item -> {
                     Long contentId = Long.valueOf(item.getContentid());
                     TouristSpot dbSpot = dbSpotMap.get(contentId);
-                    Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(contentId);
+                    SpotReviewStats stats = statsMap.get(contentId);
 
                     return TourSpotResponse.TourSpotItemWithReview.builder()
                             .contentid(item.getContentid())
@@ -95,7 +230,9 @@ public class SpotSearchService {
                             .difficulty(dbSpot != null ? dbSpot.getDifficulty() : null)
                             .reviewTags("")
                             .companionRoomCount(roomCountMap.getOrDefault(contentId, 0))
-                            .averageRating(averageRating)
+                            .averageRating(stats != null ? stats.getAverageRating()
+                                    : dbSpot != null ? dbSpot.getAverageRating() : null)
+                            .reviewCount(stats != null ? stats.getReviewCount() : 0)
                             .build();
                 })
                 .toList();
@@ -106,11 +243,7 @@ public class SpotSearchService {
                 .build();
     }
 
-    /**
-     * Cursor 기반 검색
-     */
-    @Transactional(readOnly = true)
-    public CursorTourSpotListResponse searchSpotsByCursor(TourSpotRequest.SpotSearchRequestDto request) {
+    private CursorTourSpotListResponse searchTourApiByCursor(TourSpotRequest.SpotSearchRequestDto request) {
         int pageNo = decodeCursorToPage(request.getCursor());
 
         List<TourApiResponse.Item> apiResults = tourApiService.searchSpotsByKeyword(
@@ -134,14 +267,14 @@ public class SpotSearchService {
         Map<Long, TouristSpot> dbSpotMap = touristSpotRepository.findAllByContentIdIn(contentIds).stream()
                 .collect(Collectors.toMap(TouristSpot::getContentId, spot -> spot));
 
-        Map<Long, Integer> roomCountMap = chatRoomRepository.countOpenRoomsBySpotIds(contentIds).stream()
-                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Long) row[1]).intValue()));
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(contentIds);
+        Map<Long, SpotReviewStats> statsMap = spotReviewStatsService.getStats(contentIds);
 
         List<TourSpotResponse.TourSpotItemWithReview> results = apiResults.stream()
                 .map(item -> {
                     Long contentId = Long.valueOf(item.getContentid());
                     TouristSpot dbSpot = dbSpotMap.get(contentId);
-                    Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(contentId);
+                    SpotReviewStats stats = statsMap.get(contentId);
 
                     return TourSpotResponse.TourSpotItemWithReview.builder()
                             .contentid(item.getContentid())
@@ -153,7 +286,9 @@ public class SpotSearchService {
                             .difficulty(dbSpot != null ? dbSpot.getDifficulty() : null)
                             .reviewTags("")
                             .companionRoomCount(roomCountMap.getOrDefault(contentId, 0))
-                            .averageRating(averageRating)
+                            .averageRating(stats != null ? stats.getAverageRating()
+                                    : dbSpot != null ? dbSpot.getAverageRating() : null)
+                            .reviewCount(stats != null ? stats.getReviewCount() : 0)
                             .build();
                 })
                 .toList();
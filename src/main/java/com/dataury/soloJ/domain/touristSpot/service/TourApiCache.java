@@ -0,0 +1,229 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * TourAPI 응답 read-through 캐시 (L1 Caffeine + L2 Redis)
+ * - 엔드포인트별 TTL/최대 크기: spring.tourapi.cache.{endpoint}.ttl / .max-size (기본 6시간 / 1000개)
+ * - TTL 이 지나도 stale-ttl(기본 TTL 의 4배)까지는 이전 값을 바로 돌려주고 백그라운드에서 갱신
+ * - 빈 결과는 negative-ttl(기본 5분)만 보관, loader 가 던진 예외(오류 응답)는 저장하지 않음
+ * - 같은 키의 동시 miss 는 Caffeine 이 한 번만 로딩 (서버 내), 갱신도 키당 하나만 실행
+ * - 메트릭: tourapi.cache.requests{endpoint, result=l1|l2|miss|stale}, tourapi.cache.load{endpoint}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourApiCache {
+
+    private static final String REDIS_KEY = "tourapi:%s:%s";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(6);
+    private static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofMinutes(5);
+    private static final long DEFAULT_MAX_SIZE = 1_000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> refreshing = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "tourapi-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 캐시 조회 - 없으면 loader 로 TourAPI 호출 후 L1/L2 에 저장
+     */
+    public <T> T get(String endpoint, String key, TypeReference<T> type, Supplier<T> loader) {
+        Region region = regions.computeIfAbsent(endpoint, this::createRegion);
+
+        Entry cached = region.l1.getIfPresent(key);
+        if (cached != null) {
+            if (cached.isFresh(region)) {
+                region.l1Hit.increment();
+            } else {
+                region.stale.increment();
+                refreshAsync(region, key, loader);
+            }
+            return objectMapper.convertValue(cached.value(), type);
+        }
+
+        // L1 miss → L2 → TourAPI (같은 키 동시 요청은 하나만 로딩)
+        Entry loaded = region.l1.get(key, k -> {
+            Entry fromRedis = readL2(region, k);
+            if (fromRedis != null) {
+                region.l2Hit.increment();
+                if (!fromRedis.isFresh(region)) {
+                    refreshAsync(region, k, loader);
+                }
+                return fromRedis;
+            }
+            region.miss.increment();
+            return load(region, k, loader);
+        });
+        return objectMapper.convertValue(loaded.value(), type);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private <T> Entry load(Region region, String key, Supplier<T> loader) {
+        T value = region.loadTimer.record(loader);
+        Entry entry = new Entry(value, System.currentTimeMillis());
+        writeL2(region, key, entry);
+        return entry;
+    }
+
+    private <T> void refreshAsync(Region region, String key, Supplier<T> loader) {
+        String refreshKey = region.endpoint + ":" + key;
+        if (refreshing.putIfAbsent(refreshKey, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    region.l1.put(key, load(region, key, loader));
+                } catch (Exception e) {
+                    // 갱신 실패 시 stale 값을 계속 사용
+                    log.warn("TourAPI 캐시 갱신 실패 - endpoint: {}, key: {}, error: {}", region.endpoint, key, e.getMessage());
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (Exception e) {
+            refreshing.remove(refreshKey);
+        }
+    }
+
+    private Entry readL2(Region region, String key) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(String.format(REDIS_KEY, region.endpoint, key));
+            return raw != null ? objectMapper.convertValue(raw, Entry.class) : null;
+        } catch (Exception e) {
+            log.warn("TourAPI L2 캐시 조회 실패 - endpoint: {}, error: {}", region.endpoint, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(Region region, String key, Entry entry) {
+        try {
+            redisTemplate.opsForValue().set(String.format(REDIS_KEY, region.endpoint, key), entry, region.expiry(entry));
+        } catch (Exception e) {
+            log.warn("TourAPI L2 캐시 저장 실패 - endpoint: {}, error: {}", region.endpoint, e.getMessage());
+        }
+    }
+
+    private Region createRegion(String endpoint) {
+        String prefix = "spring.tourapi.cache." + endpoint;
+        Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, DEFAULT_TTL);
+        Duration staleTtl = environment.getProperty(prefix + ".stale-ttl", Duration.class, ttl.multipliedBy(4));
+        Duration negativeTtl = environment.getProperty(prefix + ".negative-ttl", Duration.class, DEFAULT_NEGATIVE_TTL);
+        long maxSize = environment.getProperty(prefix + ".max-size", Long.class, DEFAULT_MAX_SIZE);
+
+        Cache<String, Entry> l1 = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return (entry.isEmpty() ? negativeTtl : staleTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "tourapi." + endpoint);
+
+        return new Region(endpoint, ttl, staleTtl, negativeTtl, l1, meterRegistry);
+    }
+
+    // value 는 L2(JSON) 왕복을 거치므로 조회 시 요청 타입으로 변환
+    record Entry(Object value, long loadedAt) {
+        boolean isFresh(Region region) {
+            Duration ttl = isEmpty() ? region.negativeTtl : region.ttl;
+            return System.currentTimeMillis() - loadedAt < ttl.toMillis();
+        }
+
+        @JsonIgnore
+        boolean isEmpty() {
+            return value == null
+                    || (value instanceof Collection<?> collection && collection.isEmpty())
+                    || (value instanceof Map<?, ?> map && map.isEmpty());
+        }
+    }
+
+    private static final class Region {
+        private final String endpoint;
+        private final Duration ttl;
+        private final Duration staleTtl;
+        private final Duration negativeTtl;
+        private final Cache<String, Entry> l1;
+        private final Counter l1Hit;
+        private final Counter l2Hit;
+        private final Counter miss;
+        private final Counter stale;
+        private final Timer loadTimer;
+
+        private Region(String endpoint, Duration ttl, Duration staleTtl, Duration negativeTtl, Cache<String, Entry> l1, MeterRegistry registry) {
+            this.endpoint = endpoint;
+            this.ttl = ttl;
+            this.staleTtl = staleTtl;
+            this.negativeTtl = negativeTtl;
+            this.l1 = l1;
+            this.l1Hit = requests(registry, endpoint, "l1");
+            this.l2Hit = requests(registry, endpoint, "l2");
+            this.miss = requests(registry, endpoint, "miss");
+            this.stale = requests(registry, endpoint, "stale");
+            this.loadTimer = Timer.builder("tourapi.cache.load")
+                    .description("캐시 miss/갱신 시 TourAPI 호출 시간")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+
+        private Duration expiry(Entry entry) {
+            return entry.isEmpty() ? negativeTtl : staleTtl;
+        }
+
+        private static Counter requests(MeterRegistry registry, String endpoint, String result) {
+            return Counter.builder("tourapi.cache.requests")
+                    .tag("endpoint", endpoint)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
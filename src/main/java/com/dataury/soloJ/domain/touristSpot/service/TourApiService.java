@@ -33,8 +33,9 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TourApiService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate tourApiRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TourApiCache tourApiCache;
 
     @Value("${spring.tourapi.key}")
     private String serviceKey;
@@ -45,14 +46,20 @@ public class TourApiService {
 
 
     public List<TourApiResponse.Item> fetchTouristSpots(Pageable pageable, TourSpotRequest.TourSpotRequestDto filterRequest) {
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize()
+                + ":" + filterRequest.getContentTypeId() + ":" + filterRequest.getAreaCode() + ":" + filterRequest.getSigunguCode();
+        return tourApiCache.get("areaBasedList", key, new TypeReference<>() {},
+                () -> fetchTouristSpotsFromApi(pageable, filterRequest));
+    }
+
+    private List<TourApiResponse.Item> fetchTouristSpotsFromApi(Pageable pageable, TourSpotRequest.TourSpotRequestDto filterRequest) {
         String url = buildUrl(pageable, filterRequest);
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
             JsonNode root = objectMapper.readTree(response.getBody());
 
-            String resultCode = root.path("response").path("header").path("resultCode").asText();
-            if (!"0000".equals(resultCode)) return List.of();
+            requireSuccess(root);
 
             JsonNode itemsNode = root.path("response").path("body").path("items");
             if (itemsNode.isTextual() || itemsNode.isNull() || !itemsNode.has("item")) return List.of();
@@ -66,14 +73,18 @@ public class TourApiService {
     }
 
     public List<TourApiResponse.Item> fetchTouristSpotDetailCommon(Long contentId) {
+        return tourApiCache.get("detailCommon", String.valueOf(contentId), new TypeReference<>() {},
+                () -> fetchTouristSpotDetailCommonFromApi(contentId));
+    }
+
+    private List<TourApiResponse.Item> fetchTouristSpotDetailCommonFromApi(Long contentId) {
         String url = buildDetailUrl(contentId);
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
             JsonNode root = objectMapper.readTree(response.getBody());
 
-            String resultCode = root.path("response").path("header").path("resultCode").asText();
-            if (!"0000".equals(resultCode)) return List.of();
+            requireSuccess(root);
 
             JsonNode itemsNode = root.path("response").path("body").path("items");
             if (itemsNode.isTextual() || itemsNode.isNull() || !itemsNode.has("item")) return List.of();
@@ -89,6 +100,11 @@ public class TourApiService {
 
 
     public List<TourApiResponse.Item> searchTouristSpotByKeyword(String keyword) {
+        return tourApiCache.get("searchKeyword", "top5:" + keyword, new TypeReference<>() {},
+                () -> searchTouristSpotByKeywordFromApi(keyword));
+    }
+
+    private List<TourApiResponse.Item> searchTouristSpotByKeywordFromApi(String keyword) {
         try {
             String url = "https://apis.data.go.kr/B551011/KorService2/searchKeyword2"
                     + "?serviceKey=" + serviceKey
@@ -99,11 +115,10 @@ public class TourApiService {
                     + "&numOfRows=5"
                     + "&keyword=" + keyword;
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
 
             JsonNode root = objectMapper.readTree(response.getBody());
-            String resultCode = root.path("response").path("header").path("resultCode").asText();
-            if (!"0000".equals(resultCode)) return List.of();
+            requireSuccess(root);
 
             JsonNode itemsNode = root.path("response").path("body").path("items");
 
@@ -132,12 +147,18 @@ public class TourApiService {
 
 
     public Map<String, Object> fetchDetailIntroAsMap(Long contentId, Long contentTypeId) {
+        return tourApiCache.get("detailIntro", contentId + ":" + contentTypeId, new TypeReference<>() {},
+                () -> fetchDetailIntroAsMapFromApi(contentId, contentTypeId));
+    }
+
+    private Map<String, Object> fetchDetailIntroAsMapFromApi(Long contentId, Long contentTypeId) {
         String url = buildDetailIntroUrl(contentId, contentTypeId);
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode itemNode = objectMapper.readTree(response.getBody())
-                    .path("response").path("body").path("items").path("item").get(0);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
+            JsonNode root = objectMapper.readTree(response.getBody());
+            requireSuccess(root);
+            JsonNode itemNode = root.path("response").path("body").path("items").path("item").get(0);
 
             Object dto = switch (contentTypeId.intValue()) {
                 case 12 -> objectMapper.treeToValue(itemNode, DetailIntroType12Dto.class);
@@ -210,6 +231,16 @@ public class TourApiService {
     public List<TourApiResponse.ImageItem> fetchTouristSpotImages(Long contentId, int pageNo, int numOfRows) {
         int rows = Math.max(1, Math.min(numOfRows, 50)); // 안전 가드 (공식 스펙 100도 되긴 하나 지나친 낭비 방지)
         int page = Math.max(1, pageNo);
+        // 실패는 캐시하지 않고 이번 요청만 빈 목록 (리뷰 이미지는 그대로 보여줌)
+        try {
+            return tourApiCache.get("detailImage", contentId + ":" + page + ":" + rows, new TypeReference<>() {},
+                    () -> fetchTouristSpotImagesFromApi(contentId, page, rows));
+        } catch (GeneralException e) {
+            return List.of();
+        }
+    }
+
+    private List<TourApiResponse.ImageItem> fetchTouristSpotImagesFromApi(Long contentId, int page, int rows) {
 
         String url = "https://apis.data.go.kr/B551011/KorService2/detailImage2"
                 + "?serviceKey=" + serviceKey
@@ -223,14 +254,15 @@ public class TourApiService {
 
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
             if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-                return List.of();
+                throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
             }
             String body = response.getBody().trim();
 
             if (!body.startsWith("<")) {
                 JsonNode root = objectMapper.readTree(body);
+                requireSuccess(root);
                 JsonNode itemNode = root.path("response").path("body").path("items").path("item");
                 List<TourApiResponse.ImageItem> images = new ArrayList<>();
                 if (itemNode.isArray()) {
@@ -246,47 +278,35 @@ public class TourApiService {
             return fallback;
 
         } catch (Exception e) {
-            return List.of();
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
         }
     }
 
 
 
     // --- XML 폴백 파서 (JDK만 사용) ---
-    private List<TourApiResponse.ImageItem> parseImageItemsFromXml(String xml) {
-        try {
-            Document doc = DocumentBuilderFactory.newInstance()
-                    .newDocumentBuilder()
-                    .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
-            doc.getDocumentElement().normalize();
-
-            // resultCode 로그
-            NodeList headerCodes = doc.getElementsByTagName("resultCode");
-            if (headerCodes != null && headerCodes.getLength() > 0) {
-                String rc = headerCodes.item(0).getTextContent();
-                NodeList rms = doc.getElementsByTagName("resultMsg");
-                String rm = (rms != null && rms.getLength() > 0) ? rms.item(0).getTextContent() : null;
-                if (!"0000".equals(rc)) log.warn("[TourAPI] XML resultCode={} resultMsg={}", rc, rm);
-            }
-
-            NodeList items = doc.getElementsByTagName("item");
-            List<TourApiResponse.ImageItem> images = new ArrayList<>();
-            for (int i = 0; i < items.getLength(); i++) {
-                Element el = (Element) items.item(i);   // ✅ Element 사용 (위 import 추가했음)
-                TourApiResponse.ImageItem image = new TourApiResponse.ImageItem();
-                image.setOriginimgurl(getText(el, "originimgurl"));
-                image.setSmallimageurl(getText(el, "smallimageurl"));
-                image.setImgname(getText(el, "imgname"));
-                image.setSerialno(getText(el, "serialnum")); // 필드명 주의
-                image.setCpyrhtDivCd(getText(el, "cpyrhtDivCd"));
-                if (image.getOriginimgurl() != null && !image.getOriginimgurl().isBlank()) {
-                    images.add(image);
-                }
+    private List<TourApiResponse.ImageItem> parseImageItemsFromXml(String xml) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        doc.getDocumentElement().normalize();
+        requireSuccess(doc);
+
+        NodeList items = doc.getElementsByTagName("item");
+        List<TourApiResponse.ImageItem> images = new ArrayList<>();
+        for (int i = 0; i < items.getLength(); i++) {
+            Element el = (Element) items.item(i);   // ✅ Element 사용 (위 import 추가했음)
+            TourApiResponse.ImageItem image = new TourApiResponse.ImageItem();
+            image.setOriginimgurl(getText(el, "originimgurl"));
+            image.setSmallimageurl(getText(el, "smallimageurl"));
+            image.setImgname(getText(el, "imgname"));
+            image.setSerialno(getText(el, "serialnum")); // 필드명 주의
+            image.setCpyrhtDivCd(getText(el, "cpyrhtDivCd"));
+            if (image.getOriginimgurl() != null && !image.getOriginimgurl().isBlank()) {
+                images.add(image);
             }
-            return images;
-        } catch (Exception ex) {
-            return List.of();
         }
+        return images;
     }
 
     private String getText(Element el, String tag) {
@@ -294,6 +314,27 @@ public class TourApiService {
         return (nl != null && nl.getLength() > 0) ? nl.item(0).getTextContent() : null;
     }
 
+    // 오류 응답(resultCode != 0000)은 예외로 - 빈 목록으로 바꾸면 캐시 TTL 동안 그대로 남음
+    private static void requireSuccess(JsonNode root) {
+        String resultCode = root.path("response").path("header").path("resultCode").asText();
+        if (!"0000".equals(resultCode)) {
+            log.warn("[TourAPI] resultCode={} resultMsg={}", resultCode,
+                    root.path("response").path("header").path("resultMsg").asText(null));
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
+        }
+    }
+
+    private static void requireSuccess(Document doc) {
+        NodeList codes = doc.getElementsByTagName("resultCode");
+        String resultCode = (codes != null && codes.getLength() > 0) ? codes.item(0).getTextContent() : null;
+        if (!"0000".equals(resultCode)) {
+            NodeList msgs = doc.getElementsByTagName("resultMsg");
+            log.warn("[TourAPI] XML resultCode={} resultMsg={}", resultCode,
+                    (msgs != null && msgs.getLength() > 0) ? msgs.item(0).getTextContent() : null);
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
+        }
+    }
+
     // JSON helper 그대로 유지
     private TourApiResponse.ImageItem toImageItem(JsonNode item) {
         TourApiResponse.ImageItem image = new TourApiResponse.ImageItem();
@@ -307,6 +348,17 @@ public class TourApiService {
 
     // 키워드 기반 관광지 검색
     public List<TourApiResponse.Item> searchSpotsByKeyword(String keyword, Integer areaCode, Integer contentTypeId, Integer page, Integer size) {
+        String key = keyword + ":" + areaCode + ":" + contentTypeId + ":" + page + ":" + size;
+        // 실패는 캐시하지 않고 이번 요청만 빈 목록 (DB 결과는 유지)
+        try {
+            return tourApiCache.get("searchKeyword", key, new TypeReference<>() {},
+                    () -> searchSpotsByKeywordFromApi(keyword, areaCode, contentTypeId, page, size));
+        } catch (GeneralException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<TourApiResponse.Item> searchSpotsByKeywordFromApi(String keyword, Integer areaCode, Integer contentTypeId, Integer page, Integer size) {
         try {
             // URL 인코딩 처리
 //            String encodedKeyword = java.net.URLEncoder.encode(keyword, "UTF-8");
@@ -329,7 +381,7 @@ public class TourApiService {
 
             String url = urlBuilder.toString();
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
             String responseBody = response.getBody();
 
             // XML인지 JSON인지 확인
@@ -338,6 +390,7 @@ public class TourApiService {
             } else {
                 // JSON 파싱
                 JsonNode root = objectMapper.readTree(responseBody);
+                requireSuccess(root);
                 JsonNode items = root.path("response").path("body").path("items").path("item");
 
                 List<TourApiResponse.Item> result = new ArrayList<>();
@@ -357,7 +410,7 @@ public class TourApiService {
                 return result;
             }
         } catch (Exception e) {
-            return Collections.emptyList(); // 예외 발생 시 빈 리스트 반환 (DB 결과는 유지)
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
         }
     }
 
@@ -375,35 +428,39 @@ public class TourApiService {
     }
 
     // XML 응답 파싱 메서드
-    private List<TourApiResponse.Item> parseXmlSearchResponse(String xmlResponse) {
-        try {
-            Document doc = DocumentBuilderFactory.newInstance()
-                    .newDocumentBuilder()
-                    .parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
-
-            NodeList itemNodes = doc.getElementsByTagName("item");
-            List<TourApiResponse.Item> result = new ArrayList<>();
-
-            for (int i = 0; i < itemNodes.getLength(); i++) {
-                Element item = (Element) itemNodes.item(i);
-                TourApiResponse.Item tourItem = new TourApiResponse.Item();
-
-                tourItem.setContentid(getText(item, "contentid"));
-                tourItem.setContenttypeid(getText(item, "contenttypeid"));
-                tourItem.setTitle(getText(item, "title"));
-                tourItem.setAddr1(getText(item, "addr1"));
-                tourItem.setFirstimage(getText(item, "firstimage"));
-
-                result.add(tourItem);
-            }
-            return result;
-        } catch (Exception e) {
-            return Collections.emptyList();
+    private List<TourApiResponse.Item> parseXmlSearchResponse(String xmlResponse) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder()
+                .parse(new ByteArrayInputStream(xmlResponse.getBytes(StandardCharsets.UTF_8)));
+        requireSuccess(doc);
+
+        NodeList itemNodes = doc.getElementsByTagName("item");
+        List<TourApiResponse.Item> result = new ArrayList<>();
+
+        for (int i = 0; i < itemNodes.getLength(); i++) {
+            Element item = (Element) itemNodes.item(i);
+            TourApiResponse.Item tourItem = new TourApiResponse.Item();
+
+            tourItem.setContentid(getText(item, "contentid"));
+            tourItem.setContenttypeid(getText(item, "contenttypeid"));
+            tourItem.setTitle(getText(item, "title"));
+            tourItem.setAddr1(getText(item, "addr1"));
+            tourItem.setFirstimage(getText(item, "firstimage"));
+
+            result.add(tourItem);
         }
+        return result;
     }
 
     // 위치 기반 관광지 조회
     public List<TourApiResponse.Item> fetchNearbySpots(Double latitude, Double longitude, Integer radius, Integer contentTypeId) {
+        // 좌표는 소수 4자리(약 10m)로 묶어 근접한 요청끼리 같은 키를 사용
+        String key = String.format("%.4f:%.4f:%s:%s", latitude, longitude, radius, contentTypeId);
+        return tourApiCache.get("locationBasedList", key, new TypeReference<>() {},
+                () -> fetchNearbySpotsFromApi(latitude, longitude, radius, contentTypeId));
+    }
+
+    private List<TourApiResponse.Item> fetchNearbySpotsFromApi(Double latitude, Double longitude, Integer radius, Integer contentTypeId) {
         StringBuilder urlBuilder = new StringBuilder(BASE_URL_V2 + "/locationBasedList2");
         urlBuilder.append("?serviceKey=").append(serviceKey);
         urlBuilder.append("&MobileOS=WIN");
@@ -424,8 +481,9 @@ public class TourApiService {
         String url = urlBuilder.toString();
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
             JsonNode root = objectMapper.readTree(response.getBody());
+            requireSuccess(root);
             JsonNode items = root.path("response").path("body").path("items").path("item");
 
             if (items.isArray()) {
@@ -450,8 +508,66 @@ public class TourApiService {
         }
     }
 
+    // 미러 동기화용 지역기반 목록 (캐시 미사용, 제주 전체를 페이지 단위로)
+    public List<TourApiResponse.Item> fetchAreaBasedPage(int pageNo, int numOfRows) {
+        String url = BASE_URL_V2 + "/areaBasedList2"
+                + "?serviceKey=" + serviceKey
+                + "&MobileApp=" + appName
+                + "&MobileOS=ETC"
+                + "&_type=json"
+                + "&arrange=C"
+                + "&areaCode=39"
+                + "&numOfRows=" + numOfRows
+                + "&pageNo=" + pageNo;
+        return fetchSyncItems(url);
+    }
+
+    // 미러 동기화용 변경 목록 (modifiedDate: yyyyMMdd 에 수정된 콘텐츠, showflag 포함)
+    public List<TourApiResponse.Item> fetchSyncPage(String modifiedDate, int pageNo, int numOfRows) {
+        String url = BASE_URL_V2 + "/areaBasedSyncList2"
+                + "?serviceKey=" + serviceKey
+                + "&MobileApp=" + appName
+                + "&MobileOS=ETC"
+                + "&_type=json"
+                + "&areaCode=39"
+                + "&modifiedtime=" + modifiedDate
+                + "&numOfRows=" + numOfRows
+                + "&pageNo=" + pageNo;
+        return fetchSyncItems(url);
+    }
+
+    private List<TourApiResponse.Item> fetchSyncItems(String url) {
+        try {
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
+            JsonNode root = objectMapper.readTree(response.getBody());
+
+            requireSuccess(root);
+
+            JsonNode itemNode = root.path("response").path("body").path("items").path("item");
+            List<TourApiResponse.Item> result = new ArrayList<>();
+            if (itemNode.isArray()) {
+                for (JsonNode node : itemNode) {
+                    result.add(objectMapper.treeToValue(node, TourApiResponse.Item.class));
+                }
+            } else if (itemNode.isObject()) {
+                result.add(objectMapper.treeToValue(itemNode, TourApiResponse.Item.class));
+            }
+            return result;
+
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
+        }
+    }
+
     // 반복정보 조회 (detailInfo2)
     public List<Map<String, Object>> fetchDetailInfo(Long contentId, Long contentTypeId) {
+        return tourApiCache.get("detailInfo", contentId + ":" + contentTypeId, new TypeReference<>() {},
+                () -> fetchDetailInfoFromApi(contentId, contentTypeId));
+    }
+
+    private List<Map<String, Object>> fetchDetailInfoFromApi(Long contentId, Long contentTypeId) {
         String url = BASE_URL_V2 + "/detailInfo2"
                 + "?serviceKey=" + serviceKey
                 + "&MobileApp=" + appName
@@ -462,9 +578,10 @@ public class TourApiService {
                 + "&numOfRows=100";
 
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode itemNode = objectMapper.readTree(response.getBody())
-                    .path("response").path("body").path("items").path("item");
+            ResponseEntity<String> response = tourApiRestTemplate.getForEntity(url, String.class);
+            JsonNode root = objectMapper.readTree(response.getBody());
+            requireSuccess(root);
+            JsonNode itemNode = root.path("response").path("body").path("items").path("item");
 
             List<Map<String, Object>> result = new ArrayList<>();
 
@@ -0,0 +1,48 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.repository.BatchJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * TourAPI 미러(tourist_spots) 사용 가능 여부
+ * - 전체 재적재(batch_job tourSpotFullSync)가 한 번이라도 COMPLETED 로 끝나야 준비됨
+ *   (그 전에는 기존 행의 좌표가 비어 있거나 목록이 일부뿐이라 TourAPI 로 조회해야 함)
+ * - 이후 전체 재적재는 upsert 라 기존 행이 남아 있으므로 한 번 준비되면 계속 유지
+ * - 준비 전에는 조회 시 일정 간격으로만 batch_job 을 다시 확인 (다른 서버가 동기화를 끝낸 경우)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TourSpotMirrorStatus {
+
+    private final BatchJobRepository batchJobRepository;
+
+    @Value("${spot.mirror.ready-check-interval-ms:60000}")
+    private long readyCheckIntervalMs;
+
+    private volatile boolean ready;
+    private volatile long lastCheckedAt;
+
+    public boolean isReady() {
+        if (ready) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (lastCheckedAt != 0 && now - lastCheckedAt < readyCheckIntervalMs) {
+            return false;
+        }
+        lastCheckedAt = now;
+        try {
+            if (batchJobRepository.existsCompleted(TourSpotSyncService.FULL_SYNC_JOB)) {
+                ready = true;
+                log.info("TourAPI 미러 전체 동기화 완료 확인 - 제주 조회를 로컬 인덱스로 전환");
+            }
+        } catch (Exception e) {
+            log.warn("TourAPI 미러 동기화 상태 확인 실패 - error: {}", e.getMessage());
+        }
+        return ready;
+    }
+}
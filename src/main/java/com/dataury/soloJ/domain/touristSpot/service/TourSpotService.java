@@ -1,7 +1,9 @@
 package com.dataury.soloJ.domain.touristSpot.service;
 
-import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.service.OpenChatRoomIndex;
+import com.dataury.soloJ.domain.review.entity.SpotReviewStats;
 import com.dataury.soloJ.domain.review.repository.ReviewRepository;
+import com.dataury.soloJ.domain.review.service.SpotReviewStatsService;
 import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
 import com.dataury.soloJ.domain.touristSpot.dto.TourSpotRequest;
 import com.dataury.soloJ.domain.touristSpot.dto.TourSpotResponse;
@@ -10,16 +12,27 @@ import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
 import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotReviewTagRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,68 +43,44 @@ public class TourSpotService {
     private final TourApiService tourApiService;
     private final TouristSpotRepository touristSpotRepository;
     private final TouristSpotReviewTagRepository tagRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final OpenChatRoomIndex openChatRoomIndex;
     private final ReviewRepository reviewRepository;
+    private final SpotReviewStatsService spotReviewStatsService;
+    private final MeterRegistry meterRegistry;
+    private final SpotNameResolver spotNameResolver;
+
+    // 상세 페이지 하위 호출용 (가득 차면 거절 → 기본 정보는 실패, 나머지는 빈 값)
+    @Value("${spring.tourapi.detail.pool-size:16}")
+    private int detailPoolSize;
+    @Value("${spring.tourapi.detail.basic-timeout-ms:3000}")
+    private long basicTimeoutMs;
+    @Value("${spring.tourapi.detail.part-timeout-ms:1500}")
+    private long partTimeoutMs;
+
+    private ThreadPoolTaskExecutor detailExecutor;
+
+    @PostConstruct
+    public void initDetailExecutor() {
+        detailExecutor = new ThreadPoolTaskExecutor();
+        detailExecutor.setCorePoolSize(detailPoolSize);
+        detailExecutor.setMaxPoolSize(detailPoolSize);
+        detailExecutor.setQueueCapacity(detailPoolSize * 4);
+        detailExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        detailExecutor.setThreadNamePrefix("tourspot-detail-");
+        detailExecutor.initialize();
+    }
 
-    public TourSpotResponse.TourSpotListResponse getTourSpotsSummary(Pageable pageable, TourSpotRequest.TourSpotRequestDto filter) {
+    @PreDestroy
+    public void shutdownDetailExecutor() {
+        detailExecutor.shutdown();
+    }
 
-        List<TouristSpot> spots;
-        List<TourApiResponse.Item> items = new ArrayList<>();
-
-        // 필터 있는 경우 → DB 조회 (API 안 탐)
-        if (filter.getDifficulty() != null) {
-            spots = touristSpotRepository.findAllByDifficulty(filter.getDifficulty(), pageable);
-
-            // address, tel 누락된 경우 → API 호출해서 보강
-            for (TouristSpot spot : spots) {
-                if (spot.getAddress() == null || spot.getTel() == null) {
-                    List<TourApiResponse.Item> apiItems = tourApiService.fetchTouristSpotDetailCommon(spot.getContentId());
-                    if (!apiItems.isEmpty()) {
-                        TourApiResponse.Item apiItem = apiItems.get(0);
-                        spot.setAddress(apiItem.getAddr1());
-                        spot.setTel(apiItem.getTel());
-                        touristSpotRepository.save(spot);
-                    }
-                }
-            }
+    public TourSpotResponse.TourSpotListResponse getTourSpotsSummary(Pageable pageable, TourSpotRequest.TourSpotRequestDto filter) {
 
-        } else {
-            // 필터 없는 경우 → TourAPI 호출 + DB 동기화
-            items = tourApiService.fetchTouristSpots(pageable, filter);
-            List<Long> contentIds = items.stream()
-                    .map(item -> Long.valueOf(item.getContentid()))
-                    .toList();
-
-            List<TouristSpot> existingSpots = touristSpotRepository.findAllByContentIdIn(contentIds);
-            Map<Long, TouristSpot> spotMap = existingSpots.stream()
-                    .collect(Collectors.toMap(TouristSpot::getContentId, Function.identity()));
-
-            spots = new ArrayList<>();
-            for (TourApiResponse.Item item : items) {
-                Long contentId = Long.valueOf(item.getContentid());
-                TouristSpot spot = spotMap.get(contentId);
-
-                if (spot == null) {
-                    // 새로 저장 시 address, tel도 함께 저장
-                    spot = touristSpotRepository.save(TouristSpot.builder()
-                            .contentId(contentId)
-                            .name(item.getTitle())
-                            .contentTypeId(Integer.parseInt(item.getContenttypeid()))
-                            .firstImage(item.getFirstimage())
-                            .address(item.getAddr1())
-                            .tel(item.getTel())
-                            .build());
-                } else {
-                    // 이미 있는 경우에도 address, tel 업데이트
-                    if (spot.getAddress() == null || spot.getTel() == null) {
-                        spot.setAddress(item.getAddr1());
-                        spot.setTel(item.getTel());
-                        touristSpotRepository.save(spot);
-                    }
-                }
-                spots.add(spot);
-            }
-        }
+        // TourAPI 를 직접 호출하지 않고 TourSpotSyncService 가 동기화한 미러에서 조회
+        List<TouristSpot> spots = filter.getDifficulty() != null
+                ? touristSpotRepository.findAllByDifficulty(filter.getDifficulty(), pageable)
+                : touristSpotRepository.findMirrorSpots(filter.getContentTypeId(), filter.getSigunguCode(), pageable);
 
         // 공통 처리 (태그, 동행방, 리뷰)
         Map<Long, String> tagMap = tagRepository.findAllByTouristSpotIn(spots).stream()
@@ -101,16 +90,18 @@ public class TourSpotService {
                         (existing, replacement) -> existing // 중복 있을 때 기존 것 유지
                 ));
 
-        Map<Long, Integer> roomCountMap = chatRoomRepository.countOpenRoomsBySpotIds(
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(
                 spots.stream().map(TouristSpot::getContentId).toList()
-        ).stream().collect(Collectors.toMap(
-                row -> (Long) row[0],
-                row -> ((Long) row[1]).intValue()
-        ));
+        );
+
+        // 평균 별점/리뷰 수는 관광지별 통계에서 한 번에 조회 (통계가 아직 없으면 TouristSpot 값 사용)
+        Map<Long, SpotReviewStats> statsMap = spotReviewStatsService.getStats(
+                spots.stream().map(TouristSpot::getContentId).toList()
+        );
 
         List<TourSpotResponse.TourSpotItemWithReview> result = spots.stream()
                 .map(spot -> {
-                    Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(spot.getContentId());
+                    SpotReviewStats stats = statsMap.get(spot.getContentId());
                     return TourSpotResponse.TourSpotItemWithReview.builder()
                             .contentid(String.valueOf(spot.getContentId()))
                             .contenttypeid(String.valueOf(spot.getContentTypeId()))
@@ -121,7 +112,8 @@ public class TourSpotService {
                             .difficulty(spot.getDifficulty())
                             .reviewTags(spot.getReviewTag() != null ? spot.getReviewTag().getDescription() : null)
                             .companionRoomCount(roomCountMap.getOrDefault(spot.getContentId(), 0))
-                            .averageRating(averageRating)
+                            .averageRating(stats != null ? stats.getAverageRating() : spot.getAverageRating())
+                            .reviewCount(stats != null ? stats.getReviewCount() : 0)
                             .build();
                 })
                 .toList();
@@ -161,31 +153,87 @@ public class TourSpotService {
         return homepageHtml.replaceAll(".*href=\\\"(.*?)\\\".*", "$1");
     }
 
+    /**
+     * 관광지 상세 - TourAPI 3건(common/intro/info)과 DB 조회(태그/평점)를 병렬로 실행
+     * - 각 하위 호출은 개별 타임아웃을 가지며, 기본 정보(common) 외에는 실패/지연 시 빈 값으로 응답
+     * - 관광지 존재 확인은 호출 스레드에서 처리
+     */
     public TourSpotResponse.TourSpotDetailWrapper getTourSpotDetailFull(Long contentId, Long contentTypeId) {
-        TourSpotResponse.TourSpotDetailDto basic = getTourSpotDetailCommon(contentId, contentTypeId);
-        Map<String, Object> intro = tourApiService.fetchDetailIntroAsMap(contentId, contentTypeId);
-        List<Map<String, Object>> info = tourApiService.fetchDetailInfo(contentId, contentTypeId);
+        CompletableFuture<TourSpotResponse.TourSpotDetailDto> basicFuture =
+                submitDetail(basicTimeoutMs, () -> getTourSpotDetailCommon(contentId, contentTypeId));
+        CompletableFuture<Map<String, Object>> introFuture = detailPart("intro", partTimeoutMs, Map.of(),
+                () -> tourApiService.fetchDetailIntroAsMap(contentId, contentTypeId));
+        CompletableFuture<List<Map<String, Object>>> infoFuture = detailPart("info", partTimeoutMs, List.of(),
+                () -> tourApiService.fetchDetailInfo(contentId, contentTypeId));
+        CompletableFuture<List<String>> tagsFuture = detailPart("tags", partTimeoutMs, List.of(),
+                () -> tagRepository.findAllByTouristSpotContentId(contentId).stream()
+                        .map(t -> t.getReviewTag().getDescription())
+                        .toList());
+        // 평균 별점 계산
+        CompletableFuture<Double> ratingFuture = detailPart("rating", partTimeoutMs, null,
+                () -> reviewRepository.findAverageRatingByTouristSpotContentId(contentId));
 
-        TouristSpot spot =  touristSpotRepository.findByContentId(contentId)
+        TouristSpot spot = touristSpotRepository.findByContentId(contentId)
                 .orElseThrow(() -> new GeneralException(ErrorStatus.TOURIST_SPOT_NOT_FOUND));
 
-        List<String> reviewTags = tagRepository.findAllByTouristSpot(spot).stream()
-                .map(t -> t.getReviewTag().getDescription())
-                .toList();
-
-        // 평균 별점 계산
-        Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(contentId);
+        TourSpotResponse.TourSpotDetailDto basic;
+        try {
+            basic = basicFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof GeneralException generalException) {
+                throw generalException;
+            }
+            log.warn("관광지 기본 정보 조회 실패 - contentId: {}, error: {}", contentId, String.valueOf(e.getCause()));
+            throw new GeneralException(ErrorStatus.TOUR_API_FAIL);
+        }
 
         return TourSpotResponse.TourSpotDetailWrapper.builder()
                 .basic(basic)
-                .intro(intro)
-                .info(info)
-                .reviewTags(reviewTags)
+                .intro(introFuture.join())
+                .info(infoFuture.join())
+                .reviewTags(tagsFuture.join())
                 .difficulty(spot.getDifficulty())
-                .averageRating(averageRating)
+                .averageRating(ratingFuture.join())
                 .build();
     }
 
+    // 실패하거나 타임아웃이 지나면 fallback 으로 완료되는 하위 호출
+    private <T> CompletableFuture<T> detailPart(String part, long timeoutMs, T fallback, Supplier<T> supplier) {
+        return submitDetail(timeoutMs, supplier)
+                .exceptionally(e -> {
+                    Counter.builder("tourspot.detail.fallback")
+                            .tag("part", part)
+                            .register(meterRegistry)
+                            .increment();
+                    log.warn("관광지 상세 부분 응답 - part: {}, error: {}", part, e.getClass().getSimpleName());
+                    return fallback;
+                });
+    }
+
+    // 타임아웃이 지나면 작업도 취소 (대기 중이면 실행되지 않고, 실행 중이면 인터럽트)
+    // 이미 소켓을 읽는 중인 TourAPI 호출은 outbound.tourapi.read-timeout 까지만 스레드를 잡음
+    private <T> CompletableFuture<T> submitDetail(long timeoutMs, Supplier<T> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = detailExecutor.submit(() -> {
+                try {
+                    result.complete(supplier.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    if (error instanceof TimeoutException) {
+                        task.cancel(true);
+                    }
+                });
+    }
+
 
     public List<TouristSpot> findAllByContentIdIn(List<Long> contentIds) {
         return touristSpotRepository.findAllByContentIdIn(contentIds);
@@ -199,136 +247,9 @@ public class TourSpotService {
                 .toList();
     }
 
+    // 단건 매칭 (일괄 매칭은 SpotNameResolver.resolveAll)
     public Long resolveOrRegisterSpotByTitle(String originalTitle) {
-
-        // Step 1. 전처리 후보군 생성
-        List<String> nameCandidates = generateCandidateNames(originalTitle);
-
-        // Step 2. DB 검색
-        for (String candidate : nameCandidates) {
-            List<TouristSpot> existingList = touristSpotRepository.findByNameAndContentIdIsNull(candidate);
-            if (!existingList.isEmpty()) {
-                // contentId가 null인 애들은 여러 개일 수 있으니까 첫 번째 것만 리턴
-                return existingList.get(0).getContentId();
-            }
-        }
-
-        // Step 3. TourAPI 검색
-        for (String candidate : nameCandidates) {
-            List<TourApiResponse.Item> items = tourApiService.searchTouristSpotByKeyword(candidate);
-
-            if (items.isEmpty()) {
-                continue;
-            }
-
-
-            TourApiResponse.Item bestMatch = getMostSimilarItem(originalTitle, items);
-            if (bestMatch != null && bestMatch.getContentid() != null && !bestMatch.getContentid().isBlank()) {
-                String normalizedTarget = normalize(originalTitle);
-                String normalizedBestMatch = normalize(bestMatch.getTitle());
-                int distance = getLevenshteinDistance(normalizedTarget, normalizedBestMatch);
-                if (distance <= 3) { // 유연하게 조정
-                    Long contentId = Long.valueOf(bestMatch.getContentid());
-                    TouristSpot spot = touristSpotRepository.findByContentId(contentId)
-                            .orElseGet(() -> touristSpotRepository.save(
-                                    TouristSpot.builder()
-                                            .contentId(contentId)
-                                            .name(bestMatch.getTitle())
-                                            .contentTypeId(Integer.parseInt(bestMatch.getContenttypeid()))
-                                            .firstImage(bestMatch.getFirstimage())
-                                            .build()
-                            ));
-                    return spot.getContentId();
-                } else {
-                }
-            }
-
-        }
-
-        return -1L;
-    }
-
-
-    private List<String> generateCandidateNames(String name) {
-        List<String> candidates = new ArrayList<>();
-        candidates.add(name); // 원본
-
-        // 공백 제거
-        String noSpace = name.replaceAll("\\s+", "");
-        candidates.add(noSpace);
-
-        // 괄호 제거
-        String noBracket = name.replaceAll("\\([^)]*\\)", "");
-        candidates.add(noBracket.trim());
-
-        // "본점", "지점", "제주", "점" 같은 접미어 제거
-        String noBranch = name.replaceAll("(본점|지점|제주|점)$", "");
-        candidates.add(noBranch.trim());
-
-        return candidates.stream().distinct().collect(Collectors.toList());
-    }
-
-    private TourApiResponse.Item getMostSimilarItem(String target, List<TourApiResponse.Item> items) {
-        String normalizedTarget = normalize(target);
-
-        // 1. 정규화된 이름 기준 완전 일치
-        for (TourApiResponse.Item item : items) {
-            String normalizedTitle = normalize(item.getTitle());
-            if (normalizedTarget.equalsIgnoreCase(normalizedTitle)) {
-                return item;
-            }
-        }
-
-        // 2. 정규화된 포함 + 거리 기준
-        for (TourApiResponse.Item item : items) {
-            String normalizedTitle = normalize(item.getTitle());
-            if (normalizedTitle.contains(normalizedTarget)) {
-                int distance = getLevenshteinDistance(normalizedTarget, normalizedTitle);
-                if (distance <= 2) {
-                    return item;
-                }
-            }
-        }
-
-        // 3. 거리 기반 가장 가까운 것
-        return items.stream()
-                .min(Comparator.comparingInt(item ->
-                        getLevenshteinDistance(normalizedTarget, normalize(item.getTitle()))))
-                .orElse(null);
-    }
-
-    private String normalize(String input) {
-        return input.replaceAll("\\[.*?\\]", "")   // 대괄호 제거
-                .replaceAll("\\(.*?\\)", "")   // 소괄호 제거
-                .replaceAll("\\s+", "")        // 공백 제거
-                .trim()
-                .toLowerCase();                // 소문자화
-    }
-
-
-
-    private int getLevenshteinDistance(String s1, String s2) {
-        s1 = s1.toLowerCase();
-        s2 = s2.toLowerCase();
-        int[] costs = new int[s2.length() + 1];
-        for (int j = 0; j < costs.length; j++) {
-            costs[j] = j;
-        }
-        for (int i = 1; i <= s1.length(); i++) {
-            costs[0] = i;
-            int nw = i - 1;
-            for (int j = 1; j <= s2.length(); j++) {
-                int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
-                        s1.charAt(i - 1) == s2.charAt(j - 1) ? nw : nw + 1);
-                nw = costs[j];
-                costs[j] = cj;
-            }
-        }
-        return costs[s2.length()];
+        return spotNameResolver.resolveAll(List.of(originalTitle))
+                .getOrDefault(originalTitle, SpotNameResolver.NOT_FOUND);
     }
-
-
-
-
-
 }
@@ -0,0 +1,278 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
+import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
+import com.dataury.soloJ.domain.touristSpot.repository.BatchJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 제주 TourAPI 관광지 목록 → tourist_spots 미러 동기화
+ * - 마지막으로 반영된 modifiedtime 이후 날짜만 areaBasedSyncList2 로 가져옴 (delta)
+ * - 미러가 비었거나 delta 범위가 너무 길면 areaBasedList2 전체 재적재
+ * - 전체 재적재는 batch_job(tourSpotFullSync)에 페이지 단위로 체크포인트, 끝나기 전(오류/MAX_PAGES/재시작)에는
+ *   delta 로 넘어가지 않고 다음 주기에 마지막 페이지 다음부터 이어서 진행
+ * - content_id 기준 INSERT ... ON DUPLICATE KEY UPDATE 배치 (난이도/태그/평점 등 서비스 필드는 건드리지 않음)
+ * - 비표출(showflag=0) 콘텐츠는 리뷰/동행방이 참조할 수 있어 삭제하지 않고 hidden 으로 표시 (미러 목록/인덱스에서 제외)
+ * - 반영 후 관광지 검색 인덱스 변경분 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TourSpotSyncService {
+
+    private final TourApiService tourApiService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TouristSpotSearchIndex touristSpotSearchIndex;
+    private final BatchJobRepository batchJobRepository;
+
+    @Value("${spring.tourapi.sync.page-size:500}")
+    private int pageSize;
+
+    @Value("${spring.tourapi.sync.max-delta-days:30}")
+    private int maxDeltaDays;
+
+    static final String FULL_SYNC_JOB = "tourSpotFullSync";
+    private static final int MAX_PAGES = 200; // 안전장치 (전체 재적재는 1회 실행당 페이지 수, 남은 페이지는 다음 주기)
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter SYNC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO tourist_spots
+                (content_id, name, content_type_id, first_image, address, tel, sigungu_code, map_x, map_y,
+                 modified_time, difficulty, ai_generated, hidden, created_date, modified_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'NONE', 0, 0, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                name = VALUES(name),
+                hidden = 0,
+                content_type_id = VALUES(content_type_id),
+                first_image = VALUES(first_image),
+                address = VALUES(address),
+                tel = VALUES(tel),
+                sigungu_code = VALUES(sigungu_code),
+                map_x = VALUES(map_x),
+                map_y = VALUES(map_y),
+                modified_time = VALUES(modified_time),
+                modified_date = VALUES(modified_date)
+            """;
+
+    // 비표출 전환 - modified_date 도 갱신해 검색/공간 인덱스 변경분 조회에 잡히게 함
+    private static final String HIDE_SQL = """
+            UPDATE tourist_spots SET hidden = 1, modified_time = ?, modified_date = ?
+            WHERE content_id = ? AND hidden = 0
+            """;
+
+    private Counter upsertedCounter;
+    private Counter hiddenCounter;
+    private Timer syncTimer;
+
+    @PostConstruct
+    public void initMetrics() {
+        upsertedCounter = Counter.builder("tourapi.sync.upserted").register(meterRegistry);
+        hiddenCounter = Counter.builder("tourapi.sync.hidden")
+                .description("비표출(showflag=0)이라 건너뛴 콘텐츠 수")
+                .register(meterRegistry);
+        syncTimer = Timer.builder("tourapi.sync.duration").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.tourapi.sync.interval-ms:3600000}",
+            initialDelayString = "${spring.tourapi.sync.initial-delay-ms:60000}")
+    @SchedulerLock(name = "tourSpotSync", lockAtMostFor = "PT30M")
+    public void sync() {
+        syncTimer.record(() -> {
+            try {
+                Optional<BatchJobResponse> fullSync = batchJobRepository.findLatest(FULL_SYNC_JOB);
+                String lastModified = jdbcTemplate.queryForObject(
+                        "SELECT MAX(modified_time) FROM tourist_spots", String.class);
+                LocalDate today = LocalDate.now(SEOUL);
+
+                switch (selectMode(fullSync.orElse(null), lastModified, today, maxDeltaDays)) {
+                    case RESUME_FULL -> resumeFullSync(fullSync.get());
+                    case FULL -> startFullSync();
+                    case DELTA -> syncSince(LocalDate.parse(lastModified.substring(0, 8), SYNC_DATE), today);
+                }
+                // 이 서버의 검색 인덱스는 바로 반영 (다른 서버는 주기적 갱신)
+                touristSpotSearchIndex.refresh();
+            } catch (Exception e) {
+                log.error("TourAPI 미러 동기화 실패 - error: {}", e.getMessage());
+            }
+        });
+    }
+
+    enum Mode { RESUME_FULL, FULL, DELTA }
+
+    /**
+     * 전체/변경분 선택
+     * - 마지막 전체 재적재가 끝나지 않았으면 이어서 (최신순으로 받기 때문에 MAX(modified_time)만 보면 끝난 것처럼 보임)
+     * - 전체 재적재 기록이 없거나, 미러가 비었거나, 마지막 반영일이 maxDeltaDays 보다 오래됐으면 새로 전체
+     */
+    static Mode selectMode(BatchJobResponse lastFullSync, String lastModified, LocalDate today, int maxDeltaDays) {
+        if (lastFullSync != null && lastFullSync.getStatus() != BatchJobResponse.Status.COMPLETED) {
+            return Mode.RESUME_FULL;
+        }
+        LocalDate from = lastModified != null && lastModified.length() >= 8
+                ? LocalDate.parse(lastModified.substring(0, 8), SYNC_DATE)
+                : null;
+        if (lastFullSync == null || from == null || from.isBefore(today.minusDays(maxDeltaDays))) {
+            return Mode.FULL;
+        }
+        return Mode.DELTA;
+    }
+
+    private void startFullSync() {
+        String jobId = UUID.randomUUID().toString();
+        batchJobRepository.create(jobId, FULL_SYNC_JOB, 0);
+        runFullSync(jobId, 0);
+    }
+
+    private void resumeFullSync(BatchJobResponse job) {
+        batchJobRepository.resume(job.getJobId(), job.getTotal());
+        log.info("TourAPI 미러 전체 동기화 이어서 진행 - jobId: {}, page: {}", job.getJobId(), job.getLastId() + 1);
+        runFullSync(job.getJobId(), job.getLastId());
+    }
+
+    // 페이지마다 체크포인트 (last_id = 마지막으로 반영한 페이지), 실패하면 FAILED 로 남겨 다음 주기에 재개
+    private void runFullSync(String jobId, long lastPage) {
+        int total = 0;
+        try {
+            for (long page = lastPage + 1; page <= lastPage + MAX_PAGES; page++) {
+                List<TourApiResponse.Item> items = tourApiService.fetchAreaBasedPage((int) page, pageSize);
+                int upserted = upsert(items);
+                total += upserted;
+                batchJobRepository.updateProgress(jobId, page, upserted);
+                if (items.size() < pageSize) {
+                    batchJobRepository.finish(jobId, BatchJobResponse.Status.COMPLETED, null);
+                    log.info("TourAPI 미러 전체 동기화 완료 - jobId: {}, upserted: {}", jobId, total);
+                    return;
+                }
+            }
+            log.info("TourAPI 미러 전체 동기화 진행 중 - jobId: {}, upserted: {}, 남은 페이지는 다음 주기에", jobId, total);
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null && e.getMessage().length() > 500
+                    ? e.getMessage().substring(0, 500) : e.getMessage();
+            batchJobRepository.finish(jobId, BatchJobResponse.Status.FAILED, error);
+            throw e;
+        }
+    }
+
+    // 마지막 반영일도 다시 가져옴 (같은 날 뒤늦게 수정된 콘텐츠)
+    private void syncSince(LocalDate from, LocalDate to) {
+        int total = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            String modifiedDate = date.format(SYNC_DATE);
+            for (int page = 1; page <= MAX_PAGES; page++) {
+                List<TourApiResponse.Item> items = tourApiService.fetchSyncPage(modifiedDate, page, pageSize);
+                total += upsert(items);
+                if (items.size() < pageSize) {
+                    break;
+                }
+            }
+        }
+        log.info("TourAPI 미러 변경분 동기화 완료 - from: {}, upserted: {}", from, total);
+    }
+
+    private int upsert(List<TourApiResponse.Item> items) {
+        List<TourApiResponse.Item> rows = new ArrayList<>(items.size());
+        List<TourApiResponse.Item> hidden = new ArrayList<>();
+        for (TourApiResponse.Item item : items) {
+            if ("0".equals(item.getShowflag())) {
+                hiddenCounter.increment();
+                if (!isBlank(item.getContentid())) {
+                    hidden.add(item);
+                }
+            } else if (isBlank(item.getContentid()) || isBlank(item.getTitle()) || isBlank(item.getContenttypeid())) {
+                log.debug("TourAPI 미러 동기화 - 필수 값 누락 항목 건너뜀: {}", item.getContentid());
+            } else {
+                rows.add(item);
+            }
+        }
+        if (!hidden.isEmpty()) {
+            hide(hidden);
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, item) -> {
+            ps.setLong(1, Long.parseLong(item.getContentid()));
+            ps.setString(2, item.getTitle());
+            ps.setInt(3, Integer.parseInt(item.getContenttypeid()));
+            ps.setString(4, item.getFirstimage() != null ? item.getFirstimage() : "");
+            ps.setString(5, emptyToNull(item.getAddr1()));
+            ps.setString(6, emptyToNull(item.getTel()));
+            setNullable(ps, 7, parseInteger(item.getSigungucode()), Types.INTEGER);
+            setNullable(ps, 8, parseDouble(item.getMapx()), Types.DOUBLE);
+            setNullable(ps, 9, parseDouble(item.getMapy()), Types.DOUBLE);
+            ps.setString(10, emptyToNull(item.getModifiedtime()));
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+        upsertedCounter.increment(rows.size());
+        return rows.size();
+    }
+
+    private void hide(List<TourApiResponse.Item> items) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(HIDE_SQL, items, items.size(), (ps, item) -> {
+            ps.setString(1, emptyToNull(item.getModifiedtime()));
+            ps.setTimestamp(2, now);
+            ps.setLong(3, Long.parseLong(item.getContentid().trim()));
+        });
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String emptyToNull(String value) {
+        return isBlank(value) ? null : value;
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return isBlank(value) ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return isBlank(value) ? null : Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.dataury.soloJ.domain.touristSpot.service;
 
-import com.dataury.soloJ.domain.review.repository.ReviewRepository;
+import com.dataury.soloJ.domain.review.service.SpotReviewStatsService;
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
+import com.dataury.soloJ.domain.touristSpot.repository.BatchJobRepository;
 import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -13,24 +21,56 @@ import org.springframework.transaction.annotation.Transactional;
 public class TouristSpotBatchService {
     
     private final TouristSpotRepository touristSpotRepository;
-    private final ReviewRepository reviewRepository;
-    
-    @Transactional
-    public void updateAllAverageRatings() {
-        
-        var allSpots = touristSpotRepository.findAll();
-        int updated = 0;
-        
-        for (var spot : allSpots) {
-            Double averageRating = reviewRepository.findAverageRatingByTouristSpotContentId(spot.getContentId());
-            spot.updateAverageRating(averageRating);
-            updated++;
-            
-            if (updated % 100 == 0) {
-                log.info("Updated {} tourist spots", updated);
-            }
+    private final SpotReviewStatsService spotReviewStatsService;
+    private final BatchJobRepository batchJobRepository;
+    private final AverageRatingBatchJob averageRatingBatchJob;
+
+    // 이 시간 동안 진행 기록이 없는 RUNNING 작업은 중단된 것으로 보고 이어서 실행
+    @Value("${spot.rating-batch.stale-after-minutes:5}")
+    private long staleAfterMinutes;
+
+    /**
+     * 평균 평점 재계산 배치 시작 (비동기)
+     * - 실행 중인 작업이 있으면 그 작업 상태를 반환
+     * - 직전 작업이 실패/중단됐으면 마지막 체크포인트부터 재개, 아니면 새 작업
+     */
+    public synchronized BatchJobResponse startAverageRatingJob() {
+        Optional<BatchJobResponse> latest = batchJobRepository.findLatest(AverageRatingBatchJob.JOB_NAME);
+        if (latest.isPresent() && isActive(latest.get())) {
+            return latest.get();
         }
-        
-        touristSpotRepository.saveAll(allSpots);
+
+        long total = touristSpotRepository.count();
+        String jobId;
+        long fromId;
+        if (latest.isPresent() && latest.get().getStatus() != BatchJobResponse.Status.COMPLETED) {
+            jobId = latest.get().getJobId();
+            fromId = latest.get().getLastId();
+            batchJobRepository.resume(jobId, total);
+            log.info("평균 평점 배치 재개 - jobId: {}, lastId: {}", jobId, fromId);
+        } else {
+            jobId = UUID.randomUUID().toString();
+            fromId = 0L;
+            batchJobRepository.create(jobId, AverageRatingBatchJob.JOB_NAME, total);
+        }
+
+        averageRatingBatchJob.run(jobId, fromId);
+        return getJob(jobId);
+    }
+
+    public BatchJobResponse getJob(String jobId) {
+        return batchJobRepository.findById(jobId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.BATCH_JOB_NOT_FOUND));
+    }
+
+    // 목록 화면용 관광지 리뷰 통계(spot_review_stats) 전체 재적재
+    public int rebuildReviewStats() {
+        return spotReviewStatsService.rebuildAll();
+    }
+
+    private boolean isActive(BatchJobResponse job) {
+        return job.getStatus() == BatchJobResponse.Status.RUNNING
+                && job.getUpdatedAt() != null
+                && job.getUpdatedAt().isAfter(LocalDateTime.now().minusMinutes(staleAfterMinutes));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,215 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.review.entity.status.Difficulty;
+import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미러된 관광지 좌표(mapX/mapY) 기반 주변 관광지 공간 인덱스
+ * - 위경도 격자(cell-degrees, 기본 0.01도 ≈ 1km)에 관광지를 나눠 담고, 반경에 걸치는 칸만 거리 계산
+ * - 기동 시 전체 적재, 이후 modified_date 기준 변경분만 주기적으로 반영 (동기화/난이도 갱신 포함)
+ * - 인덱스는 변경 시마다 새로 만들어 통째로 교체 (조회는 락 없음)
+ * - 인덱스 범위는 미러 동기화 지역(제주, spot.geo-index.coverage)으로 고정 - 밖의 좌표는 covers() 가 false → TourAPI 로 조회
+ *   (TourAPI 조회 결과로 저장된 다른 지역 관광지는 적재하지 않아 범위가 넓어지지 않음)
+ * - 적재 전, 그리고 미러 전체 동기화가 끝난 뒤 한 번 더 적재되기 전에는 covers() 가 false 라 TourAPI 로 조회
+ *   (첫 전체 동기화가 끝나기 전/실패/MAX_PAGES 에서 멈춘 동안은 좌표가 비어 있는 행이 많아 결과가 비거나 일부뿐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TouristSpotGeoIndex {
+
+    private static final double EARTH_RADIUS_M = 6_371_000d;
+    private static final double METERS_PER_DEGREE = 111_320d;
+
+    private final TouristSpotRepository touristSpotRepository;
+    private final TourSpotMirrorStatus tourSpotMirrorStatus;
+
+    @Value("${spot.geo-index.cell-degrees:0.01}")
+    private double cellDegrees;
+
+    // 미러 동기화 지역(areaCode=39 제주) 경계 - 마라도/우도/추자도 포함
+    @Value("${spot.geo-index.coverage.min-lat:33.0}")
+    private double minLat;
+
+    @Value("${spot.geo-index.coverage.max-lat:34.1}")
+    private double maxLat;
+
+    @Value("${spot.geo-index.coverage.min-lng:126.0}")
+    private double minLng;
+
+    @Value("${spot.geo-index.coverage.max-lng:127.0}")
+    private double maxLng;
+
+    private final Map<Long, GeoSpot> spots = new HashMap<>();
+    private LocalDateTime watermark;
+    private volatile Grid grid;
+    // 미러 전체 동기화 완료를 확인한 뒤의 적재가 반영됐는지
+    private volatile boolean mirrorLoaded;
+
+    public record GeoSpot(
+            Long contentId,
+            int contentTypeId,
+            String title,
+            String address,
+            String tel,
+            String firstImage,
+            double mapX,
+            double mapY,
+            Difficulty difficulty
+    ) {
+        static GeoSpot from(TouristSpot spot) {
+            return new GeoSpot(
+                    spot.getContentId(),
+                    spot.getContentTypeId(),
+                    spot.getName(),
+                    spot.getAddress(),
+                    spot.getTel(),
+                    spot.getFirstImage(),
+                    spot.getMapX(),
+                    spot.getMapY(),
+                    spot.getDifficulty()
+            );
+        }
+    }
+
+    public record Hit(GeoSpot spot, double distance) {}
+
+    // cells: 격자 칸 키 → 관광지
+    private record Grid(Map<Long, List<GeoSpot>> cells, double cellDegrees) {}
+
+    /**
+     * 인덱스가 해당 좌표 주변을 담고 있는지 (미러 전체 동기화 이후 적재가 끝났고 미러 동기화 지역 안인지)
+     */
+    public boolean covers(double latitude, double longitude) {
+        return mirrorLoaded && grid != null && inCoverage(latitude, longitude);
+    }
+
+    /**
+     * 반경 내 관광지 (가까운 순, 최대 limit 개) - contentTypeId / difficulty 는 null 이면 필터 없음
+     */
+    public List<Hit> search(double latitude, double longitude, int radius,
+                            Integer contentTypeId, Difficulty difficulty, int limit) {
+        Grid current = grid;
+        if (current == null) {
+            return List.of();
+        }
+
+        double latDelta = radius / METERS_PER_DEGREE;
+        double lngDelta = radius / (METERS_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        long rowFrom = cell(latitude - latDelta, current.cellDegrees());
+        long rowTo = cell(latitude + latDelta, current.cellDegrees());
+        long colFrom = cell(longitude - lngDelta, current.cellDegrees());
+        long colTo = cell(longitude + lngDelta, current.cellDegrees());
+
+        List<Hit> hits = new ArrayList<>();
+        for (long row = rowFrom; row <= rowTo; row++) {
+            for (long col = colFrom; col <= colTo; col++) {
+                List<GeoSpot> cellSpots = current.cells().get(key(row, col));
+                if (cellSpots == null) {
+                    continue;
+                }
+                for (GeoSpot spot : cellSpots) {
+                    if (contentTypeId != null && spot.contentTypeId() != contentTypeId) continue;
+                    if (difficulty != null && spot.difficulty() != difficulty) continue;
+                    double distance = distance(latitude, longitude, spot.mapY(), spot.mapX());
+                    if (distance <= radius) {
+                        hits.add(new Hit(spot, distance));
+                    }
+                }
+            }
+        }
+
+        hits.sort(Comparator.comparingDouble(Hit::distance));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 변경분 반영 (처음이면 전체 적재)
+     */
+    @Scheduled(fixedDelayString = "${spot.geo-index.refresh-interval-ms:60000}",
+            initialDelayString = "${spot.geo-index.refresh-interval-ms:60000}")
+    public void refresh() {
+        synchronized (spots) {
+            // 조회 전에 확인 - 완료를 확인했다면 이번 조회에는 전체 동기화로 반영된 행이 모두 들어 있음
+            boolean mirrorReady = tourSpotMirrorStatus.isReady();
+            LocalDateTime since = watermark;
+            List<TouristSpot> changed = touristSpotRepository.findGeoSpots(since);
+            int updated = 0;
+            for (TouristSpot spot : changed) {
+                if (spot.isHidden() || !inCoverage(spot.getMapY(), spot.getMapX())) {
+                    if (spots.remove(spot.getContentId()) != null) {
+                        updated++;
+                    }
+                } else {
+                    GeoSpot next = GeoSpot.from(spot);
+                    if (!next.equals(spots.put(next.contentId(), next))) {
+                        updated++;
+                    }
+                }
+                if (spot.getUpdatedAt() != null && (watermark == null || spot.getUpdatedAt().isAfter(watermark))) {
+                    watermark = spot.getUpdatedAt();
+                }
+            }
+            // watermark 와 같은 시각의 행은 다시 읽히므로 실제로 바뀐 경우에만 재구성
+            if (grid == null || updated > 0) {
+                grid = buildGrid();
+                log.debug("관광지 공간 인덱스 갱신 - updated: {}, total: {}", updated, spots.size());
+            }
+            if (mirrorReady) {
+                mirrorLoaded = true;
+            }
+        }
+    }
+
+    private boolean inCoverage(double latitude, double longitude) {
+        return latitude >= minLat && latitude <= maxLat && longitude >= minLng && longitude <= maxLng;
+    }
+
+    // spots 락 안에서 호출
+    private Grid buildGrid() {
+        Map<Long, List<GeoSpot>> cells = new HashMap<>();
+        for (GeoSpot spot : spots.values()) {
+            long cellKey = key(cell(spot.mapY(), cellDegrees), cell(spot.mapX(), cellDegrees));
+            cells.computeIfAbsent(cellKey, k -> new ArrayList<>()).add(spot);
+        }
+        return new Grid(cells, cellDegrees);
+    }
+
+    private static long cell(double degrees, double cellDegrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xFFFFFFFFL);
+    }
+
+    // 하버사인 거리 (미터)
+    private static double distance(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,303 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.chat.service.OpenChatRoomIndex;
+import com.dataury.soloJ.domain.review.entity.SpotReviewStats;
+import com.dataury.soloJ.domain.review.entity.status.Difficulty;
+import com.dataury.soloJ.domain.review.service.SpotReviewStatsService;
+import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 미러된 관광지 이름 검색 인덱스 (한글 2-gram 역색인)
+ * - 이름을 소문자 + 글자/숫자만 남겨 정규화한 뒤 2글자 단위로 색인
+ * - 텍스트 점수 = 검색어 2-gram 중 일치 비율 (min-match 이상이면 후보, 오타 1~2자 허용) + 포함/접두 보너스
+ * - 최종 점수 = 텍스트 점수 × (1 + 평점/리뷰 수/열린 동행방 가중치)
+ * - 처음 조회 시 전체 적재, 이후 modified_date 기준 변경분 반영 (미러 동기화 직후 + 주기적으로)
+ * - 인덱스는 변경 시마다 새로 만들어 통째로 교체 (조회는 락 없음)
+ * - 미러 전체 동기화 완료를 확인한 뒤 적재하기 전에는 isComplete() 가 false (일부 관광지만 있어 제주 검색도 TourAPI 로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TouristSpotSearchIndex {
+
+    private final TouristSpotRepository touristSpotRepository;
+    private final SpotReviewStatsService spotReviewStatsService;
+    private final OpenChatRoomIndex openChatRoomIndex;
+    private final TourSpotMirrorStatus tourSpotMirrorStatus;
+
+    @Value("${spot.search.min-match:0.5}")
+    private double minMatch;
+
+    @Value("${spot.search.max-candidates:500}")
+    private int maxCandidates;
+
+    @Value("${spot.search.weight.rating:0.3}")
+    private double ratingWeight;
+
+    @Value("${spot.search.weight.reviews:0.2}")
+    private double reviewsWeight;
+
+    @Value("${spot.search.weight.rooms:0.1}")
+    private double roomsWeight;
+
+    private final Map<Long, SearchDoc> docs = new HashMap<>();
+    private LocalDateTime watermark;
+    private volatile Snapshot snapshot;
+    // 미러 전체 동기화 완료를 확인한 뒤의 적재가 반영됐는지
+    private volatile boolean mirrorLoaded;
+
+    public record SearchDoc(
+            Long contentId,
+            int contentTypeId,
+            String title,
+            String address,
+            String tel,
+            String firstImage,
+            Difficulty difficulty,
+            String normalizedTitle
+    ) {
+        static SearchDoc from(TouristSpot spot) {
+            return new SearchDoc(
+                    spot.getContentId(),
+                    spot.getContentTypeId(),
+                    spot.getName(),
+                    spot.getAddress(),
+                    spot.getTel(),
+                    spot.getFirstImage(),
+                    spot.getDifficulty(),
+                    normalize(spot.getName())
+            );
+        }
+    }
+
+    public record Hit(SearchDoc doc, double score, SpotReviewStats stats, int roomCount) {}
+
+    // postings: 2-gram → docs 인덱스 목록
+    private record Snapshot(SearchDoc[] docs, Map<String, int[]> postings, Map<Long, SearchDoc> byId) {}
+
+    /**
+     * 검색어에 맞는 관광지 전체 (점수 내림차순, 같은 점수는 contentId 오름차순)
+     */
+    public List<Hit> search(String keyword, Integer contentTypeId, Difficulty difficulty) {
+        String query = normalize(keyword);
+        Snapshot current = snapshot();
+        if (query.isEmpty() || current.docs().length == 0) {
+            return List.of();
+        }
+
+        List<Candidate> candidates = textMatches(current, query, contentTypeId, difficulty);
+        if (candidates.size() > maxCandidates) {
+            candidates.sort(Comparator.comparingDouble(Candidate::text).reversed());
+            candidates = candidates.subList(0, maxCandidates);
+        }
+
+        List<Long> contentIds = candidates.stream().map(c -> c.doc().contentId()).toList();
+        Map<Long, SpotReviewStats> statsMap = spotReviewStatsService.getStats(contentIds);
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(contentIds);
+
+        List<Hit> hits = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            Long contentId = candidate.doc().contentId();
+            SpotReviewStats stats = statsMap.get(contentId);
+            int rooms = roomCountMap.getOrDefault(contentId, 0);
+            hits.add(new Hit(candidate.doc(), candidate.text() * (1 + quality(stats, rooms)), stats, rooms));
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(hit -> hit.doc().contentId()));
+        return hits;
+    }
+
+    /**
+     * 주어진 순서대로 현재 문서 + 통계 (저장해 둔 검색 순위의 다음 페이지용, 그 사이 숨겨진 관광지는 제외)
+     * - 순위는 이미 정해져 있으므로 score 는 0
+     */
+    public List<Hit> hitsOf(List<Long> contentIds) {
+        Map<Long, SearchDoc> byId = snapshot().byId();
+        List<SearchDoc> found = contentIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        List<Long> foundIds = found.stream().map(SearchDoc::contentId).toList();
+        Map<Long, SpotReviewStats> statsMap = spotReviewStatsService.getStats(foundIds);
+        Map<Long, Integer> roomCountMap = openChatRoomIndex.countBySpotIds(foundIds);
+        return found.stream()
+                .map(doc -> new Hit(doc, 0, statsMap.get(doc.contentId()), roomCountMap.getOrDefault(doc.contentId(), 0)))
+                .toList();
+    }
+
+    /**
+     * 이름이 비슷한 관광지 (텍스트 점수만, 높은 순 최대 limit 개) - 장소명 → contentId 매칭용
+     */
+    public List<SearchDoc> similarNames(String name, int limit) {
+        String query = normalize(name);
+        Snapshot current = snapshot();
+        if (query.isEmpty() || current.docs().length == 0) {
+            return List.of();
+        }
+        return textMatches(current, query, null, null).stream()
+                .sorted(Comparator.comparingDouble(Candidate::text).reversed())
+                .limit(limit)
+                .map(Candidate::doc)
+                .toList();
+    }
+
+    /**
+     * 미러 전체 동기화 이후의 관광지를 모두 담고 있는지 (처음이면 적재 후 판단)
+     */
+    public boolean isComplete() {
+        snapshot();
+        return mirrorLoaded;
+    }
+
+    /**
+     * 변경분 반영 (처음이면 전체 적재)
+     */
+    @Scheduled(fixedDelayString = "${spot.search.refresh-interval-ms:60000}",
+            initialDelayString = "${spot.search.refresh-interval-ms:60000}")
+    public void refresh() {
+        synchronized (docs) {
+            // 조회 전에 확인 - 완료를 확인했다면 이번 조회에는 전체 동기화로 반영된 행이 모두 들어 있음
+            boolean mirrorReady = tourSpotMirrorStatus.isReady();
+            List<TouristSpot> changed = touristSpotRepository.findSearchableSpots(watermark);
+            int updated = 0;
+            for (TouristSpot spot : changed) {
+                if (spot.isHidden()) {
+                    if (docs.remove(spot.getContentId()) != null) {
+                        updated++;
+                    }
+                } else {
+                    SearchDoc next = SearchDoc.from(spot);
+                    if (!next.equals(docs.put(next.contentId(), next))) {
+                        updated++;
+                    }
+                }
+                if (spot.getUpdatedAt() != null && (watermark == null || spot.getUpdatedAt().isAfter(watermark))) {
+                    watermark = spot.getUpdatedAt();
+                }
+            }
+            // watermark 와 같은 시각의 행은 다시 읽히므로 실제로 바뀐 경우에만 재구성
+            if (snapshot == null || updated > 0) {
+                snapshot = buildSnapshot();
+                log.debug("관광지 검색 인덱스 갱신 - updated: {}, total: {}", updated, docs.size());
+            }
+            if (mirrorReady) {
+                mirrorLoaded = true;
+            }
+        }
+    }
+
+    private List<Candidate> textMatches(Snapshot current, String query, Integer contentTypeId, Difficulty difficulty) {
+        List<Candidate> candidates = new ArrayList<>();
+        SearchDoc[] all = current.docs();
+
+        // 한 글자 검색어는 2-gram 이 없으므로 포함 여부로만 판단
+        if (query.length() == 1) {
+            for (SearchDoc doc : all) {
+                if (matchesFilter(doc, contentTypeId, difficulty) && doc.normalizedTitle().contains(query)) {
+                    candidates.add(new Candidate(doc, 1.0 + bonus(doc.normalizedTitle(), query)));
+                }
+            }
+            return candidates;
+        }
+
+        Set<String> grams = bigrams(query);
+        int[] matched = new int[all.length];
+        for (String gram : grams) {
+            int[] posting = current.postings().get(gram);
+            if (posting != null) {
+                for (int docIndex : posting) {
+                    matched[docIndex]++;
+                }
+            }
+        }
+        for (int i = 0; i < all.length; i++) {
+            if (matched[i] == 0) {
+                continue;
+            }
+            double ratio = (double) matched[i] / grams.size();
+            SearchDoc doc = all[i];
+            if (ratio >= minMatch && matchesFilter(doc, contentTypeId, difficulty)) {
+                candidates.add(new Candidate(doc, ratio + bonus(doc.normalizedTitle(), query)));
+            }
+        }
+        return candidates;
+    }
+
+    // 평점(5점 만점), 리뷰 수(100개에서 포화, 로그), 열린 동행방(5개에서 포화)
+    private double quality(SpotReviewStats stats, int rooms) {
+        double rating = stats != null && stats.getAverageRating() != null ? stats.getAverageRating() / 5.0 : 0.0;
+        double reviews = stats != null ? Math.min(1.0, Math.log1p(stats.getReviewCount()) / Math.log1p(100)) : 0.0;
+        return ratingWeight * rating + reviewsWeight * reviews + roomsWeight * Math.min(rooms, 5) / 5.0;
+    }
+
+    private static double bonus(String title, String query) {
+        if (title.equals(query)) return 2.0;
+        if (title.startsWith(query)) return 1.5;
+        if (title.contains(query)) return 1.0;
+        return 0.0;
+    }
+
+    private static boolean matchesFilter(SearchDoc doc, Integer contentTypeId, Difficulty difficulty) {
+        return (contentTypeId == null || doc.contentTypeId() == contentTypeId)
+                && (difficulty == null || doc.difficulty() == difficulty);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // docs 락 안에서 호출
+    private Snapshot buildSnapshot() {
+        SearchDoc[] all = docs.values().toArray(new SearchDoc[0]);
+        Map<String, List<Integer>> building = new HashMap<>();
+        Map<Long, SearchDoc> byId = new HashMap<>(all.length * 2);
+        for (int i = 0; i < all.length; i++) {
+            byId.put(all[i].contentId(), all[i]);
+            for (String gram : bigrams(all[i].normalizedTitle())) {
+                building.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return new Snapshot(all, postings, byId);
+    }
+
+    private static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        text.toLowerCase().codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    private record Candidate(SearchDoc doc, double text) {}
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
     boolean existsByUser(User user);
     Optional<UserProfile> findByUser(User user);
+    Optional<UserProfile> findByUserId(Long userId);
     Optional<UserProfile> findByNickName(String nickName);
     boolean existsByNickName(String nickName);
 }
@@ -3,7 +3,10 @@ package com.dataury.soloJ.domain.user.repository;
 
 import com.dataury.soloJ.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User,Long> {
@@ -16,5 +19,10 @@ public interface UserRepository extends JpaRepository<User,Long> {
     long countByActiveAndIsDeleted(boolean active, boolean isDeleted);
 
     Optional<User> findByFcmToken(String fcmToken);
+
+    // 계정 상태 캐시용 [active, penaltyLevel, restrictedUntil] (제재 기록이 없으면 뒤 두 값은 null)
+    @Query("SELECT u.active, p.penaltyLevel, p.restrictedUntil FROM User u " +
+           "LEFT JOIN UserPenalty p ON p.userId = u.id WHERE u.id = :userId")
+    List<Object[]> findAccountStatus(@Param("userId") Long userId);
 }
 
@@ -9,7 +9,9 @@ import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import com.dataury.soloJ.global.security.SecurityUtils;
+import com.dataury.soloJ.global.security.UserStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 내 정보 조회
     public UserResponseDto.MyInfoDto getMyInfo() {
@@ -108,6 +111,7 @@ public class UserService {
         }
         
         userProfileRepository.save(userProfile);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
         
         return UserResponseDto.MyInfoDto.builder()
                 .userId(user.getId())
@@ -138,5 +142,6 @@ public class UserService {
         userProfile.deactivate();
         userProfileRepository.save(userProfile);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(userId));
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ public enum ErrorStatus implements BaseErrorCode {
     DATABASE_ERROR(HttpStatus.BAD_REQUEST, "COMMON404", "데이터베이스 에러가 발생하였습니다. 다시 시도해주십시오. "),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND,"COMMON405", "해당 Refresh Token을 찾을 수 없습니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST,"COMMON406", "유효하지 않은 Refresh Token입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "COMMON407", "현재 목록과 맞지 않는 커서입니다. 처음부터 다시 조회해 주세요."),
 
 
     MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MEMBER4001", "사용자가 없습니다."),
@@ -46,6 +47,7 @@ public enum ErrorStatus implements BaseErrorCode {
     TOUR_API_FAIL(HttpStatus.BAD_REQUEST,"TOUR4001","TOUR API 호출에 실패하였습니다."),
     TOURIST_SPOT_NOT_FOUND(HttpStatus.NOT_FOUND,"TOUR4002","해당 관광지를 찾을 수 없습니다."),
     SPOT_CART_ALERADY(HttpStatus.BAD_REQUEST, "TOUR4003","관광지 장바구니에 중복된 관광지를 넣을 수 없습니다."),
+    BATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "TOUR4004", "해당 배치 작업을 찾을 수 없습니다."),
 
     // Plan 관련 에러
     INVALID_PLAN_DATE(HttpStatus.BAD_REQUEST, "PLAN4001", "시작 날짜는 종료 날짜보다 앞서야 합니다."),
@@ -69,6 +71,7 @@ public enum ErrorStatus implements BaseErrorCode {
     OWNER_NOT_OUT(HttpStatus.BAD_REQUEST,"CHAT4010", "방장은 채팅방을 나갈 수 없습니다."),
     OWNER_JOINCHAT(HttpStatus.BAD_REQUEST, "CHAT4011", "방장만 접근 가능한 권한입니다."),
     CHATROOM_HAS_OTHERS(HttpStatus.BAD_REQUEST,"CHAT4011","방에 다른 사람이 있는 경우 삭제가 불가능합니다."),
+    CHATROOM_BUSY(HttpStatus.TOO_MANY_REQUESTS,"CHAT4012","채팅방 메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 
     PAGE_BOUND_ERROR(HttpStatus.BAD_REQUEST, "PAGE4001", "페이징 번호가 적절하지 않습니다."),
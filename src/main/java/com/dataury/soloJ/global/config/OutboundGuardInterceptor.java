@@ -0,0 +1,36 @@
+package com.dataury.soloJ.global.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 외부 호출 보호 - 동시 호출 수 제한(벌크헤드) 후 서킷브레이커로 실행
+ * - 벌크헤드가 가득 차면 BulkheadFullException, 서킷이 열려 있으면 CallNotPermittedException 으로 즉시 실패
+ */
+@RequiredArgsConstructor
+public class OutboundGuardInterceptor implements ClientHttpRequestInterceptor {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        bulkhead.acquirePermission();
+        try {
+            return circuitBreaker.executeCheckedSupplier(() -> execution.execute(request, body));
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IOException(e);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
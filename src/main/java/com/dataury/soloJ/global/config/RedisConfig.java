@@ -3,13 +3,19 @@ package com.dataury.soloJ.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.List;
+
 // RedisConfig
 @Configuration
 public class RedisConfig {
@@ -35,4 +41,49 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    // 채팅 메시지 캐시 저장 스크립트 (중복 체크 + 푸시 + 트림 + 최신 메시지 + TTL 을 한 번에)
+    @Bean
+    public RedisScript<Long> chatMessageSaveScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-message-save.lua"), Long.class);
+    }
+
+    // write-behind flush 대상 메시지 조회 스크립트 (아직 MySQL 에 반영되지 않은 메시지만)
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> chatMessageClaimScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-message-claim.lua"), List.class);
+    }
+
+    // 채팅방 최근 메시지 window 구간 조회 스크립트 (sendAt 커서 기준 seek)
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> chatMessageWindowScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-message-window.lua"), List.class);
+    }
+
+    // 안읽은 메시지 카운터 스크립트 (증가/초기화는 읽은 시각과 비교, 최초 채우기는 사용자당 한 번)
+    @Bean
+    public RedisScript<Long> chatUnreadIncrementScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-unread-increment.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> chatUnreadResetScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-unread-reset.lua"), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> chatUnreadSeedScript() {
+        return RedisScript.of(new ClassPathResource("redis/chat-unread-seed.lua"), Long.class);
+    }
+
+    // 다중 서버 채팅 브로커 (chat.broker.mode=redis) - 방별 채널 구독은 RedisChatBroadcaster 가 관리
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer chatBrokerListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
@@ -1,13 +1,125 @@
 package com.dataury.soloJ.global.config;
 
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 외부 연동별 RestTemplate (tourapi / openai / discord)
+ * - 연동마다 별도 커넥션 풀 (연동당 호스트 하나 → 호스트별 풀 제한)
+ * - outbound.{name}.connect-timeout / read-timeout / pool-wait / max-connections / max-concurrent-calls
+ * - 모든 호출은 OutboundGuardInterceptor 의 벌크헤드 + 서킷브레이커를 거침
+ * - 메트릭: httpcomponents.httpclient.pool.*{httpclient=name}, resilience4j.circuitbreaker.*, resilience4j.bulkhead.*
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+    @PostConstruct
+    public void bindMetrics() {
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate tourApiRestTemplate() {
+        return build("tourapi");
+    }
+
+    @Bean
+    public RestTemplate openAiRestTemplate() {
+        return build("openai");
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate discordRestTemplate() {
+        return build("discord");
+    }
+
+    private RestTemplate build(String name) {
+        String prefix = "outbound." + name;
+        Duration connectTimeout = environment.getProperty(prefix + ".connect-timeout", Duration.class, Duration.ofSeconds(2));
+        Duration readTimeout = environment.getProperty(prefix + ".read-timeout", Duration.class, Duration.ofSeconds(5));
+        Duration poolWait = environment.getProperty(prefix + ".pool-wait", Duration.class, Duration.ofSeconds(1));
+        int maxConnections = environment.getProperty(prefix + ".max-connections", Integer.class, 20);
+        int maxConcurrentCalls = environment.getProperty(prefix + ".max-concurrent-calls", Integer.class, maxConnections);
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWait.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(readTimeout)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .recordResult(RestTemplateConfig::isServerError)
+                .build();
+        BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new OutboundGuardInterceptor(
+                circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig),
+                bulkheadRegistry.bulkhead(name, bulkheadConfig)
+        ));
+        return restTemplate;
+    }
+
+    // 5xx 응답도 서킷브레이커 실패로 집계
+    private static boolean isServerError(Object result) {
+        try {
+            return result instanceof ClientHttpResponse response && response.getStatusCode().is5xxServerError();
+        } catch (IOException e) {
+            return true;
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.dataury.soloJ.global.notify;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -8,11 +9,12 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DiscordWebhookClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate discordRestTemplate;
 
     @Value("${discord.webhooks.error:}")
     private String errorUrl;
@@ -24,7 +26,12 @@ public class DiscordWebhookClient {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         Map<String, String> body = Map.of("content", content);
-        restTemplate.postForEntity(url, new HttpEntity<>(body, headers), String.class);
+        try {
+            discordRestTemplate.postForEntity(url, new HttpEntity<>(body, headers), String.class);
+        } catch (Exception e) {
+            // 알림 실패가 원래 요청 처리(에러 응답 등)를 막지 않도록 로그만 남김
+            log.warn("Discord 웹훅 전송 실패 - error: {}", e.getMessage());
+        }
     }
 
     public void sendError(String message)     { post(errorUrl, message); }
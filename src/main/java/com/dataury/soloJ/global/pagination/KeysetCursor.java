@@ -0,0 +1,65 @@
+package com.dataury.soloJ.global.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 키셋 커서 - 클라이언트에는 Base64 문자열로만 노출
+ * - 같은 시각의 행은 id 로 순서를 정해 페이지 경계에서 빠지거나 중복되지 않음
+ * - 예전 형식(createdAt 만 담은 커서)은 경계 시각의 행을 건너뛰는 id 로 읽음
+ *   (최신순은 decode → id 0, 오래된 순은 decodeAscending → Long.MAX_VALUE, 둘 다 기존처럼 createdAt 이후/이전부터 이어짐)
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) implements PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    @Override
+    public String encode() {
+        String raw = createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + SEPARATOR + id;
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 최신순 목록용 - 비어 있거나 형식이 맞지 않으면 null (첫 페이지)
+     */
+    public static KeysetCursor decode(String cursor) {
+        return decode(cursor, 0L);
+    }
+
+    /**
+     * 오래된 순 목록용 - 예전 형식 커서의 경계 시각 행이 다시 나오지 않도록 id 를 최대값으로 읽음
+     */
+    public static KeysetCursor decodeAscending(String cursor) {
+        return decode(cursor, Long.MAX_VALUE);
+    }
+
+    /**
+     * createdAt 만 담은 예전 형식인지 (정렬 기준 시각이 바뀐 목록에서 거절용)
+     */
+    public static boolean isLegacy(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return false;
+        try {
+            return !new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8).contains(SEPARATOR);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static KeysetCursor decode(String cursor, long legacyId) {
+        if (cursor == null || cursor.trim().isEmpty()) return null;
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return new KeysetCursor(LocalDateTime.parse(decoded, DateTimeFormatter.ISO_LOCAL_DATE_TIME), legacyId);
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
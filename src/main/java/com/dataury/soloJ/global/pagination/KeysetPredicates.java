@@ -0,0 +1,44 @@
+package com.dataury.soloJ.global.pagination;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+
+import java.time.LocalDateTime;
+
+/**
+ * (createdAt, id) 키셋 조건 (QueryDSL)
+ * - createdAt <= :c AND (createdAt < :c OR id < :id) 형태로 만들어 (…, created_date, id) 인덱스 범위 스캔을 타게 함
+ * - 커서가 없으면 null (where 에서 무시되므로 첫 페이지에 "커서 IS NULL OR" 조건이 남지 않음)
+ * - JPQL @Query 는 같은 형태의 조건을 첫 페이지/다음 페이지 메서드로 나눠 씀
+ */
+public final class KeysetPredicates {
+
+    private KeysetPredicates() {
+    }
+
+    // 최신순 다음 페이지
+    public static BooleanExpression before(DateTimeExpression<LocalDateTime> createdAt, NumberExpression<Long> id,
+                                           KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return createdAt.loe(cursor.createdAt())
+                .and(createdAt.lt(cursor.createdAt()).or(id.lt(cursor.id())));
+    }
+
+    // 오래된 순 다음 페이지
+    public static BooleanExpression after(DateTimeExpression<LocalDateTime> createdAt, NumberExpression<Long> id,
+                                          KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return createdAt.goe(cursor.createdAt())
+                .and(createdAt.gt(cursor.createdAt()).or(id.gt(cursor.id())));
+    }
+
+    public static OrderSpecifier<?>[] newestFirst(DateTimeExpression<LocalDateTime> createdAt, NumberExpression<Long> id) {
+        return new OrderSpecifier<?>[]{createdAt.desc(), id.desc()};
+    }
+}
@@ -0,0 +1,42 @@
+package com.dataury.soloJ.global.pagination;
+
+import com.dataury.soloJ.global.dto.CursorPageResponse;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 한 장 - size + 1 개를 조회해 다음 페이지 여부를 판단하고 마지막 행의 키로 다음 커서를 만듦
+ */
+public record KeysetSlice<T>(List<T> rows, boolean hasNext, String nextCursor) {
+
+    // 다음 페이지 여부 확인을 위해 +1
+    public static Pageable fetchPage(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <T> KeysetSlice<T> of(List<T> fetched, int size, Function<T, ? extends PageCursor> keyOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> rows = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? keyOf.apply(rows.get(rows.size() - 1)).encode()
+                : null;
+        return new KeysetSlice<>(rows, hasNext, nextCursor);
+    }
+
+    public <R> CursorPageResponse<R> map(Function<T, R> mapper) {
+        return toResponse(rows.stream().map(mapper).toList());
+    }
+
+    // 행을 한꺼번에 변환한 경우 (추가 조회를 묶어서 하는 목록)
+    public <R> CursorPageResponse<R> toResponse(List<R> items) {
+        return CursorPageResponse.<R>builder()
+                .content(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(items.size())
+                .build();
+    }
+}
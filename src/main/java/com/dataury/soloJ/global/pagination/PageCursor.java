@@ -0,0 +1,9 @@
+package com.dataury.soloJ.global.pagination;
+
+/**
+ * 키셋 페이지의 마지막 행 위치 - 클라이언트에 내려주는 불투명 커서 문자열로 인코딩
+ */
+public interface PageCursor {
+
+    String encode();
+}
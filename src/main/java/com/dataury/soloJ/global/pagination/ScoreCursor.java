@@ -0,0 +1,51 @@
+package com.dataury.soloJ.global.pagination;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * (점수, id) 키셋 커서 - 관련도 순 검색 결과용
+ * - 점수는 DB 에서 DECIMAL 로 고정해 받은 값을 그대로 담아 다음 페이지 비교에서 오차가 없게 함
+ * - 인코딩 문자열에 커서 종류("score:")를 붙여 KeysetCursor 와 구분 (정렬 방식이 바뀐 뒤 들어온 커서 판별용)
+ * - 전문 검색 점수는 코퍼스 통계에 따라 변하므로 페이지 사이 데이터가 바뀌면 경계 근처 결과가 중복/누락될 수 있음
+ */
+public record ScoreCursor(BigDecimal score, Long id) implements PageCursor {
+
+    private static final String TYPE = "score:";
+    private static final String SEPARATOR = "|";
+
+    @Override
+    public String encode() {
+        String raw = TYPE + score.toPlainString() + SEPARATOR + id;
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 비어 있거나 형식이 맞지 않으면 null (첫 페이지)
+     */
+    public static ScoreCursor decode(String cursor) {
+        if (!isScoreCursor(cursor)) return null;
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ScoreCursor(
+                    new BigDecimal(decoded.substring(TYPE.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 이 타입으로 인코딩된 커서인지 (비어 있거나 Base64 가 아니면 false)
+     */
+    public static boolean isScoreCursor(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) return false;
+        try {
+            return new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8).startsWith(TYPE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.dataury.soloJ.global.security;
+
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 계정 상태(활성 여부, 제재 단계, 제재 만료 시간) 캐시
+ * - UserStatusInterceptor / UserPenaltyChecker 가 공유 → 일반적인 요청은 DB 조회 없음
+ * - 제재/계정 상태 변경 시 UserStatusChangedEvent 로 즉시 무효화
+ * - 다른 서버에서 바뀐 경우는 짧은 TTL(security.account-status.ttl, 기본 30초)로 맞춤
+ * - 제재 만료는 조회 시점 기준으로 계산하므로 캐시 중에 만료돼도 바로 반영됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountStatusCache {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.account-status.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${security.account-status.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, AccountStatus> cache;
+
+    public record AccountStatus(Long userId, boolean active, Integer penaltyLevel, LocalDateTime restrictedUntil) {
+        public UserPenaltyChecker.PenaltyStatus penaltyStatus() {
+            return UserPenaltyChecker.toPenaltyStatus(active, penaltyLevel, restrictedUntil);
+        }
+    }
+
+    @PostConstruct
+    public void initCache() {
+        cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "account.status");
+    }
+
+    /**
+     * 계정 상태 조회 (없으면 MEMBER_NOT_FOUND)
+     */
+    public AccountStatus get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        cache.invalidate(event.userId());
+        log.debug("계정 상태 캐시 무효화 - userId: {}", event.userId());
+    }
+
+    private AccountStatus load(Long userId) {
+        List<Object[]> rows = userRepository.findAccountStatus(userId);
+        if (rows.isEmpty()) {
+            throw new GeneralException(ErrorStatus.MEMBER_NOT_FOUND);
+        }
+        Object[] row = rows.get(0);
+        return new AccountStatus(
+                userId,
+                (Boolean) row[0],
+                row[1] != null ? ((Number) row[1]).intValue() : null,
+                (LocalDateTime) row[2]
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.dataury.soloJ.global.security;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebSocket 세션에 보관하는 메시지 발신자 정보 스냅샷
+ * - STOMP CONNECT 시점에 한 번 조회하고, 사용자 정보 변경 시 version 으로 무효화
+ * - tokenExpiresAt 은 마지막으로 확인한 토큰의 만료 시각 (지나면 프레임에 새 토큰이 있어야 함)
+ */
+public record ChatSender(
+        Long userId,
+        String name,
+        String nickName,
+        String profileImage,
+        boolean active,
+        Integer penaltyLevel,
+        LocalDateTime restrictedUntil,
+        long version,
+        long loadedAt,
+        long tokenExpiresAt
+) {
+    public boolean tokenExpired() {
+        return System.currentTimeMillis() >= tokenExpiresAt;
+    }
+
+    // 제재 만료 시간은 조회 시점이 아니라 메시지 전송 시점 기준으로 판단
+    public UserPenaltyChecker.PenaltyStatus penaltyStatus() {
+        return UserPenaltyChecker.toPenaltyStatus(active, penaltyLevel, restrictedUntil);
+    }
+}
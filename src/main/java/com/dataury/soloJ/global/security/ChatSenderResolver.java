@@ -0,0 +1,148 @@
+package com.dataury.soloJ.global.security;
+
+import com.dataury.soloJ.domain.report.entity.UserPenalty;
+import com.dataury.soloJ.domain.report.repository.UserPenaltyRepository;
+import com.dataury.soloJ.domain.user.entity.User;
+import com.dataury.soloJ.domain.user.entity.UserProfile;
+import com.dataury.soloJ.domain.user.repository.UserProfileRepository;
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * WebSocket 메시지 발신자 정보 조회/캐시
+ * - CONNECT 시 세션 속성에 저장해두고 TALK 프레임마다 재사용 (DB 조회 생략)
+ * - 프로필/제재 변경 이벤트가 오면 해당 사용자의 version 을 올려 다음 프레임에서 다시 조회
+ * - 세션에 저장한 토큰 만료 시각이 지나면 프레임에 새 토큰이 있을 때만 허용
+ * - version 은 최대 보관 시간(10분)만 유지 - 그보다 오래된 발신자 정보는 어차피 다시 조회하므로
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSenderResolver {
+
+    public static final String SESSION_ATTRIBUTE = "chatSender";
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L; // 다른 서버에서 변경된 경우 대비 최대 10분 보관
+
+    private final TokenProvider tokenProvider;
+    private final UserRepository userRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final UserPenaltyRepository userPenaltyRepository;
+
+    private final Cache<Long, Long> versions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(MAX_AGE_MILLIS))
+            .build();
+
+    /**
+     * STOMP CONNECT - 토큰이 있으면 발신자 정보를 세션 속성에 저장
+     */
+    public void register(SimpMessageHeaderAccessor accessor, String token) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !StringUtils.hasText(token)) {
+            return;
+        }
+        Claims claims = verifiedClaims(token);
+        attributes.put(SESSION_ATTRIBUTE, load(tokenProvider.extractUserId(claims), expiresAt(claims)));
+    }
+
+    /**
+     * 메시지 프레임의 발신자 정보 조회
+     * - 세션에 유효한 정보가 있으면 그대로 사용
+     * - 없거나 무효화된 경우 프레임의 토큰(또는 만료 전이면 기존 userId)으로 다시 조회
+     */
+    public ChatSender resolve(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        ChatSender cached = attributes != null ? (ChatSender) attributes.get(SESSION_ATTRIBUTE) : null;
+
+        if (cached != null && !cached.tokenExpired() && isCurrent(cached)) {
+            return cached;
+        }
+
+        String token = accessor.getFirstNativeHeader("Authorization");
+        ChatSender sender;
+        if (StringUtils.hasText(token)) {
+            Claims claims = verifiedClaims(token);
+            sender = load(tokenProvider.extractUserId(claims), expiresAt(claims));
+        } else if (cached != null && !cached.tokenExpired()) {
+            sender = load(cached.userId(), cached.tokenExpiresAt());
+        } else if (cached != null) {
+            throw new GeneralException(ErrorStatus.JWT_EXPIRED);
+        } else {
+            throw new GeneralException(ErrorStatus._UNAUTHORIZED);
+        }
+
+        if (attributes != null) {
+            attributes.put(SESSION_ATTRIBUTE, sender);
+        }
+        return sender;
+    }
+
+    // 세 조회는 서로 독립적이라 트랜잭션 없이 각각 실행
+    private ChatSender load(Long userId, long tokenExpiresAt) {
+        long version = currentVersion(userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+        UserProfile userProfile = userProfileRepository.findByUser(user).orElse(null);
+        UserPenalty penalty = userPenaltyRepository.findByUserId(userId).orElse(null);
+
+        return new ChatSender(
+                userId,
+                user.getName(),
+                userProfile != null ? userProfile.getNickName() : null,
+                userProfile != null ? userProfile.getImageUrl() : null,
+                user.isActive(),
+                penalty != null ? penalty.getPenaltyLevel() : null,
+                penalty != null ? penalty.getRestrictedUntil() : null,
+                version,
+                System.currentTimeMillis(),
+                tokenExpiresAt
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        versions.asMap().merge(event.userId(), 1L, Long::sum);
+        log.debug("채팅 발신자 캐시 무효화 - userId: {}", event.userId());
+    }
+
+    private boolean isCurrent(ChatSender sender) {
+        return sender.version() == currentVersion(sender.userId())
+                && System.currentTimeMillis() - sender.loadedAt() < MAX_AGE_MILLIS;
+    }
+
+    private long currentVersion(Long userId) {
+        Long version = versions.getIfPresent(userId);
+        return version != null ? version : 0L;
+    }
+
+    // 만료된 토큰도 클레임을 돌려주는 extractClaims 대신 만료까지 확인
+    private Claims verifiedClaims(String token) {
+        Claims claims;
+        try {
+            claims = tokenProvider.extractClaims(token);
+        } catch (Exception e) {
+            throw new GeneralException(ErrorStatus.JWT_MALFORMED);
+        }
+        if (System.currentTimeMillis() >= expiresAt(claims)) {
+            throw new GeneralException(ErrorStatus.JWT_EXPIRED);
+        }
+        return claims;
+    }
+
+    private static long expiresAt(Claims claims) {
+        return claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+    }
+}
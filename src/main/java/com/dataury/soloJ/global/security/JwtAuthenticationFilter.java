@@ -3,6 +3,7 @@ package com.dataury.soloJ.global.security;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -53,8 +54,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Long userId = tokenProvider.extractUserIdFromToken(token);
-            String role = tokenProvider.extractUserRoleFromToken(token);
+            // 클레임은 한 번만 검증 (TokenProvider 캐시)
+            Claims claims = tokenProvider.extractClaims(token);
+            Long userId = tokenProvider.extractUserId(claims);
+            String role = claims.get("role", String.class);
 
             // 권한 세팅
             List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
@@ -70,7 +73,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             securityContext.setAuthentication(authentication);
             SecurityContextHolder.setContext(securityContext);
 
-            log.info("➡️ 최종 Authentication={}", SecurityContextHolder.getContext().getAuthentication());
+            log.debug("➡️ 최종 Authentication={}", SecurityContextHolder.getContext().getAuthentication());
 
             filterChain.doFilter(request, response);
 
@@ -0,0 +1,37 @@
+package com.dataury.soloJ.global.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP CONNECT 시 Authorization 헤더로 발신자 정보를 조회해 세션 속성에 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompSenderInterceptor implements ChannelInterceptor {
+
+    private final ChatSenderResolver chatSenderResolver;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
+            try {
+                chatSenderResolver.register(accessor, accessor.getFirstNativeHeader("Authorization"));
+            } catch (Exception e) {
+                // 연결은 허용하고, 메시지 전송 시 프레임의 토큰으로 다시 조회
+                log.warn("STOMP CONNECT 발신자 정보 조회 실패 - sessionId: {}, error: {}", accessor.getSessionId(), e.getMessage());
+            }
+        }
+        return message;
+    }
+}
@@ -5,22 +5,38 @@ package com.dataury.soloJ.global.security;
 import com.dataury.soloJ.domain.user.entity.User;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 발급/검증
+ * - 파서는 한 번 만들어 재사용 (thread-safe)
+ * - 서명 검증이 끝난 클레임은 서명 값 기준으로 토큰 만료(exp) 시각까지 캐시 → 토큰당 서버별 검증 1회
+ */
 @Component
+@RequiredArgsConstructor
 public class TokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String secretString;
     
@@ -30,12 +46,45 @@ public class TokenProvider {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
     
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
     private SecretKey SECRET_KEY;
-    
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedClaims> claimsCache;
+
+    // signedContent: header.payload (서명만 같고 내용이 다른 토큰은 캐시를 쓰지 않음)
+    private record VerifiedClaims(String signedContent, Claims claims, long expiresAtMillis) {}
+
     @PostConstruct
     public void init() {
         byte[] keyBytes = secretString.getBytes();
         this.SECRET_KEY = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(SECRET_KEY)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
     }
 
     public String generateAccessToken(User user) {
@@ -67,18 +116,34 @@ public class TokenProvider {
     // 토큰 검증 및 클레임 추출
     public Claims extractClaims(String token) {
         try {
-            String jwtToken = token.startsWith("Bearer ") ? token.substring(7) : token;
-            return Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(jwtToken)
-                    .getBody();
+            return verify(token.startsWith("Bearer ") ? token.substring(7) : token);
         } catch (ExpiredJwtException e) {
             // 만료된 토큰에서도 클레임 추출
             return e.getClaims();
         }
     }
 
+    // 서명/만료 검증 (캐시에 있으면 검증 생략)
+    private Claims verify(String jwtToken) {
+        int signatureStart = jwtToken.lastIndexOf('.');
+        String signedContent = signatureStart > 0 ? jwtToken.substring(0, signatureStart) : null;
+        String signature = signatureStart > 0 ? jwtToken.substring(signatureStart + 1) : null;
+
+        if (signature != null && !signature.isEmpty()) {
+            VerifiedClaims cached = claimsCache.getIfPresent(signature);
+            if (cached != null && cached.signedContent().equals(signedContent)) {
+                return cached.claims();
+            }
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(jwtToken).getBody();
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (signature != null && !signature.isEmpty() && claims.getExpiration() != null) {
+            claimsCache.put(signature, new VerifiedClaims(signedContent, claims, claims.getExpiration().getTime()));
+        }
+        return claims;
+    }
+
     public String extractUserRoleFromToken(String token) {
         return extractClaims(token).get("role", String.class);
     }
@@ -97,33 +162,30 @@ public class TokenProvider {
 
 
         try {
-            Object rawUserId = extractClaims(token).get("userId");
-            if (rawUserId instanceof Integer) {
-                return ((Integer) rawUserId).longValue();
-            } else if (rawUserId instanceof Long) {
-                return (Long) rawUserId;
-            } else if (rawUserId instanceof String) {
-                return Long.parseLong((String) rawUserId);
-            } else {
-                throw new GeneralException(ErrorStatus.JWT_MALFORMED);
-            }
+            return extractUserId(extractClaims(token));
         } catch (Exception e) {
             throw new GeneralException(ErrorStatus.JWT_MALFORMED);
         }
     }
 
-
-
-
+    // 이미 검증된 클레임에서 사용자 ID 추출
+    public Long extractUserId(Claims claims) {
+        Object rawUserId = claims.get("userId");
+        if (rawUserId instanceof Integer) {
+            return ((Integer) rawUserId).longValue();
+        } else if (rawUserId instanceof Long) {
+            return (Long) rawUserId;
+        } else if (rawUserId instanceof String) {
+            return Long.parseLong((String) rawUserId);
+        } else {
+            throw new GeneralException(ErrorStatus.JWT_MALFORMED);
+        }
+    }
 
     // 토큰 유효성 확인
     public boolean isValidToken(String token) {
         try {
-            String jwtToken = token.startsWith("Bearer ") ? token.substring(7) : token;
-            Jwts.parserBuilder()
-                    .setSigningKey(SECRET_KEY)
-                    .build()
-                    .parseClaimsJws(jwtToken);
+            verify(token.startsWith("Bearer ") ? token.substring(7) : token);
             return true;
         } catch (Exception e) {
             return false;
@@ -1,9 +1,5 @@
 package com.dataury.soloJ.global.security;
 
-import com.dataury.soloJ.domain.report.entity.UserPenalty;
-import com.dataury.soloJ.domain.report.repository.UserPenaltyRepository;
-import com.dataury.soloJ.domain.user.entity.User;
-import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
@@ -15,37 +11,41 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class UserPenaltyChecker {
 
-    private final UserPenaltyRepository userPenaltyRepository;
-    private final UserRepository userRepository;
+    private final AccountStatusCache accountStatusCache;
 
     /**
-     * 사용자의 현재 제재 상태를 확인합니다
+     * 사용자의 현재 제재 상태를 확인합니다 (AccountStatusCache 사용)
      * @param userId 사용자 ID
      * @return PenaltyStatus
      */
     public PenaltyStatus checkUserPenalty(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new GeneralException(ErrorStatus.MEMBER_NOT_FOUND));
+        return accountStatusCache.get(userId).penaltyStatus();
+    }
 
+    /**
+     * 계정 활성 여부와 제재 정보로 현재 제재 상태를 계산합니다 (DB 조회 없음)
+     * @param active 계정 활성 여부
+     * @param penaltyLevel 제재 단계 (제재 기록이 없으면 null)
+     * @param restrictedUntil 제재 만료 시간
+     * @return PenaltyStatus
+     */
+    public static PenaltyStatus toPenaltyStatus(boolean active, Integer penaltyLevel, LocalDateTime restrictedUntil) {
         // 계정이 비활성화된 경우 (영구차단)
-        if (!user.isActive()) {
+        if (!active) {
             return PenaltyStatus.PERMANENT_BAN;
         }
 
-        UserPenalty penalty = userPenaltyRepository.findByUserId(userId).orElse(null);
-        if (penalty == null) {
+        if (penaltyLevel == null) {
             return PenaltyStatus.NORMAL;
         }
 
-        LocalDateTime now = LocalDateTime.now();
-
         // 제재 기간이 만료된 경우
-        if (penalty.getRestrictedUntil() != null && penalty.getRestrictedUntil().isBefore(now)) {
+        if (restrictedUntil != null && restrictedUntil.isBefore(LocalDateTime.now())) {
             return PenaltyStatus.NORMAL;
         }
 
         // penaltyLevel에 따른 제재 상태
-        switch (penalty.getPenaltyLevel()) {
+        switch (penaltyLevel) {
             case 1 -> {
                 return PenaltyStatus.SOFT_BLOCK; // 일시 차단
             }
@@ -91,8 +91,13 @@ public class UserPenaltyChecker {
      * 메시지 전송 가능 여부 확인
      */
     public void checkMessagePermission(Long userId) {
-        PenaltyStatus status = checkUserPenalty(userId);
-        
+        checkMessagePermission(checkUserPenalty(userId));
+    }
+
+    /**
+     * 메시지 전송 가능 여부 확인 (이미 계산된 제재 상태 사용)
+     */
+    public void checkMessagePermission(PenaltyStatus status) {
         switch (status) {
             case SOFT_BLOCK -> throw new GeneralException(ErrorStatus.USER_MESSAGE_RESTRICTED);
             case PERMANENT_BAN -> throw new GeneralException(ErrorStatus.USER_PERMANENTLY_BANNED);
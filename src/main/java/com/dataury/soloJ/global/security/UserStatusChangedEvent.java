@@ -0,0 +1,7 @@
+package com.dataury.soloJ.global.security;
+
+/**
+ * 사용자 프로필/계정 상태/제재 정보가 바뀌었을 때 발행되는 이벤트
+ * - 사용자 정보를 캐시하는 컴포넌트들이 구독해서 무효화한다.
+ */
+public record UserStatusChangedEvent(Long userId) {}
@@ -1,7 +1,5 @@
 package com.dataury.soloJ.global.security;
 
-import com.dataury.soloJ.domain.user.entity.User;
-import com.dataury.soloJ.domain.user.repository.UserRepository;
 import com.dataury.soloJ.global.code.status.ErrorStatus;
 import com.dataury.soloJ.global.exception.GeneralException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,7 +12,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 @RequiredArgsConstructor
 public class UserStatusInterceptor implements HandlerInterceptor {
 
-    private final UserRepository userRepository;
+    private final AccountStatusCache accountStatusCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request,
@@ -24,10 +22,8 @@ public class UserStatusInterceptor implements HandlerInterceptor {
         Long userId = SecurityUtils.getCurrentUserId();
 
         if (userId != null) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
-            if (!user.isActive()) {
+            // 2. 계정 상태는 캐시에서 확인 (DB 조회는 캐시 miss 때만)
+            if (!accountStatusCache.get(userId).active()) {
                 throw new GeneralException(ErrorStatus.INACTIVE_USER);
             }
 
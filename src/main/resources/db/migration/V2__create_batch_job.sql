@@ -0,0 +1,15 @@
+-- 관리자 배치 작업 진행 상태 (청크 단위 체크포인트, 실패 시 last_id 부터 재개)
+CREATE TABLE IF NOT EXISTS batch_job (
+    job_id      VARCHAR(36)  NOT NULL,
+    job_name    VARCHAR(64)  NOT NULL,
+    status      VARCHAR(16)  NOT NULL,
+    last_id     BIGINT       NOT NULL DEFAULT 0,
+    processed   BIGINT       NOT NULL DEFAULT 0,
+    total       BIGINT       NOT NULL DEFAULT 0,
+    error       VARCHAR(500) NULL,
+    started_at  TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    updated_at  TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    finished_at TIMESTAMP(3) NULL,
+    PRIMARY KEY (job_id),
+    KEY idx_batch_job_name_started (job_name, started_at)
+);
@@ -0,0 +1,32 @@
+-- 목록 키셋 페이지네이션용 (조건 컬럼, created_date, id) 복합 인덱스
+-- 테이블은 Hibernate(ddl-auto)가 만들기 때문에 새 DB 에서는 아직 없을 수 있음
+-- → 테이블이 있고 인덱스가 없을 때만 생성 (새 DB 는 엔티티 @Table(indexes) 로 같은 이름의 인덱스가 생김)
+DROP PROCEDURE IF EXISTS create_index_if_absent;
+
+DELIMITER //
+CREATE PROCEDURE create_index_if_absent(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = p_table)
+       AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) THEN
+        SET @ddl = CONCAT('CREATE INDEX ', p_index, ' ON ', p_table, ' (', p_columns, ')');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+CALL create_index_if_absent('posts', 'idx_posts_visible_created', 'is_visible, is_deleted, created_date, id');
+CALL create_index_if_absent('posts', 'idx_posts_category_created', 'post_category, created_date, id');
+CALL create_index_if_absent('posts', 'idx_posts_user_created', 'user_id, created_date, id');
+CALL create_index_if_absent('comments', 'idx_comments_post_created', 'post_id, created_date, id');
+CALL create_index_if_absent('comments', 'idx_comments_user_created', 'user_id, created_date');
+CALL create_index_if_absent('scraps', 'idx_scraps_user_created', 'user_id, created_date, id');
+CALL create_index_if_absent('reviews', 'idx_reviews_created', 'created_date, id');
+CALL create_index_if_absent('reviews', 'idx_reviews_user_created', 'user_id, created_date, id');
+CALL create_index_if_absent('reviews', 'idx_reviews_spot_created', 'tourist_spot_id, created_date, id');
+CALL create_index_if_absent('join_chats', 'idx_join_chats_user_status_created', 'user_id, join_status, created_date');
+
+DROP PROCEDURE create_index_if_absent;
@@ -0,0 +1,25 @@
+-- 커뮤니티 검색용 FULLTEXT 인덱스 (ngram 파서 - 한글은 띄어쓰기 없이도 2글자 단위로 색인, ngram_token_size 기본값 2)
+-- LIKE '%keyword%' 전체 스캔 대신 MATCH ... AGAINST 로 관련도 순 검색
+-- 테이블은 Hibernate(ddl-auto)가 만들기 때문에 새 DB 에서는 아직 없을 수 있음
+-- → 테이블이 있고 인덱스가 없을 때만 생성 (새 DB 는 기동 시 CommunitySearchIndexInitializer 가 같은 이름으로 생성)
+DROP PROCEDURE IF EXISTS create_fulltext_index_if_absent;
+
+DELIMITER //
+CREATE PROCEDURE create_fulltext_index_if_absent(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = p_table)
+       AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                       WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) THEN
+        SET @ddl = CONCAT('CREATE FULLTEXT INDEX ', p_index, ' ON ', p_table, ' (', p_columns, ') WITH PARSER ngram');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+CALL create_fulltext_index_if_absent('posts', 'ft_posts_title_content', 'title, content');
+CALL create_fulltext_index_if_absent('comments', 'ft_comments_content', 'content');
+
+DROP PROCEDURE create_fulltext_index_if_absent;
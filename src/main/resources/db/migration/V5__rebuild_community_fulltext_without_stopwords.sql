@@ -0,0 +1,34 @@
+-- 커뮤니티 FULLTEXT 인덱스를 불용어 없이 다시 생성
+-- ngram 파서는 불용어를 "포함한" 토큰을 버림 → 기본 목록의 'a', 'i' 등 때문에 "cafe" 같은 영문 검색어가 거의 색인되지 않음
+-- 불용어 설정은 인덱스 생성 시점 값이 인덱스에 저장되므로 이 세션에서만 끄고 다시 생성
+-- (V4 와 같은 이유로 테이블이 있을 때만, 새 DB 는 CommunitySearchIndexInitializer 가 같은 설정으로 생성)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+DROP PROCEDURE IF EXISTS rebuild_fulltext_index;
+
+DELIMITER //
+CREATE PROCEDURE rebuild_fulltext_index(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables
+               WHERE table_schema = DATABASE() AND table_name = p_table) THEN
+        IF EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) THEN
+            SET @ddl = CONCAT('DROP INDEX ', p_index, ' ON ', p_table);
+            PREPARE stmt FROM @ddl;
+            EXECUTE stmt;
+            DEALLOCATE PREPARE stmt;
+        END IF;
+        SET @ddl = CONCAT('CREATE FULLTEXT INDEX ', p_index, ' ON ', p_table, ' (', p_columns, ') WITH PARSER ngram');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+CALL rebuild_fulltext_index('posts', 'ft_posts_title_content', 'title, content');
+CALL rebuild_fulltext_index('comments', 'ft_comments_content', 'content');
+
+DROP PROCEDURE rebuild_fulltext_index;
+
+SET SESSION innodb_ft_enable_stopword = ON;
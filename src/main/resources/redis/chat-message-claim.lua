@@ -0,0 +1,46 @@
+-- MySQL 반영 대상 메시지 조회 (write-behind flush, 원자적 실행)
+-- KEYS[1] = chatroom:{id}:unflushed          (Sorted Set, 아직 반영되지 않은 messageId, score = sendAt)
+-- KEYS[2] = chatroom:dirty                   (Set, MySQL 반영 대기 중인 방)
+-- KEYS[3] = chatroom:{id}:payloads           (Hash, messageId → 직렬화된 메시지)
+-- KEYS[4] = chatroom:{id}:overflow           (Hash, window 에서 밀려났지만 아직 반영되지 않은 메시지)
+-- KEYS[5] = chatroom:{id}:window             (Sorted Set, 이전 카운터 방식 이관용)
+-- KEYS[6] = chatroom:{id}:writeBehind        (Hash, 이전 pushed / flushed 카운터 - 있으면 이관 후 삭제)
+-- ARGV[1] = roomId
+-- ARGV[2] = 한 번에 가져올 최대 개수
+-- return  = { payload 없이 버려진 수, messageId, 직렬화된 메시지, messageId, 직렬화된 메시지, ... }  (오래된 순)
+--           반영이 끝난 messageId 는 호출자가 unflushed/overflow 에서 지움
+
+-- 이전 카운터 방식으로 쌓인 방 → window 전체를 반영 대상으로 (INSERT IGNORE 로 중복 무시)
+if redis.call('EXISTS', KEYS[6]) == 1 then
+    local window = redis.call('ZRANGE', KEYS[5], 0, -1, 'WITHSCORES')
+    for i = 1, #window, 2 do
+        redis.call('ZADD', KEYS[1], window[i + 1], window[i])
+    end
+    redis.call('DEL', KEYS[6])
+end
+
+-- 이번 flush 이후 들어오는 메시지는 다시 dirty 로 등록됨
+redis.call('SREM', KEYS[2], ARGV[1])
+
+local limit = tonumber(ARGV[2])
+local ids = redis.call('ZRANGE', KEYS[1], 0, limit - 1)
+-- 한 번에 다 가져오지 못한 방은 다음 주기에 이어서 처리
+if redis.call('ZCARD', KEYS[1]) > #ids then
+    redis.call('SADD', KEYS[2], ARGV[1])
+end
+
+local result = { 0 }
+local dropped = 0
+for i = 1, #ids do
+    local payload = redis.call('HGET', KEYS[3], ids[i]) or redis.call('HGET', KEYS[4], ids[i])
+    if payload then
+        result[#result + 1] = ids[i]
+        result[#result + 1] = payload
+    else
+        -- window TTL 만료 등으로 payload 가 없는 항목은 더 이상 복구할 수 없음
+        redis.call('ZREM', KEYS[1], ids[i])
+        dropped = dropped + 1
+    end
+end
+result[1] = dropped
+return result
@@ -0,0 +1,68 @@
+-- 채팅 메시지 Redis 캐시 저장 (1 round trip, 원자적 실행)
+-- KEYS[1] = chatroom:{id}:window             (Sorted Set, member = messageId, score = sendAt epoch micros)
+-- KEYS[2] = chatroom:{id}:messageIds         (Set, 중복 방지)
+-- KEYS[3] = chatroom:{id}:latestMessage
+-- KEYS[4] = chatroom:{id}:latestMessageTime
+-- KEYS[5] = chatroom:dirty                   (Set, MySQL 반영 대기 중인 방)
+-- KEYS[6] = chatroom:{id}:unflushed         (Sorted Set, MySQL 에 아직 반영되지 않은 messageId, score = sendAt)
+-- KEYS[7] = chatroom:{id}:payloads           (Hash, messageId → 직렬화된 메시지)
+-- KEYS[8] = chatroom:{id}:overflow           (Hash, window 에서 밀려났지만 아직 반영되지 않은 메시지)
+-- ARGV[1] = messageId (없으면 빈 값)
+-- ARGV[2] = 직렬화된 메시지
+-- ARGV[3] = 최신 메시지 내용
+-- ARGV[4] = 최신 메시지 시간 (UTC ISO_LOCAL_DATE_TIME)
+-- ARGV[5] = 방별 보관 개수
+-- ARGV[6] = TTL (초)
+-- ARGV[7] = roomId
+-- ARGV[8] = sendAt epoch micros (정렬/커서 기준 score)
+-- return  = 1 저장됨 / 0 중복 또는 messageId 없음으로 스킵
+
+-- 1) messageId 는 window 의 member 이므로 필수
+if ARGV[1] == '' then
+    return 0
+end
+
+-- 2) messageId 중복 체크
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return 0
+end
+
+local maxSize = tonumber(ARGV[5])
+local ttl = tonumber(ARGV[6])
+
+-- 3) window 에 추가하고 오래된 것부터 개수 제한 (payload 도 함께 제거)
+--    아직 MySQL 에 반영되지 않은 메시지는 payload 를 overflow 로 옮겨 flush 때 저장되게 함
+redis.call('ZADD', KEYS[1], ARGV[8], ARGV[1])
+redis.call('HSET', KEYS[7], ARGV[1], ARGV[2])
+redis.call('ZADD', KEYS[6], ARGV[8], ARGV[1])
+local excess = redis.call('ZCARD', KEYS[1]) - maxSize
+if excess > 0 then
+    local evicted = redis.call('ZRANGE', KEYS[1], 0, excess - 1)
+    for i = 1, #evicted do
+        if redis.call('ZSCORE', KEYS[6], evicted[i]) then
+            local payload = redis.call('HGET', KEYS[7], evicted[i])
+            if payload then
+                redis.call('HSET', KEYS[8], evicted[i], payload)
+            end
+        end
+    end
+    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1)
+    redis.call('HDEL', KEYS[7], unpack(evicted))
+end
+
+-- 4) messageId 인덱싱
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIRE', KEYS[2], ttl)
+
+-- 5) 최신 메시지/시간 키 갱신 (+ TTL)
+redis.call('SET', KEYS[3], ARGV[3], 'EX', ttl)
+redis.call('SET', KEYS[4], ARGV[4], 'EX', ttl)
+
+-- 6) window TTL
+redis.call('EXPIRE', KEYS[1], ttl)
+redis.call('EXPIRE', KEYS[7], ttl)
+
+-- 7) write-behind: 반영 대기 방 등록 (unflushed/overflow 는 flush 가 비울 때까지 TTL 없이 유지)
+redis.call('SADD', KEYS[5], ARGV[7])
+
+return 1
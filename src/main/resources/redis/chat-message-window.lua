@@ -0,0 +1,36 @@
+-- 채팅방 최근 메시지 window 구간 조회 (커서 seek, 1 round trip)
+-- KEYS[1] = chatroom:{id}:window             (Sorted Set, member = messageId, score = sendAt epoch micros)
+-- KEYS[2] = chatroom:{id}:payloads           (Hash, messageId → 직렬화된 메시지)
+-- ARGV[1] = 상한 sendAt epoch micros (미포함, 0 이면 제한 없음)
+-- ARGV[2] = 하한 sendAt epoch micros (포함, 0 이면 제한 없음)
+-- ARGV[3] = 최대 개수 (0 이면 제한 없음)
+-- return  = 직렬화된 메시지 목록 (최신순)
+
+local max = '+inf'
+if tonumber(ARGV[1]) > 0 then
+    max = '(' .. ARGV[1]
+end
+local min = '-inf'
+if tonumber(ARGV[2]) > 0 then
+    min = ARGV[2]
+end
+local limit = tonumber(ARGV[3])
+
+local ids
+if limit > 0 then
+    ids = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, min, 'LIMIT', 0, limit)
+else
+    ids = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, min)
+end
+if #ids == 0 then
+    return {}
+end
+
+local items = redis.call('HMGET', KEYS[2], unpack(ids))
+local result = {}
+for i = 1, #items do
+    if items[i] then
+        result[#result + 1] = items[i]
+    end
+end
+return result
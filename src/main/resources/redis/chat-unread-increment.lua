@@ -0,0 +1,33 @@
+-- 새 메시지 수신 - 수신자별 안읽은 수 +1 (읽음 처리보다 늦게 도착한 메시지는 건너뜀)
+-- KEYS[2n-1] = chat:unread:{userId}             (Hash, field = roomId → 안읽은 수, r:{roomId} → 마지막 읽은 시각, seeded → 채운 기준 시각)
+-- KEYS[2n]   = chat:unread:{userId}:pending     (Sorted Set, 채우기 전에 받은 메시지, member = roomId:messageId, score = sendAt)
+-- ARGV[1]  = roomId
+-- ARGV[2]  = 메시지 sendAt (epoch millis)
+-- ARGV[3]  = messageId
+-- ARGV[4]  = pending 보관 시간 (초)
+-- return   = 올린 수신자 수
+
+local room = ARGV[1]
+local sentAt = tonumber(ARGV[2])
+local pendingTtl = tonumber(ARGV[4])
+local incremented = 0
+
+for i = 1, #KEYS, 2 do
+    -- 읽음 처리 시각 이후(같은 시각 포함)에 보낸 메시지만 안읽음 (MySQL 집계와 같은 기준)
+    local readAt = redis.call('HGET', KEYS[i], 'r:' .. room)
+    if not readAt or sentAt >= tonumber(readAt) then
+        local seededAt = redis.call('HGET', KEYS[i], 'seeded')
+        if not seededAt then
+            -- 아직 채우지 않은 사용자 - 집계에 포함될지 모르므로 따로 두고 채울 때 기준 시각 이후 것만 반영
+            redis.call('ZADD', KEYS[i + 1], ARGV[2], room .. ':' .. ARGV[3])
+            redis.call('ZREMRANGEBYSCORE', KEYS[i + 1], '-inf', '(' .. (sentAt - pendingTtl * 1000))
+            redis.call('EXPIRE', KEYS[i + 1], pendingTtl)
+        elseif sentAt > tonumber(seededAt) then
+            -- 기준 시각 이전 메시지는 이미 집계에 들어 있음
+            redis.call('HINCRBY', KEYS[i], room, 1)
+            incremented = incremented + 1
+        end
+    end
+end
+
+return incremented
@@ -0,0 +1,17 @@
+-- 읽음 처리/방 나가기 - 해당 방 안읽은 수 제거 + 읽은 시각 기록
+-- KEYS[1]  = chat:unread:{userId}
+-- ARGV[1]  = roomId
+-- ARGV[2]  = 읽은 시각 (epoch millis)
+-- return   = 1 반영 / 0 이미 더 늦은 시각으로 읽음 처리됨 (순서가 뒤바뀐 요청)
+
+local marker = 'r:' .. ARGV[1]
+local readAt = tonumber(ARGV[2])
+
+local previous = redis.call('HGET', KEYS[1], marker)
+if previous and tonumber(previous) > readAt then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], marker, readAt)
+redis.call('HDEL', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,39 @@
+-- 안읽은 수 최초 채우기 (기준 시각까지의 MySQL + 미반영 Redis 메시지 집계) - 사용자당 한 번만
+-- KEYS[1]  = chat:unread:{userId}
+-- KEYS[2]  = chat:unread:{userId}:pending   (채우기 전에 받은 메시지)
+-- ARGV[1]  = 기준 시각 (epoch millis) - 이 시각까지 보낸 메시지는 집계에 포함됨
+-- ARGV[2..] = roomId, 안읽은 수, roomId, 안읽은 수, ...
+-- return   = 1 채움 / 0 이미 채워짐 (동시에 요청된 다른 초기화가 먼저 실행)
+
+if redis.call('HSETNX', KEYS[1], 'seeded', ARGV[1]) == 0 then
+    return 0
+end
+local cutoff = tonumber(ARGV[1])
+
+-- 채우기 전에 쌓인 방 카운트는 집계와 겹치므로 버리고 집계 값으로 덮어씀 (읽은 시각 r:* 는 유지)
+local fields = redis.call('HKEYS', KEYS[1])
+for i = 1, #fields do
+    if fields[i] ~= 'seeded' and string.sub(fields[i], 1, 2) ~= 'r:' then
+        redis.call('HDEL', KEYS[1], fields[i])
+    end
+end
+
+for i = 2, #ARGV, 2 do
+    -- 집계 이후 기준 시각보다 늦게 읽음 처리됐으면 집계한 메시지는 모두 읽은 것
+    local readAt = redis.call('HGET', KEYS[1], 'r:' .. ARGV[i])
+    if not readAt or tonumber(readAt) <= cutoff then
+        redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+    end
+end
+
+-- 기준 시각 이후에 보냈지만 채우기 전에 도착한 메시지
+local pending = redis.call('ZRANGEBYSCORE', KEYS[2], '(' .. ARGV[1], '+inf', 'WITHSCORES')
+for i = 1, #pending, 2 do
+    local room = string.match(pending[i], '^([^:]+):')
+    local readAt = redis.call('HGET', KEYS[1], 'r:' .. room)
+    if not readAt or tonumber(pending[i + 1]) >= tonumber(readAt) then
+        redis.call('HINCRBY', KEYS[1], room, 1)
+    end
+end
+redis.call('DEL', KEYS[2])
+return 1
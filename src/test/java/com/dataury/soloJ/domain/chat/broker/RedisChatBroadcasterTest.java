@@ -0,0 +1,159 @@
+package com.dataury.soloJ.domain.chat.broker;
+
+import com.dataury.soloJ.domain.chat.dto.ChatMessageDto;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import com.dataury.soloJ.support.RedisContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 두 서버(A, B)가 하나의 Redis 를 공유할 때 방별 채널 fan-out 검증
+ */
+class RedisChatBroadcasterTest extends RedisContainerTest {
+
+    private static final long ROOM_ID = 7L;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    @DisplayName("A 서버에서 보낸 메시지가 B 서버 구독자에게 전달되고 지연이 기록된다")
+    void deliversAcrossNodes() throws Exception {
+        nodeA.subscribe("session-a", ROOM_ID);
+        nodeB.subscribe("session-b", ROOM_ID);
+        awaitSubscribers(2);
+
+        nodeA.broadcaster.broadcast(ROOM_ID, response("m-1"));
+
+        ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+        verify(nodeB.messagingTemplate, timeout(5000)).convertAndSend(eq("/topic/7"), delivered.capture());
+        ChatMessageDto.Response payload = (ChatMessageDto.Response) delivered.getValue();
+        assertThat(payload.getId()).isEqualTo("m-1");
+        assertThat(payload.getContent()).isEqualTo("안녕하세요");
+        assertThat(payload.getSendAt()).isEqualTo(LocalDateTime.of(2026, 10, 1, 12, 0, 30));
+        await(() -> nodeB.meterRegistry.get("chat.broker.fanout.latency").timer().count() == 1);
+
+        // 발행 서버는 로컬로 한 번만 전달 (자기 채널 메시지는 무시)
+        verify(nodeA.messagingTemplate, after(500).times(1)).convertAndSend(eq("/topic/7"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("구독자가 모두 나간 서버는 방 채널 구독을 해제한다")
+    void unsubscribesWhenLastSessionLeaves() throws Exception {
+        nodeB.subscribe("session-b", ROOM_ID);
+        awaitSubscribers(1);
+
+        nodeB.disconnect("session-b");
+        awaitSubscribers(0);
+
+        nodeA.broadcaster.broadcast(ROOM_ID, response("m-2"));
+
+        verify(nodeB.messagingTemplate, after(500).never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private void awaitSubscribers(long expected) throws Exception {
+        String channel = ChatBroadcastEnvelope.channel(ROOM_ID);
+        await(() -> {
+            try {
+                return channelSubscribers(channel) == expected;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("5초 안에 조건을 만족하지 않음").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static ChatMessageDto.Response response(String id) {
+        return ChatMessageDto.Response.builder()
+                .id(id)
+                .type(MessageType.TALK)
+                .roomId(ROOM_ID)
+                .senderId(1L)
+                .senderName("보낸사람")
+                .content("안녕하세요")
+                .sendAt(LocalDateTime.of(2026, 10, 1, 12, 0, 30))
+                .build();
+    }
+
+    private static class Node {
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        private final RedisChatBroadcaster broadcaster;
+
+        private Node() {
+            container.setConnectionFactory(connectionFactory);
+            container.afterPropertiesSet();
+            container.start();
+            broadcaster = new RedisChatBroadcaster(messagingTemplate, redisTemplate, container, meterRegistry);
+            broadcaster.initMetrics();
+        }
+
+        private void subscribe(String sessionId, long roomId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(ChatBroadcastEnvelope.destination(roomId));
+            broadcaster.onSubscribe(new SessionSubscribeEvent(this, stompMessage(accessor)));
+        }
+
+        private void disconnect(String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            broadcaster.onDisconnect(new SessionDisconnectEvent(this, stompMessage(accessor), sessionId, CloseStatus.NORMAL));
+        }
+
+        private void stop() throws Exception {
+            container.stop();
+            container.destroy();
+        }
+
+        private static Message<byte[]> stompMessage(StompHeaderAccessor accessor) {
+            return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        }
+    }
+}
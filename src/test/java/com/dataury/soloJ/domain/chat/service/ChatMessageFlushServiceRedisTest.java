@@ -0,0 +1,157 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.broker.ChatBroadcaster;
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
+import com.dataury.soloJ.domain.notification.service.ChatNotificationBatcher;
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.support.RedisContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * chat-message-claim.lua (write-behind flush) 를 실제 Redis 에서 검증
+ */
+class ChatMessageFlushServiceRedisTest extends RedisContainerTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final ChatMessageRedisSerializer serializer = new ChatMessageRedisSerializer();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MessageCommandService messageCommandService;
+    private ChatMessageFlushService flushService;
+
+    @BeforeEach
+    void setUp() {
+        messageCommandService = new MessageCommandService(
+                redisTemplate,
+                mock(ChatRoomRepository.class),
+                mock(ChatBroadcaster.class),
+                mock(JoinChatRepository.class),
+                mock(UserRepository.class),
+                mock(ChatNotificationBatcher.class),
+                mock(ChatUnreadCounterService.class),
+                redisConfig.chatMessageSaveScript(),
+                serializer);
+        flushService = new ChatMessageFlushService(
+                redisTemplate,
+                redisConfig.chatMessageClaimScript(),
+                serializer,
+                jdbcTemplate,
+                meterRegistry);
+        flushService.initMetrics();
+    }
+
+    @Test
+    @DisplayName("미반영 메시지를 저장한 뒤에만 unflushed 에서 지우고 window 는 그대로 둔다")
+    void flushInsertsThenClearsUnflushed() {
+        saveMessages(3);
+
+        flushService.flushDirtyRooms();
+
+        assertThat(insertedMessageIds()).containsExactly("m-0", "m-1", "m-2");
+        assertThat(redisTemplate.hasKey(unflushedKey())).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember("chatroom:dirty", ROOM_ID)).isFalse();
+        assertThat(redisTemplate.opsForZSet().zCard(windowKey())).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("MySQL 저장에 실패하면 unflushed 와 dirty 가 남아 다음 주기에 다시 시도한다")
+    void failedInsertKeepsMessagesForRetry() {
+        saveMessages(2);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("mysql down"));
+
+        flushService.flushDirtyRooms();
+
+        assertThat(redisTemplate.opsForZSet().zCard(unflushedKey())).isEqualTo(2L);
+        assertThat(redisTemplate.opsForSet().isMember("chatroom:dirty", ROOM_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("payload 가 만료된 항목은 버린 것으로 집계하고 나머지만 저장한다")
+    void expiredPayloadIsDroppedAndCounted() {
+        saveMessages(2);
+        // payload field 는 스크립트 인자 그대로(값 직렬화) 저장됨
+        byte[] field = redisTemplate.getValueSerializer().serialize("m-0");
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.hashCommands().hDel(payloadsKey().getBytes(StandardCharsets.UTF_8), field));
+
+        flushService.flushDirtyRooms();
+
+        assertThat(insertedMessageIds()).containsExactly("m-1");
+        assertThat(redisTemplate.hasKey(unflushedKey())).isFalse();
+        assertThat(meterRegistry.counter("chat.flush.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이전 카운터 방식으로 쌓인 방은 window 전체를 반영 대상으로 옮긴다")
+    void migratesLegacyWriteBehindRoom() {
+        saveMessages(2);
+        redisTemplate.delete(unflushedKey());
+        redisTemplate.opsForHash().put("chatroom:1:writeBehind", "pushed", 2);
+
+        flushService.flushDirtyRooms();
+
+        assertThat(insertedMessageIds()).containsExactly("m-0", "m-1");
+        assertThat(redisTemplate.hasKey("chatroom:1:writeBehind")).isFalse();
+        assertThat(redisTemplate.hasKey(unflushedKey())).isFalse();
+    }
+
+    private void saveMessages(int count) {
+        for (int i = 0; i < count; i++) {
+            messageCommandService.saveMessageToRedis(Message.builder()
+                    .messageId("m-" + i)
+                    .type(MessageType.TALK)
+                    .roomId(ROOM_ID)
+                    .senderId(10L)
+                    .senderName("보낸사람")
+                    .content("내용 " + i)
+                    .sendAt(BASE.plusSeconds(i))
+                    .build());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> insertedMessageIds() {
+        ArgumentCaptor<Collection<Message>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture(), anyInt(), any());
+        return captor.getValue().stream().map(Message::getMessageId).toList();
+    }
+
+    private String windowKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_WINDOW_KEY, ROOM_ID);
+    }
+
+    private String payloadsKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_PAYLOADS_KEY, ROOM_ID);
+    }
+
+    private String unflushedKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_UNFLUSHED_KEY, ROOM_ID);
+    }
+}
@@ -0,0 +1,113 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageRedisSerializerTest {
+
+    private final ChatMessageRedisSerializer serializer = new ChatMessageRedisSerializer();
+
+    @Test
+    @DisplayName("모든 필드가 채워진 메시지를 그대로 복원한다")
+    void roundTripsFullMessage() {
+        Message message = Message.builder()
+                .messageId("0f8c2b1e-5a4d-4c3b-9e2f-1a2b3c4d5e6f")
+                .type(MessageType.TALK)
+                .roomId(42L)
+                .senderId(7L)
+                .senderName("제주여행자")
+                .content("내일 오름 같이 가실 분 🙌")
+                .image("https://example.com/a.png")
+                .senderProfileImage("https://example.com/p.png")
+                .sendAt(LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_456_789))
+                .build();
+
+        Message restored = serializer.deserialize(serializer.serialize(message));
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("null 필드는 비워 둔 채로 복원한다")
+    void roundTripsSparseMessage() {
+        Message message = Message.builder()
+                .messageId("m-1")
+                .type(MessageType.ENTER)
+                .roomId(1L)
+                .sendAt(LocalDateTime.of(2026, 10, 1, 9, 30))
+                .build();
+
+        Message restored = serializer.deserialize(serializer.serialize(message));
+
+        assertThat(restored).usingRecursiveComparison().isEqualTo(message);
+        assertThat(restored.getContent()).isNull();
+        assertThat(restored.getSenderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("127 바이트를 넘는 문자열도 varint 길이로 복원한다")
+    void roundTripsLongContent() {
+        String content = "가".repeat(1000);
+        Message message = Message.builder().messageId("m-1").content(content).build();
+
+        assertThat(serializer.deserialize(serializer.serialize(message)).getContent()).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식도 읽는다")
+    void readsLegacyJson() {
+        byte[] json = """
+                {"messageId":"m-legacy","type":"TALK","roomId":3,"senderId":5,"content":"예전 메시지",
+                 "sendAt":"2026-09-30T23:59:59","unknownField":true}
+                """.trim().getBytes(StandardCharsets.UTF_8);
+
+        Message restored = serializer.deserialize(json);
+
+        assertThat(restored.getMessageId()).isEqualTo("m-legacy");
+        assertThat(restored.getType()).isEqualTo(MessageType.TALK);
+        assertThat(restored.getRoomId()).isEqualTo(3L);
+        assertThat(restored.getSendAt()).isEqualTo(LocalDateTime.of(2026, 9, 30, 23, 59, 59));
+    }
+
+    @Test
+    @DisplayName("null 과 빈 배열은 서로 대응한다")
+    void nullAndEmpty() {
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전이나 잘린 payload 는 SerializationException")
+    void rejectsCorruptPayload() {
+        byte[] valid = serializer.serialize(Message.builder().messageId("m-1").content("내용").build());
+
+        assertThatThrownBy(() -> serializer.deserialize(new byte[]{9, 0, 0}))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.deserialize(Arrays.copyOf(valid, valid.length - 2)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("스크립트 결과용 serializer 는 깨진 항목을 null 로 돌려준다")
+    @SuppressWarnings("rawtypes")
+    void scriptResultsSkipCorruptEntries() {
+        // 실행기는 원소마다 이 serializer 를 부르므로 원소 단위로 확인 (raw 타입이라 반환값은 Object)
+        RedisSerializer results = serializer.scriptResults();
+        byte[] valid = serializer.serialize(Message.builder().messageId("m-1").build());
+
+        assertThat(results.deserialize(new byte[]{9, 0, 0})).isNull();
+        assertThat(results.deserialize(valid)).isInstanceOf(Message.class);
+    }
+}
@@ -0,0 +1,187 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.broker.ChatBroadcaster;
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
+import com.dataury.soloJ.domain.chat.repository.MessageRepository;
+import com.dataury.soloJ.domain.notification.service.ChatNotificationBatcher;
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * chat-unread-increment/reset/seed.lua 를 실제 Redis 에서 검증
+ */
+class ChatUnreadCounterServiceRedisTest extends RedisContainerTest {
+
+    private static final long ROOM_ID = 5L;
+
+    // 집계 기준 시각(현재 - 여유) 이전/이후에 보낸 메시지
+    private final LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+    private final LocalDateTime after = LocalDateTime.now().plusMinutes(1);
+
+    private final MessageRepository messageRepository = mock(MessageRepository.class);
+    private final ChatMessageRedisSerializer serializer = new ChatMessageRedisSerializer();
+    private ChatUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new ChatUnreadCounterService(
+                redisTemplate,
+                messageRepository,
+                redisConfig.chatUnreadIncrementScript(),
+                redisConfig.chatUnreadResetScript(),
+                redisConfig.chatUnreadSeedScript(),
+                serializer);
+        ReflectionTestUtils.setField(counterService, "seedMarginMs", 5000L);
+        when(messageRepository.findActiveRoomReadMarkers(anyLong())).thenReturn(List.of());
+        when(messageRepository.countUnreadByRoomForUser(anyLong(), any(), anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("수신자별로 방 카운터를 올리고 합계에는 표시용 필드를 넣지 않는다")
+    void incrementsPerReceiver() {
+        seed(1L, 2L);
+
+        counterService.increment(ROOM_ID, "m-1", List.of(1L, 2L), after);
+        counterService.increment(ROOM_ID, "m-2", List.of(1L), after.plusSeconds(1));
+        counterService.increment(6L, "m-3", List.of(1L), after);
+        counterService.reset(1L, 6L, after.plusMinutes(1));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID, 6L, 7L)))
+                .containsExactly(Map.entry(ROOM_ID, 2L), Map.entry(6L, 0L), Map.entry(7L, 0L));
+        assertThat(counterService.getCounts(2L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 1L);
+        assertThat(counterService.getTotalCount(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("읽음 처리보다 먼저 보낸 메시지의 늦은 +1 은 무시한다")
+    void ignoresIncrementOlderThanRead() {
+        seed(1L);
+        counterService.reset(1L, ROOM_ID, after);
+
+        counterService.increment(ROOM_ID, "m-1", List.of(1L), after.minusSeconds(1));
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 0L);
+
+        counterService.increment(ROOM_ID, "m-2", List.of(1L), after);
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀌어 늦게 도착한 예전 읽음 처리는 무시한다")
+    void ignoresStaleReset() {
+        seed(1L);
+        counterService.reset(1L, ROOM_ID, after);
+        counterService.increment(ROOM_ID, "m-1", List.of(1L), after.plusMinutes(1));
+
+        counterService.reset(1L, ROOM_ID, after.minusMinutes(1));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 1L);
+    }
+
+    @Test
+    @DisplayName("채우기 전에 받고 MySQL 에 반영된 메시지는 한 번만 센다")
+    void messageFlushedBeforeSeedIsCountedOnce() {
+        // 목록을 처음 열기 전에 도착 → 5초 뒤 flush 로 MySQL 집계에도 포함
+        counterService.increment(ROOM_ID, "m-1", List.of(1L), before);
+        when(messageRepository.countUnreadByRoomForUser(eq(1L), any(), anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{ROOM_ID, 1L}));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 1L);
+        assertThat(redisTemplate.hasKey("chat:unread:1:pending")).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 보냈지만 채우기 전에 도착한 메시지는 채울 때 더한다")
+    void pendingAfterCutoffIsApplied() {
+        counterService.increment(ROOM_ID, "m-1", List.of(1L), after);
+        when(messageRepository.countUnreadByRoomForUser(eq(1L), any(), anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{ROOM_ID, 2L}));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 3L);
+
+        // 채운 뒤에는 기준 시각 이후 메시지만 바로 반영
+        counterService.increment(ROOM_ID, "m-2", List.of(1L), before);
+        counterService.increment(ROOM_ID, "m-3", List.of(1L), after.plusSeconds(1));
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 4L);
+    }
+
+    @Test
+    @DisplayName("미반영 Redis 메시지를 더하고 MySQL 집계에서는 그 messageId 를 뺀다")
+    void countsUnflushedMessagesAndExcludesThemFromMySql() {
+        MessageCommandService messageCommandService = new MessageCommandService(
+                redisTemplate,
+                mock(ChatRoomRepository.class),
+                mock(ChatBroadcaster.class),
+                mock(JoinChatRepository.class),
+                mock(UserRepository.class),
+                mock(ChatNotificationBatcher.class),
+                counterService,
+                redisConfig.chatMessageSaveScript(),
+                serializer);
+        messageCommandService.saveMessageToRedis(message("u-1", 10L, before.plusMinutes(1)));
+        messageCommandService.saveMessageToRedis(message("u-2", 1L, before.plusMinutes(1)));   // 본인 메시지
+        messageCommandService.saveMessageToRedis(message("u-3", 10L, before));                 // 읽은 시각 이전
+
+        when(messageRepository.findActiveRoomReadMarkers(1L))
+                .thenReturn(Collections.singletonList(new Object[]{ROOM_ID, before.plusSeconds(30)}));
+        when(messageRepository.countUnreadByRoomForUser(eq(1L), any(), anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{ROOM_ID, 2L}));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 3L);
+        verify(messageRepository).countUnreadByRoomForUser(eq(1L), any(),
+                argThat(ids -> ids.containsAll(List.of("u-1", "u-2", "u-3"))));
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 한 번만 채우고, 채우기 전 방 카운트는 집계 값으로 덮어쓴다")
+    void seedsOnceAndOverwritesStaleCounts() {
+        // 이전 방식에서 채우기 전에 올라간 카운트
+        redisTemplate.opsForHash().put("chat:unread:1", String.valueOf(ROOM_ID), 7);
+        when(messageRepository.countUnreadByRoomForUser(eq(1L), any(), anyCollection()))
+                .thenReturn(Collections.singletonList(new Object[]{ROOM_ID, 3L}));
+
+        assertThat(counterService.getCounts(1L, List.of(ROOM_ID))).containsEntry(ROOM_ID, 3L);
+        assertThat(counterService.getTotalCount(1L)).isEqualTo(3L);
+        verify(messageRepository, times(1)).countUnreadByRoomForUser(eq(1L), any(), anyCollection());
+    }
+
+    private void seed(Long... userIds) {
+        for (Long userId : userIds) {
+            counterService.getTotalCount(userId);
+        }
+    }
+
+    private Message message(String messageId, Long senderId, LocalDateTime sendAt) {
+        return Message.builder()
+                .messageId(messageId)
+                .type(MessageType.TALK)
+                .roomId(ROOM_ID)
+                .senderId(senderId)
+                .senderName("보낸사람")
+                .content("내용")
+                .sendAt(sendAt)
+                .build();
+    }
+}
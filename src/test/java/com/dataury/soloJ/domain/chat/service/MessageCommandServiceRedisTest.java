@@ -0,0 +1,130 @@
+package com.dataury.soloJ.domain.chat.service;
+
+import com.dataury.soloJ.domain.chat.broker.ChatBroadcaster;
+import com.dataury.soloJ.domain.chat.entity.Message;
+import com.dataury.soloJ.domain.chat.entity.status.MessageType;
+import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
+import com.dataury.soloJ.domain.notification.service.ChatNotificationBatcher;
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * chat-message-save.lua / chat-message-window.lua 를 실제 Redis 에서 검증
+ */
+class MessageCommandServiceRedisTest extends RedisContainerTest {
+
+    private static final long ROOM_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    private final ChatMessageRedisSerializer serializer = new ChatMessageRedisSerializer();
+    private MessageCommandService messageCommandService;
+
+    @BeforeEach
+    void setUp() {
+        messageCommandService = new MessageCommandService(
+                redisTemplate,
+                mock(ChatRoomRepository.class),
+                mock(ChatBroadcaster.class),
+                mock(JoinChatRepository.class),
+                mock(UserRepository.class),
+                mock(ChatNotificationBatcher.class),
+                mock(ChatUnreadCounterService.class),
+                redisConfig.chatMessageSaveScript(),
+                serializer);
+    }
+
+    @Test
+    @DisplayName("같은 messageId 는 한 번만 저장하고 최신 메시지/TTL/dirty 를 함께 갱신한다")
+    void saveIsIdempotentPerMessageId() {
+        Message message = message("m-1", BASE, "안녕하세요");
+
+        messageCommandService.saveMessageToRedis(message);
+        messageCommandService.saveMessageToRedis(message);
+
+        assertThat(redisTemplate.opsForZSet().zCard(windowKey())).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().size(payloadsKey())).isEqualTo(1L);
+        assertThat(redisTemplate.opsForZSet().zCard(unflushedKey())).isEqualTo(1L);
+        assertThat(redisTemplate.opsForValue().get("chatroom:1:latestMessage")).isEqualTo("안녕하세요");
+        assertThat(redisTemplate.getExpire(windowKey())).isPositive();
+        assertThat(redisTemplate.getExpire("chatroom:1:messageIds")).isPositive();
+        assertThat(redisTemplate.opsForSet().isMember("chatroom:dirty", ROOM_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("messageId 가 없으면 저장하지 않는다")
+    void skipsMessageWithoutId() {
+        messageCommandService.saveMessageToRedis(message(null, BASE, "내용"));
+
+        assertThat(redisTemplate.hasKey(windowKey())).isFalse();
+        assertThat(redisTemplate.hasKey("chatroom:dirty")).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 개수를 넘으면 오래된 메시지를 밀어내고 미반영 payload 는 overflow 로 옮긴다")
+    void trimMovesUnflushedPayloadToOverflow() {
+        for (int i = 0; i <= 200; i++) {
+            messageCommandService.saveMessageToRedis(message("m-" + i, BASE.plusSeconds(i), "내용 " + i));
+        }
+
+        assertThat(redisTemplate.opsForZSet().zCard(windowKey())).isEqualTo(200L);
+        assertThat(redisTemplate.opsForZSet().score(windowKey(), "m-0")).isNull();
+        assertThat(hasScriptField(payloadsKey(), "m-0")).isFalse();
+        assertThat(hasScriptField("chatroom:1:overflow", "m-0")).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard(unflushedKey())).isEqualTo(201L);
+    }
+
+    @Test
+    @DisplayName("window 조회는 커서 이전 구간을 최신순으로 잘라 온다")
+    void windowSeeksBeforeCursorNewestFirst() {
+        for (int i = 0; i < 5; i++) {
+            messageCommandService.saveMessageToRedis(message("m-" + i, BASE.plusMinutes(i), "내용 " + i));
+        }
+
+        List<?> page = redisTemplate.execute(
+                redisConfig.chatMessageWindowScript(),
+                redisTemplate.getValueSerializer(),
+                serializer.scriptResults(),
+                List.of(windowKey(), payloadsKey()),
+                MessageCommandService.toWindowScore(BASE.plusMinutes(3)),
+                0L,
+                2);
+
+        List<Message> messages = page.stream().map(Message.class::cast).toList();
+        assertThat(messages).extracting(Message::getMessageId).containsExactly("m-2", "m-1");
+        assertThat(messages.get(0).getSendAt()).isEqualTo(BASE.plusMinutes(2));
+    }
+
+    private Message message(String messageId, LocalDateTime sendAt, String content) {
+        return Message.builder()
+                .messageId(messageId)
+                .type(MessageType.TALK)
+                .roomId(ROOM_ID)
+                .senderId(10L)
+                .senderName("보낸사람")
+                .content(content)
+                .sendAt(sendAt)
+                .build();
+    }
+
+    private String windowKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_WINDOW_KEY, ROOM_ID);
+    }
+
+    private String payloadsKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_PAYLOADS_KEY, ROOM_ID);
+    }
+
+    private String unflushedKey() {
+        return String.format(MessageCommandService.CHAT_ROOM_UNFLUSHED_KEY, ROOM_ID);
+    }
+}
@@ -0,0 +1,154 @@
+package com.dataury.soloJ.domain.community.service;
+
+import com.dataury.soloJ.domain.community.dto.PostResponseDto;
+import com.dataury.soloJ.domain.community.entity.Comment;
+import com.dataury.soloJ.domain.community.entity.Post;
+import com.dataury.soloJ.domain.community.entity.status.PostCategory;
+import com.dataury.soloJ.domain.user.entity.User;
+import com.dataury.soloJ.domain.user.entity.UserProfile;
+import com.dataury.soloJ.domain.user.entity.status.Gender;
+import com.dataury.soloJ.domain.user.entity.status.Role;
+import com.dataury.soloJ.global.config.QueryDSLConfig;
+import com.dataury.soloJ.global.dto.CursorPageResponse;
+import com.dataury.soloJ.global.security.UserPenaltyChecker;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 쿼리 수 고정 - 행마다 프로필/댓글 수/스크랩 수를 따로 조회하지 않는지 확인
+ * (페이지 크기와 관계없이 목록 1 + 필요 시 count 1)
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDSLConfig.class, PostService.class})
+@Testcontainers(disabledWithoutDocker = true)
+class PostServiceQueryCountTest {
+
+    private static final int POSTS = 25;
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @MockBean
+    private UserPenaltyChecker userPenaltyChecker;
+
+    @MockBean
+    private CommunitySearchIndexInitializer communitySearchIndexInitializer;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostService postService;
+
+    private Statistics statistics;
+    private Long commenterId;
+
+    @BeforeEach
+    void setUp() {
+        User author = persistUser("author");
+        User commenter = persistUser("commenter");
+        commenterId = commenter.getId();
+
+        for (int i = 0; i < POSTS; i++) {
+            Post post = entityManager.persist(Post.builder()
+                    .title("제목 " + i)
+                    .content("본문 " + i)
+                    .postCategory(PostCategory.SOLO_TIP)
+                    .user(author)
+                    .build());
+            entityManager.persist(Comment.builder().content("댓글 " + i).user(commenter).post(post).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("커서 목록은 작성자 프로필과 카운트를 포함해 쿼리 1번")
+    void cursorListIsOneStatement() {
+        CursorPageResponse<PostResponseDto.PostListItemDto> page =
+                postService.getPostListByCursor(PostCategory.SOLO_TIP, null, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getContent()).allSatisfy(item -> {
+            assertThat(item.getAuthorNickname()).isEqualTo("author");
+            assertThat(item.getCommentCount()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 목록은 목록 + count 쿼리 2번")
+    void pagedListIsTwoStatements() {
+        Page<PostResponseDto.PostListItemDto> page = postService.getPostList(null, PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(POSTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내가 댓글 단 게시글은 정렬 키 + 행 조회 2번")
+    void commentedPostsAreTwoStatements() {
+        CursorPageResponse<PostResponseDto.PostListItemDto> page =
+                postService.getPostsWithMyCommentsByCursor(commenterId, null, PAGE_SIZE);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private User persistUser(String name) {
+        User user = entityManager.persist(User.builder()
+                .email(name + "@example.com")
+                .password("password")
+                .name(name)
+                .role(Role.USER)
+                .build());
+        entityManager.persist(UserProfile.builder()
+                .nickName(name)
+                .birthDate(LocalDate.of(1995, 1, 1))
+                .gender(Gender.FEMALE)
+                .user(user)
+                .build());
+        return user;
+    }
+}
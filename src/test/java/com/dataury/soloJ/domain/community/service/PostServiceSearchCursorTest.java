@@ -0,0 +1,114 @@
+package com.dataury.soloJ.domain.community.service;
+
+import com.dataury.soloJ.domain.chat.repository.ChatRoomRepository;
+import com.dataury.soloJ.domain.chat.repository.JoinChatRepository;
+import com.dataury.soloJ.domain.community.dto.PostResponseDto;
+import com.dataury.soloJ.domain.community.repository.CommentRepository;
+import com.dataury.soloJ.domain.community.repository.PostRepository;
+import com.dataury.soloJ.domain.community.repository.ScrapRepository;
+import com.dataury.soloJ.domain.user.repository.UserProfileRepository;
+import com.dataury.soloJ.domain.user.repository.UserRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.dto.CursorPageResponse;
+import com.dataury.soloJ.global.exception.GeneralException;
+import com.dataury.soloJ.global.pagination.KeysetCursor;
+import com.dataury.soloJ.global.pagination.ScoreCursor;
+import com.dataury.soloJ.global.security.UserPenaltyChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 검색 커서 - 관련도 순(FULLTEXT)과 최신순(LIKE) 커서가 섞이지 않는지
+ */
+class PostServiceSearchCursorTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommunitySearchIndexInitializer searchIndex = mock(CommunitySearchIndexInitializer.class);
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postService = new PostService(
+                postRepository,
+                mock(CommentRepository.class),
+                mock(ScrapRepository.class),
+                mock(UserRepository.class),
+                mock(UserProfileRepository.class),
+                mock(UserPenaltyChecker.class),
+                mock(ChatRoomRepository.class),
+                mock(JoinChatRepository.class),
+                searchIndex);
+        ReflectionTestUtils.setField(postService, "commentWeight", 0.5);
+    }
+
+    @Test
+    @DisplayName("인덱스가 준비되면 구문 검색으로 조회하고 다음 커서는 (점수, id)")
+    void fullTextSearchReturnsScoreCursor() {
+        when(searchIndex.isAvailable()).thenReturn(true);
+        when(postRepository.searchFullTextByCursor(eq("\"제주 오름\""), eq(0.5), isNull(), any()))
+                .thenReturn(List.of(
+                        new Object[]{3L, new BigDecimal("2.500000")},
+                        new Object[]{9L, new BigDecimal("1.250000")},
+                        new Object[]{4L, new BigDecimal("0.750000")}));
+
+        CursorPageResponse<PostResponseDto.PostListItemDto> page =
+                postService.searchPostsByCursor("  제주   \"오름\" ", null, 2);
+
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(ScoreCursor.isScoreCursor(page.getNextCursor())).isTrue();
+        assertThat(ScoreCursor.decode(page.getNextCursor())).isEqualTo(new ScoreCursor(new BigDecimal("1.250000"), 9L));
+        verify(postRepository).findListRowsByIds(List.of(3L, 9L));
+    }
+
+    @Test
+    @DisplayName("관련도 순 검색에 최신순 커서가 들어오면 INVALID_CURSOR")
+    void rejectsKeysetCursorInFullTextMode() {
+        when(searchIndex.isAvailable()).thenReturn(true);
+        String keysetCursor = new KeysetCursor(LocalDateTime.of(2026, 10, 1, 9, 0), 5L).encode();
+
+        assertThatThrownBy(() -> postService.searchPostsByCursor("제주", keysetCursor, 20))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus.INVALID_CURSOR);
+        verify(postRepository, never()).searchFullTextByCursor(anyString(), anyDouble(), any(), any());
+    }
+
+    @Test
+    @DisplayName("LIKE 검색으로 바뀐 뒤 관련도 커서가 들어오면 INVALID_CURSOR")
+    void rejectsScoreCursorInLikeMode() {
+        when(searchIndex.isAvailable()).thenReturn(false);
+        String scoreCursor = new ScoreCursor(new BigDecimal("1.5"), 5L).encode();
+
+        assertThatThrownBy(() -> postService.searchPostsByCursor("제주", scoreCursor, 20))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus.INVALID_CURSOR);
+    }
+
+    @Test
+    @DisplayName("두 글자 미만 검색어는 인덱스가 있어도 LIKE 로 조회")
+    void shortKeywordFallsBackToLike() {
+        when(searchIndex.isAvailable()).thenReturn(true);
+
+        postService.searchPostsByCursor("제", null, 20);
+
+        verify(postRepository).findListRowsByCursor(isNull(), isNull(), eq("제"), isNull(), eq(21));
+        verify(postRepository, never()).searchFullTextByCursor(anyString(), anyDouble(), any(), any());
+    }
+}
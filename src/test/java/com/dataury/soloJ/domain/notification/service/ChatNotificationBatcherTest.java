@@ -0,0 +1,119 @@
+package com.dataury.soloJ.domain.notification.service;
+
+import com.dataury.soloJ.domain.notification.entity.status.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChatNotificationBatcherTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private FCMService fcmService;
+    private PlatformTransactionManager transactionManager;
+    private ChatNotificationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        fcmService = mock(FCMService.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        batcher = new ChatNotificationBatcher(jdbcTemplate, fcmService, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("같은 (수신자, 채팅방) 알림은 한 건으로 합치고 같은 문구의 푸시는 한 번에 멀티캐스트한다")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void coalescesPerReceiverAndRoom() {
+        batcher.enqueue(1L, "token-1", "철수", 100L);
+        batcher.enqueue(1L, "token-1", "영희", 100L);
+        batcher.enqueue(2L, "token-2", "영희", 100L);
+        batcher.enqueue(3L, null, "영희", 100L);
+
+        batcher.flush();
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(500), any());
+        assertThat(rows.getValue()).hasSize(3);
+
+        verify(fcmService).sendMultiplePushNotifications(
+                eq(List.of("token-1", "token-2")),
+                eq(NotificationService.getNotificationTitle(Type.MESSAGE)),
+                eq(NotificationService.buildChatMessage("영희")),
+                eq(Map.of("resourceType", "CHAT", "resourceId", "100")));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("insert 가 실패하면 푸시를 보내지 않는다")
+    void skipsPushWhenInsertFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), eq(500), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        batcher.enqueue(1L, "token-1", "철수", 100L);
+
+        assertThatThrownBy(batcher::flush).isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(fcmService, never()).sendMultiplePushNotifications(any(), anyString(), anyString(), anyMap());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("insert 가 실패한 알림은 버리지 않고 다음 flush 에서 새로 쌓인 알림과 합쳐 다시 보낸다")
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    void requeuesSnapshotWhenInsertFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), eq(500), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[][]{{1, 1}});
+        batcher.enqueue(1L, "token-1", "철수", 100L);
+        batcher.enqueue(2L, "token-2", "철수", 100L);
+        assertThatThrownBy(batcher::flush).isInstanceOf(DataAccessResourceFailureException.class);
+
+        // 실패 후 같은 (수신자, 채팅방) 에 새 알림 → 새 발신자로 합쳐짐
+        batcher.enqueue(2L, "token-2", "영희", 100L);
+        batcher.flush();
+
+        ArgumentCaptor<Collection> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), rows.capture(), eq(500), any());
+        assertThat(rows.getAllValues().get(1)).hasSize(2);
+
+        verify(fcmService).sendMultiplePushNotifications(
+                eq(List.of("token-1")), anyString(), eq(NotificationService.buildChatMessage("철수")), anyMap());
+        verify(fcmService).sendMultiplePushNotifications(
+                eq(List.of("token-2")), anyString(), eq(NotificationService.buildChatMessage("영희")), anyMap());
+
+        // 보낸 뒤에는 다시 보내지 않음
+        batcher.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(Collection.class), eq(500), any());
+    }
+
+    @Test
+    @DisplayName("쌓인 알림이 없으면 아무것도 하지 않는다")
+    void emptyFlushIsNoop() {
+        batcher.flush();
+
+        verifyNoInteractions(jdbcTemplate, fcmService, transactionManager);
+    }
+}
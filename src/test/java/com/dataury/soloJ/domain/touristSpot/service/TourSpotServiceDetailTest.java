@@ -0,0 +1,151 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.chat.service.OpenChatRoomIndex;
+import com.dataury.soloJ.domain.review.repository.ReviewRepository;
+import com.dataury.soloJ.domain.review.service.SpotReviewStatsService;
+import com.dataury.soloJ.domain.touristSpot.dto.TourApiResponse;
+import com.dataury.soloJ.domain.touristSpot.dto.TourSpotResponse;
+import com.dataury.soloJ.domain.touristSpot.entity.TouristSpot;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotReviewTagRepository;
+import com.dataury.soloJ.global.code.status.ErrorStatus;
+import com.dataury.soloJ.global.exception.GeneralException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관광지 상세 병렬 조회 - 하위 호출별 타임아웃/부분 응답/포화 시 거절
+ */
+class TourSpotServiceDetailTest {
+
+    private static final long CONTENT_ID = 126508L;
+    private static final long CONTENT_TYPE_ID = 12L;
+
+    private final TourApiService tourApiService = mock(TourApiService.class);
+    private final TouristSpotRepository touristSpotRepository = mock(TouristSpotRepository.class);
+    private final TouristSpotReviewTagRepository tagRepository = mock(TouristSpotReviewTagRepository.class);
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TourSpotService tourSpotService;
+
+    @BeforeEach
+    void setUp() {
+        tourSpotService = new TourSpotService(
+                tourApiService,
+                touristSpotRepository,
+                tagRepository,
+                mock(OpenChatRoomIndex.class),
+                reviewRepository,
+                mock(SpotReviewStatsService.class),
+                meterRegistry,
+                mock(SpotNameResolver.class));
+        ReflectionTestUtils.setField(tourSpotService, "detailPoolSize", 8);
+        ReflectionTestUtils.setField(tourSpotService, "basicTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(tourSpotService, "partTimeoutMs", 200L);
+        tourSpotService.initDetailExecutor();
+
+        when(touristSpotRepository.findByContentId(CONTENT_ID))
+                .thenReturn(Optional.of(TouristSpot.builder().contentId(CONTENT_ID).name("성산일출봉").build()));
+        when(tourApiService.fetchTouristSpotDetailCommon(CONTENT_ID)).thenReturn(List.of(commonItem()));
+        when(tourApiService.fetchDetailIntroAsMap(CONTENT_ID, CONTENT_TYPE_ID)).thenReturn(Map.of("usetime", "상시"));
+        when(tagRepository.findAllByTouristSpotContentId(CONTENT_ID)).thenReturn(List.of());
+        when(reviewRepository.findAverageRatingByTouristSpotContentId(CONTENT_ID)).thenReturn(4.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tourSpotService.shutdownDetailExecutor();
+    }
+
+    @Test
+    @DisplayName("느린 하위 호출은 타임아웃 후 빈 값으로 응답하고 작업을 인터럽트한다")
+    void slowPartFallsBackAndIsCancelled() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(tourApiService.fetchDetailInfo(CONTENT_ID, CONTENT_TYPE_ID)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of(Map.of("infoname", "늦은 응답"));
+        });
+
+        long startedAt = System.nanoTime();
+        TourSpotResponse.TourSpotDetailWrapper detail = tourSpotService.getTourSpotDetailFull(CONTENT_ID, CONTENT_TYPE_ID);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMs).isLessThan(2000);
+        assertThat(detail.getBasic().getTitle()).isEqualTo("성산일출봉");
+        assertThat(detail.getIntro()).containsEntry("usetime", "상시");
+        assertThat(detail.getInfo()).isEmpty();
+        assertThat(detail.getAverageRating()).isEqualTo(4.5);
+        assertThat(meterRegistry.get("tourspot.detail.fallback").tag("part", "info").counter().count()).isEqualTo(1.0);
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기본 정보가 비어 있으면 TOUR_API_FAIL")
+    void missingBasicFails() {
+        when(tourApiService.fetchTouristSpotDetailCommon(CONTENT_ID)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> tourSpotService.getTourSpotDetailFull(CONTENT_ID, CONTENT_TYPE_ID))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus.TOUR_API_FAIL);
+    }
+
+    @Test
+    @DisplayName("풀이 가득 차면 호출 스레드에서 실행하지 않고 바로 실패한다")
+    void saturatedPoolRejectsInsteadOfRunningOnCaller() throws Exception {
+        tourSpotService.shutdownDetailExecutor();
+        ReflectionTestUtils.setField(tourSpotService, "detailPoolSize", 1);
+        tourSpotService.initDetailExecutor();
+
+        // 첫 요청의 기본 정보 조회가 유일한 워커를 잡고, 나머지 4건이 큐(1 * 4)를 채움
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        when(tourApiService.fetchTouristSpotDetailCommon(CONTENT_ID)).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(commonItem());
+        });
+        CompletableFuture<TourSpotResponse.TourSpotDetailWrapper> first = CompletableFuture.supplyAsync(
+                () -> tourSpotService.getTourSpotDetailFull(CONTENT_ID, CONTENT_TYPE_ID));
+        assertThat(running.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> tourSpotService.getTourSpotDetailFull(CONTENT_ID, CONTENT_TYPE_ID))
+                .isInstanceOf(GeneralException.class)
+                .extracting("code").isEqualTo(ErrorStatus.TOUR_API_FAIL);
+        verify(tourApiService, times(1)).fetchTouristSpotDetailCommon(anyLong());
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getBasic()).isNotNull();
+    }
+
+    private static TourApiResponse.Item commonItem() {
+        TourApiResponse.Item item = new TourApiResponse.Item();
+        item.setContentid(String.valueOf(CONTENT_ID));
+        item.setContenttypeid(String.valueOf(CONTENT_TYPE_ID));
+        item.setTitle("성산일출봉");
+        return item;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.dto.BatchJobResponse;
+import com.dataury.soloJ.domain.touristSpot.service.TourSpotSyncService.Mode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미러 동기화 전체/변경분 선택
+ */
+class TourSpotSyncServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+    private static final int MAX_DELTA_DAYS = 7;
+
+    @Test
+    @DisplayName("끝나지 않은 전체 재적재가 있으면 미러 상태와 관계없이 이어서 진행")
+    void resumesUnfinishedFullSync() {
+        assertThat(select(job(BatchJobResponse.Status.RUNNING), "20261016120000")).isEqualTo(Mode.RESUME_FULL);
+        assertThat(select(job(BatchJobResponse.Status.FAILED), "20261016120000")).isEqualTo(Mode.RESUME_FULL);
+        assertThat(select(job(BatchJobResponse.Status.FAILED), null)).isEqualTo(Mode.RESUME_FULL);
+    }
+
+    @Test
+    @DisplayName("전체 재적재 기록이 없으면 전체")
+    void fullWithoutHistory() {
+        assertThat(select(null, "20261016120000")).isEqualTo(Mode.FULL);
+    }
+
+    @Test
+    @DisplayName("미러가 비어 있거나 수정 시각을 읽을 수 없으면 전체")
+    void fullWhenMirrorIsEmpty() {
+        BatchJobResponse completed = job(BatchJobResponse.Status.COMPLETED);
+
+        assertThat(select(completed, null)).isEqualTo(Mode.FULL);
+        assertThat(select(completed, "2026")).isEqualTo(Mode.FULL);
+    }
+
+    @Test
+    @DisplayName("마지막 반영일이 maxDeltaDays 보다 오래되면 전체, 경계일까지는 변경분")
+    void fullWhenDeltaWindowIsTooOld() {
+        BatchJobResponse completed = job(BatchJobResponse.Status.COMPLETED);
+
+        assertThat(select(completed, "20261009235959")).isEqualTo(Mode.FULL);
+        assertThat(select(completed, "20261010000000")).isEqualTo(Mode.DELTA);
+    }
+
+    @Test
+    @DisplayName("완료된 전체 재적재 이후 최근 변경만 있으면 변경분")
+    void deltaAfterCompletedFullSync() {
+        assertThat(select(job(BatchJobResponse.Status.COMPLETED), "20261017083000")).isEqualTo(Mode.DELTA);
+    }
+
+    private static Mode select(BatchJobResponse lastFullSync, String lastModified) {
+        return TourSpotSyncService.selectMode(lastFullSync, lastModified, TODAY, MAX_DELTA_DAYS);
+    }
+
+    private static BatchJobResponse job(BatchJobResponse.Status status) {
+        return BatchJobResponse.builder()
+                .jobId("job-1")
+                .jobName("tourSpotFullSync")
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.dataury.soloJ.domain.touristSpot.service;
+
+import com.dataury.soloJ.domain.touristSpot.repository.BatchJobRepository;
+import com.dataury.soloJ.domain.touristSpot.repository.TouristSpotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주변 관광지 공간 인덱스 - 미러 전체 동기화가 끝나기 전에는 제주도 TourAPI 로 넘기는지
+ */
+class TouristSpotGeoIndexTest {
+
+    private static final double JEJU_LAT = 33.4996;
+    private static final double JEJU_LNG = 126.5312;
+
+    private final TouristSpotRepository touristSpotRepository = mock(TouristSpotRepository.class);
+    private final BatchJobRepository batchJobRepository = mock(BatchJobRepository.class);
+    private TouristSpotGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 매 조회마다 batch_job 을 다시 확인하도록 간격 0
+        TourSpotMirrorStatus mirrorStatus = new TourSpotMirrorStatus(batchJobRepository);
+        geoIndex = new TouristSpotGeoIndex(touristSpotRepository, mirrorStatus);
+        ReflectionTestUtils.setField(geoIndex, "cellDegrees", 0.01);
+        ReflectionTestUtils.setField(geoIndex, "minLat", 33.0);
+        ReflectionTestUtils.setField(geoIndex, "maxLat", 34.1);
+        ReflectionTestUtils.setField(geoIndex, "minLng", 126.0);
+        ReflectionTestUtils.setField(geoIndex, "maxLng", 127.0);
+        when(touristSpotRepository.findGeoSpots(any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("전체 동기화 완료 기록이 없으면 적재 후에도 제주를 담당하지 않는다")
+    void doesNotCoverBeforeFullSyncCompletes() {
+        when(batchJobRepository.existsCompleted(anyString())).thenReturn(false);
+
+        geoIndex.loadOnStartup();
+
+        assertThat(geoIndex.covers(JEJU_LAT, JEJU_LNG)).isFalse();
+    }
+
+    @Test
+    @DisplayName("완료를 확인한 뒤 다시 적재해야 담당하고, 범위 밖은 계속 TourAPI")
+    void coversAfterReloadFollowingCompletion() {
+        when(batchJobRepository.existsCompleted(anyString())).thenReturn(false, true);
+
+        geoIndex.loadOnStartup();
+        assertThat(geoIndex.covers(JEJU_LAT, JEJU_LNG)).isFalse();
+
+        geoIndex.refresh();
+        assertThat(geoIndex.covers(JEJU_LAT, JEJU_LNG)).isTrue();
+        assertThat(geoIndex.covers(37.5665, 126.9780)).isFalse();
+    }
+}
@@ -0,0 +1,57 @@
+package com.dataury.soloJ.global.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 10, 1, 9, 30, 15, 123_000_000);
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 복원한다 (최신순/오래된 순 모두)")
+    void roundTrips() {
+        String encoded = new KeysetCursor(CREATED_AT, 42L).encode();
+
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(new KeysetCursor(CREATED_AT, 42L));
+        assertThat(KeysetCursor.decodeAscending(encoded)).isEqualTo(new KeysetCursor(CREATED_AT, 42L));
+        assertThat(KeysetCursor.isLegacy(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비어 있거나 형식이 맞지 않으면 첫 페이지(null)")
+    void invalidCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+        assertThat(KeysetCursor.decode("not base64!")).isNull();
+        assertThat(KeysetCursor.decode(base64("2026-10-01T09:30|abc"))).isNull();
+        assertThat(KeysetCursor.decode(base64("yesterday|1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("예전 형식(createdAt 만)은 방향에 따라 경계 시각 행을 건너뛰는 id 로 읽는다")
+    void legacyCursorIdDependsOnDirection() {
+        String legacy = base64("2026-10-01T09:30:15.123");
+
+        assertThat(KeysetCursor.isLegacy(legacy)).isTrue();
+        assertThat(KeysetCursor.decode(legacy)).isEqualTo(new KeysetCursor(CREATED_AT, 0L));
+        assertThat(KeysetCursor.decodeAscending(legacy)).isEqualTo(new KeysetCursor(CREATED_AT, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 Base64 가 아닌 값은 예전 형식이 아니다")
+    void isLegacyIgnoresEmptyAndGarbage() {
+        assertThat(KeysetCursor.isLegacy(null)).isFalse();
+        assertThat(KeysetCursor.isLegacy("")).isFalse();
+        assertThat(KeysetCursor.isLegacy("not base64!")).isFalse();
+    }
+
+    private static String base64(String raw) {
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
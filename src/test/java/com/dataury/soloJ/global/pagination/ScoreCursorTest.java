@@ -0,0 +1,53 @@
+package com.dataury.soloJ.global.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreCursorTest {
+
+    @Test
+    @DisplayName("점수를 DECIMAL 그대로 (스케일까지) 복원한다")
+    void roundTripsExactScore() {
+        BigDecimal score = new BigDecimal("0.123456789012");
+        String encoded = new ScoreCursor(score, 42L).encode();
+
+        ScoreCursor decoded = ScoreCursor.decode(encoded);
+
+        assertThat(decoded).isEqualTo(new ScoreCursor(score, 42L));
+        assertThat(decoded.score().scale()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("지수 표기 없이 인코딩해 아주 작은 점수도 복원한다")
+    void roundTripsTinyScore() {
+        BigDecimal score = new BigDecimal("1E-10");
+
+        assertThat(ScoreCursor.decode(new ScoreCursor(score, 1L).encode()).score()).isEqualByComparingTo(score);
+    }
+
+    @Test
+    @DisplayName("키셋 커서와 서로 구분된다")
+    void distinguishesCursorTypes() {
+        String score = new ScoreCursor(new BigDecimal("1.5"), 7L).encode();
+        String keyset = new KeysetCursor(LocalDateTime.of(2026, 10, 1, 9, 30), 7L).encode();
+
+        assertThat(ScoreCursor.isScoreCursor(score)).isTrue();
+        assertThat(ScoreCursor.isScoreCursor(keyset)).isFalse();
+        assertThat(ScoreCursor.decode(keyset)).isNull();
+        assertThat(KeysetCursor.decode(score)).isNull();
+    }
+
+    @Test
+    @DisplayName("비어 있거나 형식이 맞지 않으면 첫 페이지(null)")
+    void invalidCursorMeansFirstPage() {
+        assertThat(ScoreCursor.decode(null)).isNull();
+        assertThat(ScoreCursor.decode("")).isNull();
+        assertThat(ScoreCursor.decode("not base64!")).isNull();
+        assertThat(ScoreCursor.isScoreCursor("not base64!")).isFalse();
+    }
+}
@@ -0,0 +1,105 @@
+package com.dataury.soloJ.global.security;
+
+import com.dataury.soloJ.domain.user.entity.User;
+import com.dataury.soloJ.domain.user.entity.status.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파서 재사용 + 검증된 클레임 캐시
+ */
+class TokenProviderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = tokenProvider(3600);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 클레임을 쓴다")
+    void verifiesOncePerToken() {
+        String token = tokenProvider.generateAccessToken(user(42L));
+
+        Claims first = tokenProvider.extractClaims("Bearer " + token);
+        Claims second = tokenProvider.extractClaims(token);
+
+        assertThat(tokenProvider.extractUserId(first)).isEqualTo(42L);
+        assertThat(first.get("role", String.class)).isEqualTo("USER");
+        assertThat(second).isSameAs(first);
+        assertThat(cacheGets("miss")).isEqualTo(1.0);
+        assertThat(cacheGets("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("서명은 같고 payload 만 바꾼 토큰은 캐시를 쓰지 않고 다시 검증해 거절한다")
+    void rejectsTamperedPayloadEvenWhenSignatureIsCached() {
+        String token = tokenProvider.generateAccessToken(user(42L));
+        tokenProvider.extractClaims(token);
+
+        String[] parts = token.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"userId\":42", "\"userId\":1");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThat(tokenProvider.isValidToken(tampered)).isFalse();
+        assertThatThrownBy(() -> tokenProvider.extractClaims(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(tokenProvider.isValidToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 클레임은 돌려주지만 유효하지 않고 캐시하지 않는다")
+    void expiredTokenIsNotCached() {
+        TokenProvider expiring = tokenProvider(-60);
+        String token = expiring.generateAccessToken(user(7L));
+
+        assertThat(expiring.extractUserId(expiring.extractClaims(token))).isEqualTo(7L);
+        assertThat(expiring.isValidToken(token)).isFalse();
+        assertThat(cacheGets("hit")).isZero();
+        assertThat(cacheGets("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Bearer 접두어가 붙은 토큰에서도 사용자 ID 를 꺼낸다")
+    void extractsUserIdFromBearerToken() {
+        String token = tokenProvider.generateAccessToken(user(9L));
+
+        assertThat(tokenProvider.extractUserIdFromToken("Bearer " + token)).isEqualTo(9L);
+        assertThat(tokenProvider.extractUserRoleFromToken(token)).isEqualTo("USER");
+    }
+
+    // 캐시 지표 이름이 같으므로 provider 마다 registry 를 새로 씀 (cacheGets 는 마지막으로 만든 provider 기준)
+    private TokenProvider tokenProvider(long accessTokenExpirationSeconds) {
+        meterRegistry = new SimpleMeterRegistry();
+        TokenProvider provider = new TokenProvider(meterRegistry);
+        ReflectionTestUtils.setField(provider, "secretString", "test-secret-key-for-hs256-must-be-32-bytes-long");
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", accessTokenExpirationSeconds);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 86400L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", 100L);
+        provider.init();
+        return provider;
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", result).functionCounter().count();
+    }
+
+    private static User user(Long id) {
+        return User.builder().id(id).role(Role.USER).build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.dataury.soloJ.support;
+
+import com.dataury.soloJ.global.config.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 실제 Redis 컨테이너에 붙는 테스트 공통 설정 (Lua 스크립트 검증용)
+ * - RedisTemplate 과 스크립트는 운영과 같은 RedisConfig 로 만듦
+ * - Docker 가 없으면 테스트 클래스 전체를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    protected static final RedisConfig redisConfig = new RedisConfig();
+    protected static LettuceConnectionFactory connectionFactory;
+    protected static RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    /**
+     * 채널 구독자 수 (PUBSUB NUMSUB) - 구독이 비동기로 등록되므로 발행 전에 기다리는 용도
+     */
+    protected static long channelSubscribers(String channel) throws Exception {
+        String[] lines = REDIS.execInContainer("redis-cli", "PUBSUB", "NUMSUB", channel).getStdout().trim().split("\\s+");
+        return Long.parseLong(lines[lines.length - 1]);
+    }
+
+    /**
+     * 스크립트 인자로 넘긴 값(messageId 등)을 field 로 쓰는 Hash 조회 - field 도 값 직렬화 방식으로 저장됨
+     */
+    protected static boolean hasScriptField(String key, Object field) {
+        byte[] rawField = redisTemplate.getValueSerializer().serialize(field);
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.hashCommands().hExists(key.getBytes(StandardCharsets.UTF_8), rawField)));
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}